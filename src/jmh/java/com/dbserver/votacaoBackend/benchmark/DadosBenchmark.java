@@ -0,0 +1,69 @@
+package com.dbserver.votacaoBackend.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.dbserver.votacaoBackend.domain.autenticacao.Autenticacao;
+import com.dbserver.votacaoBackend.domain.pauta.Pauta;
+import com.dbserver.votacaoBackend.domain.pauta.enums.Categoria;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.SessaoVotacao;
+import com.dbserver.votacaoBackend.domain.usuario.Cpf;
+import com.dbserver.votacaoBackend.domain.usuario.Usuario;
+
+final class DadosBenchmark {
+    static final String CPF_ADMIN = "12345678901";
+    static final String CPF_VOTANTE = "10987654321";
+    static final String EMAIL = "admin@votacao.com";
+    static final String SENHA = "senha-benchmark";
+
+    private DadosBenchmark() {
+    }
+
+    static Usuario usuarioAdmin(Long id) {
+        return Usuario.builder()
+                .id(id)
+                .nome("Administrador")
+                .sobrenome("Benchmark")
+                .cpf(Cpf.de(CPF_ADMIN))
+                .admin(true)
+                .build();
+    }
+
+    static Autenticacao autenticacaoAdmin() {
+        return Autenticacao.builder()
+                .id(1L)
+                .email(EMAIL)
+                .senha(SENHA)
+                .usuario(usuarioAdmin(1L))
+                .build();
+    }
+
+    static Pauta pauta(Long id, Usuario usuario) {
+        return Pauta.builder()
+                .id(id)
+                .assunto("Pauta de benchmark " + id)
+                .categoria(Categoria.TRANSPORTE)
+                .usuario(usuario)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    static List<Pauta> pautas(int quantidade) {
+        Usuario usuario = usuarioAdmin(1L);
+        List<Pauta> pautas = new ArrayList<>(quantidade);
+        for (long id = 1; id <= quantidade; id++)
+            pautas.add(pauta(id, usuario));
+        return pautas;
+    }
+
+    static SessaoVotacao sessaoVotacao() {
+        LocalDateTime dataAbertura = LocalDateTime.now().plusMinutes(1);
+        return SessaoVotacao.builder()
+                .id(1L)
+                .pauta(pauta(1L, usuarioAdmin(1L)))
+                .dataAbertura(dataAbertura)
+                .dataFechamento(dataAbertura.plusDays(1))
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.dbserver.votacaoBackend.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.dbserver.votacaoBackend.domain.pauta.Pauta;
+import com.dbserver.votacaoBackend.domain.pauta.dto.RespostaPautaDto;
+import com.dbserver.votacaoBackend.domain.pauta.mapper.PautaMapper;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PautaMapperBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    private int tamanhoLista;
+
+    private PautaMapper pautaMapper;
+
+    private List<Pauta> pautas;
+
+    @Setup
+    public void configurar() {
+        this.pautaMapper = Mappers.getMapper(PautaMapper.class);
+        this.pautas = DadosBenchmark.pautas(this.tamanhoLista);
+    }
+
+    @Benchmark
+    public List<RespostaPautaDto> toListRespostaPautaDto() {
+        return this.pautaMapper.toListRespostaPautaDto(this.pautas);
+    }
+}
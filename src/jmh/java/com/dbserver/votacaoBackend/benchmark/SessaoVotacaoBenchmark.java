@@ -0,0 +1,38 @@
+package com.dbserver.votacaoBackend.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.SessaoVotacao;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.validacoes.SessaoVotacaoValidacoes;
+import com.dbserver.votacaoBackend.domain.usuario.Cpf;
+import com.dbserver.votacaoBackend.domain.voto.Voto;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SessaoVotacaoBenchmark {
+
+    private SessaoVotacao sessaoVotacao;
+
+    private Voto voto;
+
+    @Setup
+    public void configurar() {
+        this.sessaoVotacao = DadosBenchmark.sessaoVotacao();
+        this.voto = Voto.builder().cpf(Cpf.de(DadosBenchmark.CPF_VOTANTE)).build();
+    }
+
+    @Benchmark
+    public SessaoVotacao validarSeUsuarioPodeVotarSessaoVotacao() {
+        SessaoVotacaoValidacoes.validarSeUsuarioPodeVotarSessaoVotacao(this.sessaoVotacao, this.voto);
+        return this.sessaoVotacao;
+    }
+}
@@ -0,0 +1,45 @@
+package com.dbserver.votacaoBackend.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.dbserver.votacaoBackend.domain.autenticacao.Autenticacao;
+import com.dbserver.votacaoBackend.infra.security.token.TokenService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TokenBenchmark {
+
+    private TokenService tokenService;
+
+    private Autenticacao autenticacao;
+
+    private String token;
+
+    @Setup
+    public void configurar() {
+        this.tokenService = new TokenService("segredo-benchmark", 1, new SimpleMeterRegistry());
+        this.autenticacao = DadosBenchmark.autenticacaoAdmin();
+        this.token = this.tokenService.gerarToken(this.autenticacao);
+    }
+
+    @Benchmark
+    public String gerarToken() {
+        return this.tokenService.gerarToken(this.autenticacao);
+    }
+
+    @Benchmark
+    public String validarToken() {
+        return this.tokenService.validarToken(this.token);
+    }
+}
@@ -0,0 +1,68 @@
+package com.dbserver.votacaoBackend.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.dbserver.votacaoBackend.domain.usuario.Cpf;
+import com.dbserver.votacaoBackend.domain.usuario.Usuario;
+import com.dbserver.votacaoBackend.domain.voto.Voto;
+import com.dbserver.votacaoBackend.utils.Utils;
+import com.dbserver.votacaoBackend.utils.ValidadorFormato;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ValidacoesBenchmark {
+
+    @Benchmark
+    public boolean compilarRegexCpf() {
+        return Pattern.compile(Utils.REGEX_CPF).matcher(DadosBenchmark.CPF_VOTANTE).matches();
+    }
+
+    @Benchmark
+    public boolean compilarRegexEmail() {
+        return Pattern.compile(Utils.REGEX_EMAIL).matcher(DadosBenchmark.EMAIL).matches();
+    }
+
+    @Benchmark
+    public boolean validarRegexCpf() {
+        return Utils.validarRegex(Utils.REGEX_CPF, DadosBenchmark.CPF_VOTANTE);
+    }
+
+    @Benchmark
+    public boolean validarRegexEmail() {
+        return Utils.validarRegex(Utils.REGEX_EMAIL, DadosBenchmark.EMAIL);
+    }
+
+    @Benchmark
+    public boolean validarFormatoCpf() {
+        return ValidadorFormato.isCpfValido(DadosBenchmark.CPF_VOTANTE);
+    }
+
+    @Benchmark
+    public boolean validarFormatoEmail() {
+        return ValidadorFormato.isEmailValido(DadosBenchmark.EMAIL);
+    }
+
+    @Benchmark
+    public int validarTamanhoSenha() {
+        return ValidadorFormato.tamanhoSemEspacos(DadosBenchmark.SENHA);
+    }
+
+    @Benchmark
+    public Voto construirVoto() {
+        return Voto.builder().cpf(Cpf.de(DadosBenchmark.CPF_VOTANTE)).build();
+    }
+
+    @Benchmark
+    public Usuario construirUsuario() {
+        return DadosBenchmark.usuarioAdmin(1L);
+    }
+}
@@ -5,26 +5,48 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import com.dbserver.votacaoBackend.domain.pauta.dto.CriarPautaDto;
 import com.dbserver.votacaoBackend.domain.pauta.dto.DetalhesPautaDto;
+import com.dbserver.votacaoBackend.domain.pauta.dto.PaginaPautasDto;
 import com.dbserver.votacaoBackend.domain.pauta.dto.RespostaPautaDto;
 import com.dbserver.votacaoBackend.domain.pauta.enums.Categoria;
 import com.dbserver.votacaoBackend.domain.pauta.service.PautaService;
+import com.dbserver.votacaoBackend.domain.pauta.snapshot.SnapshotPauta;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping(value = "/pauta")
 public class PautaController {
+    private static final String CABECALHO_PROXIMO_CURSOR = "X-Next-Cursor";
+
     private PautaService pautaService;
+    private ObjectMapper objectMapper;
 
-    public PautaController(PautaService pautaService) {
+    public PautaController(PautaService pautaService, ObjectMapper objectMapper) {
         this.pautaService = pautaService;
+        this.objectMapper = objectMapper;
     }
 
     @SecurityRequirement(name = "bearer-key")
@@ -37,34 +59,96 @@ public class PautaController {
     @SecurityRequirement(name = "bearer-key")
     @GetMapping("/usuarioLogado")
     public ResponseEntity<List<RespostaPautaDto>> listarTodasPautasDoUsuario(
-            @RequestParam(name = "categoria", required = false) final Categoria categoria) {
-        List<RespostaPautaDto> resposta = this.pautaService.buscarPautasUsuarioLogado(categoria);
+            @RequestParam(name = "categoria", required = false) final Categoria categoria,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "limit", required = false) final Integer limite) {
+        PaginaPautasDto resposta = this.pautaService.buscarPautasUsuarioLogado(categoria, cursor, limite);
 
-        return ResponseEntity.ok().body(resposta);
+        return this.responderPagina(resposta);
+    }
+
+    @SecurityRequirement(name = "bearer-key")
+    @GetMapping(value = "/usuarioLogado/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> transmitirTodasPautasDoUsuario(
+            @RequestParam(name = "categoria", required = false) final Categoria categoria) {
+        return this.responderNdjson(
+                consumidor -> this.pautaService.percorrerPautasUsuarioLogado(categoria, consumidor));
     }
 
     @SecurityRequirement(name = "bearer-key")
     @GetMapping("/ativas")
     public ResponseEntity<List<RespostaPautaDto>> listarPautas(
+            @RequestParam(name = "categoria", required = false) final Categoria categoria,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "limit", required = false) final Integer limite,
+            WebRequest requisicao) {
+        String etag = this.pautaService.obterEtagPautasAtivas(categoria, cursor, limite);
+        if (requisicao.checkNotModified(etag))
+            return null;
+
+        PaginaPautasDto resposta = this.pautaService.buscarPautasAtivas(categoria, cursor, limite);
+        return this.responderPagina(resposta);
+    }
+
+    @SecurityRequirement(name = "bearer-key")
+    @GetMapping(value = "/ativas/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> transmitirPautas(
             @RequestParam(name = "categoria", required = false) final Categoria categoria) {
-        List<RespostaPautaDto> resposta = this.pautaService.buscarPautasAtivas(categoria);
-        return ResponseEntity.ok().body(resposta);
+        return this.responderNdjson(consumidor -> this.pautaService.percorrerPautasAtivas(categoria, consumidor));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<RespostaPautaDto> buscarPautaAtivaPorId(@PathVariable("id") Long id) {
+    public ResponseEntity<RespostaPautaDto> buscarPautaAtivaPorId(@PathVariable("id") Long id,
+            WebRequest requisicao) {
+        String etag = this.pautaService.obterEtagPautaAtiva(id);
+        if (etag != null && requisicao.checkNotModified(etag))
+            return null;
+
         RespostaPautaDto resposta = this.pautaService.buscarPautaAtivaPorId(id);
 
         return ResponseEntity.ok().body(resposta);
     }
 
     @SecurityRequirement(name = "bearer-key")
-    @GetMapping("/detalhes/{id}")
-    public ResponseEntity<DetalhesPautaDto> buscarDetalhesPautaSessaoVotacaoNaoNula(@PathVariable("id") Long id) {
-        DetalhesPautaDto resposta = this.pautaService.obterDetalhePautaSessaoVotacaoNaoNula(id);
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = DetalhesPautaDto.class)))
+    @GetMapping(value = "/detalhes/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> buscarDetalhesPautaSessaoVotacaoNaoNula(@PathVariable("id") Long id,
+            WebRequest requisicao) throws JsonProcessingException {
+        Optional<SnapshotPauta> snapshot = this.pautaService.buscarSnapshotDetalhePauta(id);
+        String etag = snapshot.map(SnapshotPauta::etag).orElseGet(() -> this.pautaService.obterEtagDetalhePauta(id));
+        if (etag != null && requisicao.checkNotModified(etag))
+            return null;
 
-        return ResponseEntity.ok().body(resposta);
+        byte[] resposta = snapshot.isPresent() ? snapshot.get().json()
+                : this.objectMapper.writeValueAsBytes(this.pautaService.obterDetalhePautaSessaoVotacaoNaoNula(id));
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(resposta);
 
     }
 
+    private ResponseEntity<List<RespostaPautaDto>> responderPagina(PaginaPautasDto pagina) {
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok();
+
+        if (pagina.proximoCursor() != null)
+            resposta.header(CABECALHO_PROXIMO_CURSOR, pagina.proximoCursor());
+
+        return resposta.body(pagina.pautas());
+    }
+
+    private ResponseEntity<StreamingResponseBody> responderNdjson(
+            Consumer<Consumer<RespostaPautaDto>> percorrerPautas) {
+        StreamingResponseBody corpo = saida -> percorrerPautas.accept(pauta -> this.escreverLinha(saida, pauta));
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(corpo);
+    }
+
+    private void escreverLinha(OutputStream saida, RespostaPautaDto pauta) {
+        try {
+            saida.write(this.objectMapper.writeValueAsBytes(pauta));
+            saida.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
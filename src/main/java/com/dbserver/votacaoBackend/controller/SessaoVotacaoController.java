@@ -2,28 +2,36 @@ package com.dbserver.votacaoBackend.controller;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.dto.AbrirVotacaoDto;
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.dto.InserirVotoExternoDto;
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.dto.InserirVotoInternoDto;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.dto.InserirVotosExternosDto;
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.dto.RespostaSessaoVotacaoDto;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.dto.RespostaVotosExternosDto;
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.service.SessaoVotacaoService;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.transmissao.TransmissaoPlacar;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 @RestController
 @RequestMapping(value = "/votacao")
 public class SessaoVotacaoController {
     private SessaoVotacaoService sessaoVotacaoService;
+    private TransmissaoPlacar transmissaoPlacar;
 
-    public SessaoVotacaoController(
-            SessaoVotacaoService sessaoVotacaoService) {
+    public SessaoVotacaoController(SessaoVotacaoService sessaoVotacaoService, TransmissaoPlacar transmissaoPlacar) {
         this.sessaoVotacaoService = sessaoVotacaoService;
+        this.transmissaoPlacar = transmissaoPlacar;
     }
 
     @SecurityRequirement(name = "bearer-key")
@@ -39,13 +47,34 @@ public class SessaoVotacaoController {
     public ResponseEntity<RespostaSessaoVotacaoDto> votoInterno(@Valid @RequestBody InserirVotoInternoDto dto) {
         RespostaSessaoVotacaoDto resposta = this.sessaoVotacaoService.inserirVotoInterno(dto);
 
-        return ResponseEntity.status(HttpStatus.OK).body(resposta);
+        return ResponseEntity.status(statusVotoRecebido(resposta)).body(resposta);
     }
 
     @PatchMapping("/votoExterno")
     public ResponseEntity<RespostaSessaoVotacaoDto> votoExterno(@Valid @RequestBody InserirVotoExternoDto dto) {
         RespostaSessaoVotacaoDto resposta = this.sessaoVotacaoService.inserirVotoExterno(dto);
 
+        return ResponseEntity.status(statusVotoRecebido(resposta)).body(resposta);
+    }
+
+    @SecurityRequirement(name = "bearer-key")
+    @PatchMapping("/votoExterno/lote")
+    public ResponseEntity<RespostaVotosExternosDto> votosExternos(@Valid @RequestBody InserirVotosExternosDto dto,
+            HttpServletRequest request) {
+        RespostaVotosExternosDto resposta = this.sessaoVotacaoService.inserirVotosExternos(dto,
+                request.getRemoteAddr());
+
         return ResponseEntity.status(HttpStatus.OK).body(resposta);
     }
+
+    @GetMapping("/{pautaId}/stream")
+    public ResponseEntity<SseEmitter> acompanharPlacar(@PathVariable("pautaId") Long pautaId) {
+        SseEmitter emissor = this.transmissaoPlacar.inscrever(pautaId);
+
+        return ResponseEntity.ok().body(emissor);
+    }
+
+    private static HttpStatus statusVotoRecebido(RespostaSessaoVotacaoDto resposta) {
+        return resposta.gravacaoPendente() ? HttpStatus.ACCEPTED : HttpStatus.OK;
+    }
 }
@@ -6,26 +6,43 @@ import org.springframework.web.bind.annotation.RestController;
 import com.dbserver.votacaoBackend.domain.usuario.dto.CriarUsuarioDto;
 import com.dbserver.votacaoBackend.domain.usuario.dto.CriarUsuarioRespostaDto;
 import com.dbserver.votacaoBackend.domain.usuario.dto.UsuarioRespostaDto;
+import com.dbserver.votacaoBackend.domain.usuario.dto.EventoImportacaoDto;
+import com.dbserver.votacaoBackend.domain.usuario.dto.ProgressoImportacaoDto;
 import com.dbserver.votacaoBackend.domain.usuario.dto.VerificarSeUsuarioExisteRespostaDto;
+import com.dbserver.votacaoBackend.domain.usuario.importacao.FormatoImportacao;
+import com.dbserver.votacaoBackend.domain.usuario.importacao.ImportacaoUsuarios;
 import com.dbserver.votacaoBackend.domain.usuario.service.UsuarioService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping(value = "/usuario")
 public class UsuarioController {
     private UsuarioService usuarioService;
+    private ImportacaoUsuarios importacaoUsuarios;
+    private ObjectMapper objectMapper;
 
-    public UsuarioController(UsuarioService usuarioService) {
+    public UsuarioController(UsuarioService usuarioService, ImportacaoUsuarios importacaoUsuarios,
+            ObjectMapper objectMapper) {
         this.usuarioService = usuarioService;
+        this.importacaoUsuarios = importacaoUsuarios;
+        this.objectMapper = objectMapper;
     }
 
     @SecurityRequirement(name = "bearer-key")
@@ -36,6 +53,17 @@ public class UsuarioController {
         return ResponseEntity.status(HttpStatus.CREATED).body(resposta);
     }
 
+    @SecurityRequirement(name = "bearer-key")
+    @PostMapping(value = "/importacao", consumes = { FormatoImportacao.TEXT_CSV_VALUE,
+            MediaType.APPLICATION_NDJSON_VALUE }, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importarUsuarios(HttpServletRequest requisicao) {
+        FormatoImportacao formato = FormatoImportacao.de(requisicao.getContentType());
+        StreamingResponseBody corpo = saida -> this.importacaoUsuarios.importar(requisicao.getInputStream(), formato,
+                evento -> this.escreverLinha(saida, evento));
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(corpo);
+    }
+
     @SecurityRequirement(name = "bearer-key")
     @GetMapping("/usuarioLogado")
     public ResponseEntity<UsuarioRespostaDto> buscarUsuarioLogado() {
@@ -51,4 +79,14 @@ public class UsuarioController {
         return ResponseEntity.ok().body(resposta);
     }
 
+    private void escreverLinha(OutputStream saida, EventoImportacaoDto evento) {
+        try {
+            saida.write(this.objectMapper.writeValueAsBytes(evento));
+            saida.write('\n');
+            if (evento instanceof ProgressoImportacaoDto)
+                saida.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
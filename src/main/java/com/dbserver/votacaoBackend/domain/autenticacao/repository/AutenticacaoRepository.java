@@ -1,20 +1,38 @@
 package com.dbserver.votacaoBackend.domain.autenticacao.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.dbserver.votacaoBackend.domain.autenticacao.Autenticacao;
+import com.dbserver.votacaoBackend.domain.usuario.Cpf;
+import com.dbserver.votacaoBackend.infra.cache.CacheEntidades;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface AutenticacaoRepository extends JpaRepository<Autenticacao, Long>{
     
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheEntidades.CONSULTA_AUTENTICACAO_POR_EMAIL) })
     Optional<Autenticacao> findByEmail(String email);
 
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheEntidades.CONSULTA_AUTENTICACAO_POR_CPF) })
     @Query("SELECT a FROM Autenticacao a WHERE a.usuario.cpf = ?1")
-    Optional<Autenticacao> findByCpf(String cpf);
+    Optional<Autenticacao> findByCpf(Cpf cpf);
+
+    @Query("SELECT a.email FROM Autenticacao a WHERE a.email IN :emails")
+    List<String> findEmailsExistentes(@Param("emails") Collection<String> emails);
 
+    @Query("SELECT a FROM Autenticacao a JOIN FETCH a.usuario WHERE a.usuario.cpf IN :cpfs")
+    List<Autenticacao> findByCpfIn(@Param("cpfs") Collection<Cpf> cpfs);
 
 }   
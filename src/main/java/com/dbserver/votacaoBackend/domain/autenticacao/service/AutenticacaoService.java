@@ -1,10 +1,14 @@
 package com.dbserver.votacaoBackend.domain.autenticacao.service;
 
+import java.util.Collection;
+import java.util.Map;
+
 import com.dbserver.votacaoBackend.domain.autenticacao.Autenticacao;
 import com.dbserver.votacaoBackend.domain.autenticacao.dto.AutenticacaoDto;
 import com.dbserver.votacaoBackend.domain.autenticacao.dto.AutenticacaoRespostaDto;
 import com.dbserver.votacaoBackend.domain.autenticacao.dto.AutorizarVotoExternoDto;
 import com.dbserver.votacaoBackend.domain.autenticacao.dto.AutorizarVotoExternoRespostaDto;
+import com.dbserver.votacaoBackend.domain.usuario.Cpf;
 import com.dbserver.votacaoBackend.domain.usuario.Usuario;
 
 public interface AutenticacaoService {
@@ -17,4 +21,6 @@ public interface AutenticacaoService {
     AutenticacaoRespostaDto autenticarUsuario(AutenticacaoDto dto);
 
     AutorizarVotoExternoRespostaDto autorizarUsuarioVotoExterno(AutorizarVotoExternoDto dto);
+
+    Map<Cpf, Autenticacao> buscarAutenticacoesPorCpfs(Collection<Cpf> cpfs);
 }
@@ -1,5 +1,10 @@
 package com.dbserver.votacaoBackend.domain.autenticacao.service;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -11,38 +16,59 @@ import com.dbserver.votacaoBackend.domain.autenticacao.dto.AutorizarVotoExternoD
 import com.dbserver.votacaoBackend.domain.autenticacao.dto.AutorizarVotoExternoRespostaDto;
 import com.dbserver.votacaoBackend.domain.autenticacao.repository.AutenticacaoRepository;
 import com.dbserver.votacaoBackend.domain.autenticacao.validacoes.AutenticacaoValidacoes;
+import com.dbserver.votacaoBackend.domain.usuario.Cpf;
 import com.dbserver.votacaoBackend.domain.usuario.Usuario;
 import com.dbserver.votacaoBackend.domain.usuario.validacoes.UsuarioValidacoes;
 import com.dbserver.votacaoBackend.infra.security.token.TokenService;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 @Service
 public class AutenticacaoServiceImpl implements AutenticacaoService {
     private PasswordEncoder passwordEncoder;
     private AutenticacaoRepository autenticacaoRepository;
     private TokenService tokenService;
     private AutenticacaoValidacoes autenticacaoValidacoes;
+    private Timer tempoLoginSucesso;
+    private Timer tempoLoginFalha;
 
     public AutenticacaoServiceImpl(AutenticacaoRepository autenticacaoRepository, PasswordEncoder passwordEncoder,
-            TokenService tokenService, AutenticacaoValidacoes autenticacaoValidacoes) {
+            TokenService tokenService, AutenticacaoValidacoes autenticacaoValidacoes, MeterRegistry meterRegistry) {
         this.autenticacaoRepository = autenticacaoRepository;
         this.passwordEncoder = passwordEncoder;
         this.tokenService = tokenService;
         this.autenticacaoValidacoes = autenticacaoValidacoes;
+        this.tempoLoginSucesso = Timer.builder("votacao.autenticacao.login")
+                .description("Tempo de autenticação de usuários")
+                .tag("resultado", "sucesso")
+                .register(meterRegistry);
+        this.tempoLoginFalha = Timer.builder("votacao.autenticacao.login")
+                .description("Tempo de autenticação de usuários")
+                .tag("resultado", "falha")
+                .register(meterRegistry);
     }
 
     @Override
     public AutenticacaoRespostaDto autenticarUsuario(AutenticacaoDto dto) {
-        Autenticacao autenticacao = this.autenticacaoRepository.findByEmail(dto.email())
-                .orElseThrow(() -> new BadCredentialsException("Dados de login inválidos."));
+        Timer.Sample amostra = Timer.start();
+        try {
+            Autenticacao autenticacao = this.autenticacaoRepository.findByEmail(dto.email())
+                    .orElseThrow(() -> new BadCredentialsException("Dados de login inválidos."));
 
-        boolean senhaValida = this.autenticacaoValidacoes.validarSenhaDaAutenticacao(dto.senha(),
-                autenticacao.getSenha());
-        if (!senhaValida) {
-            throw new BadCredentialsException("Dados de login inválidos.");
-        }
+            boolean senhaValida = this.autenticacaoValidacoes.validarSenhaDaAutenticacao(dto.senha(),
+                    autenticacao.getSenha());
+            if (!senhaValida) {
+                throw new BadCredentialsException("Dados de login inválidos.");
+            }
 
-        String token = this.tokenService.gerarToken(autenticacao);
-        return new AutenticacaoRespostaDto(token, autenticacao.getUsuario().isAdmin());
+            String token = this.tokenService.gerarToken(autenticacao);
+            amostra.stop(this.tempoLoginSucesso);
+            return new AutenticacaoRespostaDto(token, autenticacao.getUsuario().isAdmin());
+        } catch (RuntimeException e) {
+            amostra.stop(this.tempoLoginFalha);
+            throw e;
+        }
     }
 
     @Override
@@ -72,4 +98,13 @@ public class AutenticacaoServiceImpl implements AutenticacaoService {
         return this.autenticacaoRepository.findByEmail(email).isPresent();
     }
 
+    @Override
+    public Map<Cpf, Autenticacao> buscarAutenticacoesPorCpfs(Collection<Cpf> cpfs) {
+        if (cpfs.isEmpty())
+            return Map.of();
+
+        return this.autenticacaoRepository.findByCpfIn(cpfs).stream()
+                .collect(Collectors.toMap(autenticacao -> autenticacao.getUsuario().getCpf(), Function.identity()));
+    }
+
 }
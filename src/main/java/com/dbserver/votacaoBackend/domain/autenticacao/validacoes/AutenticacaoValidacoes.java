@@ -6,7 +6,8 @@ import org.springframework.stereotype.Component;
 
 import com.dbserver.votacaoBackend.domain.autenticacao.Autenticacao;
 import com.dbserver.votacaoBackend.domain.autenticacao.repository.AutenticacaoRepository;
-import com.dbserver.votacaoBackend.utils.Utils;
+import com.dbserver.votacaoBackend.domain.usuario.Cpf;
+import com.dbserver.votacaoBackend.utils.ValidadorFormato;
 
 @Component
 public class AutenticacaoValidacoes {
@@ -23,12 +24,12 @@ public class AutenticacaoValidacoes {
         if (senha == null || senha.isEmpty())
             throw new IllegalArgumentException("Senha deve ser informada.");
 
-        if (senha.trim().length() < 8)
+        if (ValidadorFormato.tamanhoSemEspacos(senha) < 8)
             throw new IllegalArgumentException("Senha deve conter 8 caracteres no mínimo.");
     }
 
     public static void validarFormatoDoEmail(String email){
-            if (email == null || !Utils.validarRegex(Utils.REGEX_EMAIL, email.trim()))
+            if (!ValidadorFormato.isEmailValido(email))
                 throw new IllegalArgumentException("Email com formato inválido.");
           
     }
@@ -44,7 +45,7 @@ public class AutenticacaoValidacoes {
     }
 
     public void validarAutenticacaoPorCpfESenha(String cpf, String senha){
-        Autenticacao autenticacao = this.autenticacaoRepository.findByCpf(cpf).orElseThrow(()-> new BadCredentialsException("Dados de autenticação inválidos."));
+        Autenticacao autenticacao = Cpf.deSeValido(cpf).flatMap(this.autenticacaoRepository::findByCpf).orElseThrow(()-> new BadCredentialsException("Dados de autenticação inválidos."));
 
         boolean valido = this.validarSenhaDaAutenticacao(senha, autenticacao.getSenha());
 
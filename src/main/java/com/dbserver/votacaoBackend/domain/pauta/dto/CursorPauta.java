@@ -0,0 +1,32 @@
+package com.dbserver.votacaoBackend.domain.pauta.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public record CursorPauta(LocalDateTime data, Long id) {
+    public static final CursorPauta INICIAL = new CursorPauta(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private static final String SEPARADOR = "|";
+
+    public static CursorPauta decodificar(String cursor) {
+        if (cursor == null || cursor.isBlank())
+            return INICIAL;
+
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separador = valor.lastIndexOf(SEPARADOR);
+
+            return new CursorPauta(LocalDateTime.parse(valor.substring(0, separador)),
+                    Long.parseLong(valor.substring(separador + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor inválido.");
+        }
+    }
+
+    public String codificar() {
+        String valor = this.data + SEPARADOR + this.id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+}
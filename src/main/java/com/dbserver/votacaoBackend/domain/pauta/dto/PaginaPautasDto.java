@@ -0,0 +1,6 @@
+package com.dbserver.votacaoBackend.domain.pauta.dto;
+
+import java.util.List;
+
+public record PaginaPautasDto(List<RespostaPautaDto> pautas, String proximoCursor) {
+}
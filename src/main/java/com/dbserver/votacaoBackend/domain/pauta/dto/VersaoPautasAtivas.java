@@ -0,0 +1,11 @@
+package com.dbserver.votacaoBackend.domain.pauta.dto;
+
+import com.dbserver.votacaoBackend.domain.pauta.enums.Categoria;
+
+public record VersaoPautasAtivas(Long quantidade, Long ultimaSessaoId, Long ultimaVersao, Long somaVersoes) {
+
+    public String etag(Categoria categoria, CursorPauta cursor, Integer limite) {
+        return "ativas-" + categoria + "-" + cursor.codificar() + "-" + limite + "-" + this.quantidade + "-"
+                + this.ultimaSessaoId + "-" + this.ultimaVersao + "-" + this.somaVersoes;
+    }
+}
@@ -10,6 +10,7 @@ import com.dbserver.votacaoBackend.domain.pauta.dto.RespostaPautaDto;
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.SessaoVotacao;
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.dto.RespostaSessaoVotacaoDto;
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.enums.StatusSessaoVotacao;
+import com.dbserver.votacaoBackend.domain.usuario.Cpf;
 import com.dbserver.votacaoBackend.domain.usuario.Usuario;
 import com.dbserver.votacaoBackend.domain.usuario.dto.UsuarioRespostaDto;
 
@@ -31,9 +32,10 @@ public interface PautaMapper {
     RespostaPautaDto toRespostaPautaDto(Pauta pauta);
 
     @Mapping(target = "pautaId", expression = "java(sessaoVotacao.getPauta().getId())")
-    @Mapping(target = "votosPositivos", expression = "java(sessaoVotacao.getVotosPositivos().size())")
-    @Mapping(target = "votosNegativos", expression = "java(sessaoVotacao.getVotosNegativos().size())")
+    @Mapping(target = "votosPositivos", expression = "java(sessaoVotacao.getQuantidadeVotosPositivos())")
+    @Mapping(target = "votosNegativos", expression = "java(sessaoVotacao.getQuantidadeVotosNegativos())")
     @Mapping(target = "sessaoAtiva", expression = "java(sessaoVotacao.isAtiva())")
+    @Mapping(target = "gravacaoPendente", ignore = true)
     RespostaSessaoVotacaoDto toRespostaSessaoVotacaoDto(SessaoVotacao sessaoVotacao);
 
     @Mapping(source = "pauta", target = "dadosPauta")
@@ -41,15 +43,22 @@ public interface PautaMapper {
     DetalhesPautaDto toDetalhesPautaDto(Pauta pauta);
 
     UsuarioRespostaDto toUsuarioRespostaDto(Usuario usuario);
-    
+
+    default String formatarCpf(Cpf cpf) {
+        return cpf == null ? null : cpf.toString();
+    }
+
     default StatusSessaoVotacao obterStatusSessaoVotacao(SessaoVotacao sessaoVotacao) {
         if (sessaoVotacao == null)
             throw new IllegalArgumentException("SessaoVotacao não deve ser nula.");
 
+        if (sessaoVotacao.getStatus() != null)
+            return sessaoVotacao.getStatus();
+
         if (sessaoVotacao.getDataFechamento().isAfter(LocalDateTime.now()))
             return StatusSessaoVotacao.EM_ANDAMENTO;
 
-        if (sessaoVotacao.getVotosPositivos().size() > sessaoVotacao.getVotosNegativos().size())
+        if (sessaoVotacao.getQuantidadeVotosPositivos() > sessaoVotacao.getQuantidadeVotosNegativos())
             return StatusSessaoVotacao.APROVADA;
 
         return StatusSessaoVotacao.REPROVADA;
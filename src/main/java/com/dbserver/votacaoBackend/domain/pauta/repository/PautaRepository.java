@@ -1,34 +1,71 @@
 package com.dbserver.votacaoBackend.domain.pauta.repository;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import com.dbserver.votacaoBackend.domain.pauta.Pauta;
+import com.dbserver.votacaoBackend.domain.pauta.dto.VersaoPautasAtivas;
 import com.dbserver.votacaoBackend.domain.pauta.enums.Categoria;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface PautaRepository extends JpaRepository<Pauta, Long> {
-    List<Pauta> findAllByUsuarioIdOrderByCreatedAtDesc(Long usuarioId);
+    @Query("SELECT p FROM Pauta p JOIN FETCH p.usuario LEFT JOIN FETCH p.sessaoVotacao WHERE p.usuario.id = :usuarioId AND (p.createdAt < :data OR (p.createdAt = :data AND p.id < :id)) ORDER BY p.createdAt DESC, p.id DESC")
+    List<Pauta> findPaginaByUsuarioId(@Param("usuarioId") Long usuarioId, @Param("data") LocalDateTime data, @Param("id") Long id, Pageable pagina);
+
+    @Query("SELECT p FROM Pauta p JOIN FETCH p.usuario LEFT JOIN FETCH p.sessaoVotacao WHERE p.usuario.id = :usuarioId AND p.categoria = :categoria AND (p.createdAt < :data OR (p.createdAt = :data AND p.id < :id)) ORDER BY p.createdAt DESC, p.id DESC")
+    List<Pauta> findPaginaByUsuarioIdAndCategoria(@Param("usuarioId") Long usuarioId, @Param("categoria") Categoria categoria, @Param("data") LocalDateTime data, @Param("id") Long id, Pageable pagina);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"))
+    @Query("SELECT p FROM Pauta p JOIN FETCH p.usuario LEFT JOIN FETCH p.sessaoVotacao WHERE p.usuario.id = :usuarioId ORDER BY p.createdAt DESC, p.id DESC")
+    Stream<Pauta> streamAllByUsuarioId(@Param("usuarioId") Long usuarioId);
 
-    List<Pauta> findAllByUsuarioIdAndCategoriaOrderByCreatedAtDesc(Long usuarioId, Categoria categoria);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"))
+    @Query("SELECT p FROM Pauta p JOIN FETCH p.usuario LEFT JOIN FETCH p.sessaoVotacao WHERE p.usuario.id = :usuarioId AND p.categoria = :categoria ORDER BY p.createdAt DESC, p.id DESC")
+    Stream<Pauta> streamAllByUsuarioIdAndCategoria(@Param("usuarioId") Long usuarioId, @Param("categoria") Categoria categoria);
 
     Optional<Pauta> findByIdAndUsuarioId(Long id, Long usuarioId);
 
-    @Query("SELECT p FROM Pauta p WHERE p.categoria = :categoria AND p.sessaoVotacao.dataFechamento > :dataAtual ORDER BY p.sessaoVotacao.dataAbertura DESC")
-    List<Pauta> findAllByCategoriaAndSessaoVotacaoAtiva(@Param("categoria") Categoria categoria, @Param("dataAtual") LocalDateTime dataAtual);
+    @Query("SELECT p FROM Pauta p JOIN FETCH p.usuario JOIN FETCH p.sessaoVotacao s WHERE s.dataFechamento > :dataAtual AND (s.dataAbertura < :data OR (s.dataAbertura = :data AND p.id < :id)) ORDER BY s.dataAbertura DESC, p.id DESC")
+    List<Pauta> findPaginaBySessaoVotacaoAtiva(@Param("dataAtual") LocalDateTime dataAtual, @Param("data") LocalDateTime data, @Param("id") Long id, Pageable pagina);
+
+    @Query("SELECT p FROM Pauta p JOIN FETCH p.usuario JOIN FETCH p.sessaoVotacao s WHERE p.categoria = :categoria AND s.dataFechamento > :dataAtual AND (s.dataAbertura < :data OR (s.dataAbertura = :data AND p.id < :id)) ORDER BY s.dataAbertura DESC, p.id DESC")
+    List<Pauta> findPaginaByCategoriaAndSessaoVotacaoAtiva(@Param("categoria") Categoria categoria, @Param("dataAtual") LocalDateTime dataAtual, @Param("data") LocalDateTime data, @Param("id") Long id, Pageable pagina);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"))
+    @Query("SELECT p FROM Pauta p JOIN FETCH p.usuario JOIN FETCH p.sessaoVotacao s WHERE s.dataFechamento > :dataAtual ORDER BY s.dataAbertura DESC, p.id DESC")
+    Stream<Pauta> streamAllBySessaoVotacaoAtiva(@Param("dataAtual") LocalDateTime dataAtual);
 
-    @Query("SELECT p FROM Pauta p WHERE p.sessaoVotacao.dataFechamento > :dataAtual ORDER BY p.sessaoVotacao.dataAbertura DESC")
-    List<Pauta> findAllBySessaoVotacaoAtiva(@Param("dataAtual") LocalDateTime dataAtual);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"))
+    @Query("SELECT p FROM Pauta p JOIN FETCH p.usuario JOIN FETCH p.sessaoVotacao s WHERE p.categoria = :categoria AND s.dataFechamento > :dataAtual ORDER BY s.dataAbertura DESC, p.id DESC")
+    Stream<Pauta> streamAllByCategoriaAndSessaoVotacaoAtiva(@Param("categoria") Categoria categoria, @Param("dataAtual") LocalDateTime dataAtual);
 
-    @Query("SELECT p FROM Pauta p WHERE p.id = :id AND p.sessaoVotacao.dataFechamento > :dataAtual")
+    @Query("SELECT p FROM Pauta p JOIN FETCH p.usuario JOIN FETCH p.sessaoVotacao s WHERE p.id = :id AND s.dataFechamento > :dataAtual")
     Optional<Pauta> findByIdAndSessaoVotacaoAtiva(@Param("id") Long id, @Param("dataAtual") LocalDateTime dataAtual);
 
-    @Query("SELECT p FROM Pauta p WHERE p.id = :id AND p.usuario.id = :usuarioId AND p.sessaoVotacao IS NOT NULL")
+    @Query("SELECT p FROM Pauta p JOIN FETCH p.usuario JOIN FETCH p.sessaoVotacao WHERE p.id = :id AND p.usuario.id = :usuarioId")
     Optional<Pauta> findByIdAndUsuarioIdAndSessaoVotacaoNotNull(@Param("id") Long id, @Param("usuarioId") Long usuarioId);
+
+    @Query("SELECT p FROM Pauta p JOIN FETCH p.usuario JOIN FETCH p.sessaoVotacao WHERE p.id = :id")
+    Optional<Pauta> findByIdAndSessaoVotacaoNotNull(@Param("id") Long id);
+
+    @Query("SELECT s.versao FROM SessaoVotacao s WHERE s.pauta.id = :id AND s.dataFechamento > :dataAtual")
+    Optional<Long> findVersaoSessaoAtivaById(@Param("id") Long id, @Param("dataAtual") LocalDateTime dataAtual);
+
+    @Query("SELECT s.versao FROM SessaoVotacao s WHERE s.pauta.id = :id AND s.pauta.usuario.id = :usuarioId")
+    Optional<Long> findVersaoSessaoByIdAndUsuarioId(@Param("id") Long id, @Param("usuarioId") Long usuarioId);
+
+    @Query("SELECT new com.dbserver.votacaoBackend.domain.pauta.dto.VersaoPautasAtivas(COUNT(s), COALESCE(MAX(s.id), 0L), COALESCE(MAX(s.versao), 0L), COALESCE(SUM(s.versao), 0L)) FROM SessaoVotacao s WHERE s.dataFechamento > :dataAtual")
+    VersaoPautasAtivas findVersaoPautasAtivas(@Param("dataAtual") LocalDateTime dataAtual);
 }
@@ -1,19 +1,26 @@
 package com.dbserver.votacaoBackend.domain.pauta.service;
 
-import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import com.dbserver.votacaoBackend.domain.pauta.Pauta;
 import com.dbserver.votacaoBackend.domain.pauta.dto.CriarPautaDto;
 import com.dbserver.votacaoBackend.domain.pauta.dto.DetalhesPautaDto;
+import com.dbserver.votacaoBackend.domain.pauta.dto.PaginaPautasDto;
 import com.dbserver.votacaoBackend.domain.pauta.dto.RespostaPautaDto;
 import com.dbserver.votacaoBackend.domain.pauta.enums.Categoria;
+import com.dbserver.votacaoBackend.domain.pauta.snapshot.SnapshotPauta;
 
 public interface PautaService {
     RespostaPautaDto criarPauta(CriarPautaDto dto);
 
-    List<RespostaPautaDto> buscarPautasUsuarioLogado(Categoria categoria);
+    PaginaPautasDto buscarPautasUsuarioLogado(Categoria categoria, String cursor, Integer limite);
 
-    List<RespostaPautaDto> buscarPautasAtivas(Categoria categoria);
+    PaginaPautasDto buscarPautasAtivas(Categoria categoria, String cursor, Integer limite);
+
+    void percorrerPautasUsuarioLogado(Categoria categoria, Consumer<RespostaPautaDto> consumidor);
+
+    void percorrerPautasAtivas(Categoria categoria, Consumer<RespostaPautaDto> consumidor);
 
     Pauta buscarPautaPorIdEUsuarioId(Long pautaId, Long usuarioId);
 
@@ -21,4 +28,12 @@ public interface PautaService {
 
     DetalhesPautaDto obterDetalhePautaSessaoVotacaoNaoNula(Long pautaId);
 
+    Optional<SnapshotPauta> buscarSnapshotDetalhePauta(Long pautaId);
+
+    String obterEtagPautasAtivas(Categoria categoria, String cursor, Integer limite);
+
+    String obterEtagPautaAtiva(Long pautaId);
+
+    String obterEtagDetalhePauta(Long pautaId);
+
 }
\ No newline at end of file
@@ -3,21 +3,35 @@ package com.dbserver.votacaoBackend.domain.pauta.service;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.dbserver.votacaoBackend.domain.pauta.Pauta;
 import com.dbserver.votacaoBackend.domain.pauta.dto.CriarPautaDto;
+import com.dbserver.votacaoBackend.domain.pauta.dto.CursorPauta;
 import com.dbserver.votacaoBackend.domain.pauta.dto.DetalhesPautaDto;
+import com.dbserver.votacaoBackend.domain.pauta.dto.PaginaPautasDto;
 import com.dbserver.votacaoBackend.domain.pauta.dto.RespostaPautaDto;
 import com.dbserver.votacaoBackend.domain.pauta.enums.Categoria;
 import com.dbserver.votacaoBackend.domain.pauta.mapper.PautaMapper;
 import com.dbserver.votacaoBackend.domain.pauta.repository.PautaRepository;
+import com.dbserver.votacaoBackend.domain.pauta.snapshot.SnapshotPauta;
+import com.dbserver.votacaoBackend.domain.pauta.snapshot.SnapshotsPautasEncerradas;
 import com.dbserver.votacaoBackend.domain.pauta.validacoes.PautaValidacoes;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.registro.RegistroSessoesAtivas;
 import com.dbserver.votacaoBackend.domain.usuario.Usuario;
 import com.dbserver.votacaoBackend.domain.usuario.service.UsuarioServiceImpl;
+import com.dbserver.votacaoBackend.infra.datasource.LeituraReplica;
 import com.dbserver.votacaoBackend.utils.Utils;
 
-import jakarta.transaction.Transactional;
+import jakarta.persistence.EntityManager;
 
 @Service
 public class PautaServiceImpl implements PautaService {
@@ -26,14 +40,21 @@ public class PautaServiceImpl implements PautaService {
     private UsuarioServiceImpl usuarioService;
     private Utils utils;
     private PautaMapper pautaMapper;
+    private EntityManager entityManager;
+    private RegistroSessoesAtivas registroSessoesAtivas;
+    private SnapshotsPautasEncerradas snapshotsPautasEncerradas;
 
     public PautaServiceImpl(PautaRepository pautaRepository, PautaValidacoes pautaValidacoes,
-            UsuarioServiceImpl usuarioService, Utils utils, PautaMapper pautaMapper) {
+            UsuarioServiceImpl usuarioService, Utils utils, PautaMapper pautaMapper, EntityManager entityManager,
+            RegistroSessoesAtivas registroSessoesAtivas, SnapshotsPautasEncerradas snapshotsPautasEncerradas) {
         this.pautaRepository = pautaRepository;
         this.utils = utils;
         this.pautaValidacoes = pautaValidacoes;
         this.usuarioService = usuarioService;
         this.pautaMapper = pautaMapper;
+        this.entityManager = entityManager;
+        this.registroSessoesAtivas = registroSessoesAtivas;
+        this.snapshotsPautasEncerradas = snapshotsPautasEncerradas;
     }
 
     @Transactional
@@ -50,31 +71,91 @@ public class PautaServiceImpl implements PautaService {
     }
 
     @Override
-    public List<RespostaPautaDto> buscarPautasUsuarioLogado(Categoria categoria) {
+    @LeituraReplica
+    @Transactional(readOnly = true)
+    public PaginaPautasDto buscarPautasUsuarioLogado(Categoria categoria, String cursor, Integer limite) {
         Usuario usuario = usuarioService.buscarUsuarioLogado();
+        CursorPauta posicao = CursorPauta.decodificar(cursor);
+        Integer limiteValidado = PautaValidacoes.validarLimite(limite);
+        Pageable pagina = limiteValidado == null ? Pageable.unpaged() : PageRequest.ofSize(limiteValidado + 1);
         List<Pauta> pautas;
+
         if (categoria != null) {
-            pautas = this.pautaRepository.findAllByUsuarioIdAndCategoriaOrderByCreatedAtDesc(usuario.getId(),
-                    categoria);
+            pautas = this.pautaRepository.findPaginaByUsuarioIdAndCategoria(usuario.getId(), categoria,
+                    posicao.data(), posicao.id(), pagina);
         } else {
-            pautas = this.pautaRepository.findAllByUsuarioIdOrderByCreatedAtDesc(usuario.getId());
+            pautas = this.pautaRepository.findPaginaByUsuarioId(usuario.getId(), posicao.data(), posicao.id(),
+                    pagina);
         }
 
-        return pautaMapper.toListRespostaPautaDto(pautas);
+        return this.montarPagina(pautas, limiteValidado,
+                pauta -> new CursorPauta(pauta.getCreatedAt(), pauta.getId()));
     }
 
     @Override
-    public List<RespostaPautaDto> buscarPautasAtivas(Categoria categoria) {
+    @LeituraReplica
+    @Transactional(readOnly = true)
+    public PaginaPautasDto buscarPautasAtivas(Categoria categoria, String cursor, Integer limite) {
         LocalDateTime dataAtual = this.utils.obterDataAtual();
+        CursorPauta posicao = CursorPauta.decodificar(cursor);
+        Integer limiteValidado = PautaValidacoes.validarLimite(limite);
+        Pageable pagina = limiteValidado == null ? Pageable.unpaged() : PageRequest.ofSize(limiteValidado + 1);
         List<Pauta> pautas;
 
         if (categoria != null) {
-            pautas = this.pautaRepository.findAllByCategoriaAndSessaoVotacaoAtiva(categoria, dataAtual);
+            pautas = this.pautaRepository.findPaginaByCategoriaAndSessaoVotacaoAtiva(categoria, dataAtual,
+                    posicao.data(), posicao.id(), pagina);
         } else {
-            pautas = this.pautaRepository.findAllBySessaoVotacaoAtiva(dataAtual);
+            pautas = this.pautaRepository.findPaginaBySessaoVotacaoAtiva(dataAtual, posicao.data(), posicao.id(),
+                    pagina);
+        }
+
+        return this.montarPagina(pautas, limiteValidado,
+                pauta -> new CursorPauta(pauta.getSessaoVotacao().getDataAbertura(), pauta.getId()));
+    }
+
+    @Override
+    @LeituraReplica
+    @Transactional(readOnly = true)
+    public void percorrerPautasUsuarioLogado(Categoria categoria, Consumer<RespostaPautaDto> consumidor) {
+        Usuario usuario = usuarioService.buscarUsuarioLogado();
+
+        try (Stream<Pauta> pautas = categoria != null
+                ? this.pautaRepository.streamAllByUsuarioIdAndCategoria(usuario.getId(), categoria)
+                : this.pautaRepository.streamAllByUsuarioId(usuario.getId())) {
+            this.percorrer(pautas, consumidor);
         }
+    }
+
+    @Override
+    @LeituraReplica
+    @Transactional(readOnly = true)
+    public void percorrerPautasAtivas(Categoria categoria, Consumer<RespostaPautaDto> consumidor) {
+        LocalDateTime dataAtual = this.utils.obterDataAtual();
+
+        try (Stream<Pauta> pautas = categoria != null
+                ? this.pautaRepository.streamAllByCategoriaAndSessaoVotacaoAtiva(categoria, dataAtual)
+                : this.pautaRepository.streamAllBySessaoVotacaoAtiva(dataAtual)) {
+            this.percorrer(pautas, consumidor);
+        }
+    }
+
+    private PaginaPautasDto montarPagina(List<Pauta> pautas, Integer limite,
+            Function<Pauta, CursorPauta> gerarCursor) {
+        if (limite == null || pautas.size() <= limite)
+            return new PaginaPautasDto(pautaMapper.toListRespostaPautaDto(pautas), null);
+
+        List<Pauta> pautasDaPagina = pautas.subList(0, limite);
+        String proximoCursor = gerarCursor.apply(pautasDaPagina.get(limite - 1)).codificar();
 
-        return pautaMapper.toListRespostaPautaDto(pautas);
+        return new PaginaPautasDto(pautaMapper.toListRespostaPautaDto(pautasDaPagina), proximoCursor);
+    }
+
+    private void percorrer(Stream<Pauta> pautas, Consumer<RespostaPautaDto> consumidor) {
+        pautas.forEach(pauta -> {
+            consumidor.accept(pautaMapper.toRespostaPautaDto(pauta));
+            this.entityManager.detach(pauta);
+        });
     }
 
     @Override
@@ -84,9 +165,13 @@ public class PautaServiceImpl implements PautaService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public RespostaPautaDto buscarPautaAtivaPorId(Long pautaId) {
         LocalDateTime dataAtual = this.utils.obterDataAtual();
 
+        if (this.registroSessoesAtivas.buscar(pautaId, dataAtual).isEmpty())
+            throw new NoSuchElementException("Pauta informada não possui sessão ativa.");
+
         Pauta pauta = this.pautaRepository.findByIdAndSessaoVotacaoAtiva(pautaId, dataAtual)
                 .orElseThrow(() -> new NoSuchElementException("Pauta informada não possui sessão ativa."));
 
@@ -94,10 +179,46 @@ public class PautaServiceImpl implements PautaService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DetalhesPautaDto obterDetalhePautaSessaoVotacaoNaoNula(Long pautaId) {
         Usuario usuario = usuarioService.buscarUsuarioLogado();
         Pauta pauta = this.pautaRepository.findByIdAndUsuarioIdAndSessaoVotacaoNotNull(pautaId, usuario.getId())
                 .orElseThrow(() -> new NoSuchElementException("Pauta não encontrada."));
-        return pautaMapper.toDetalhesPautaDto(pauta);
+        DetalhesPautaDto detalhes = pautaMapper.toDetalhesPautaDto(pauta);
+        this.snapshotsPautasEncerradas.registrar(pauta, detalhes);
+        return detalhes;
+    }
+
+    @Override
+    public Optional<SnapshotPauta> buscarSnapshotDetalhePauta(Long pautaId) {
+        Usuario usuario = usuarioService.buscarUsuarioLogado();
+        return this.snapshotsPautasEncerradas.buscar(pautaId, usuario.getId());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String obterEtagPautasAtivas(Categoria categoria, String cursor, Integer limite) {
+        CursorPauta posicao = CursorPauta.decodificar(cursor);
+        Integer limiteValidado = PautaValidacoes.validarLimite(limite);
+
+        return this.pautaRepository.findVersaoPautasAtivas(this.utils.obterDataAtual())
+                .etag(categoria, posicao, limiteValidado);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String obterEtagPautaAtiva(Long pautaId) {
+        return this.pautaRepository.findVersaoSessaoAtivaById(pautaId, this.utils.obterDataAtual())
+                .map(versao -> "pauta-" + pautaId + "-" + versao)
+                .orElse(null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String obterEtagDetalhePauta(Long pautaId) {
+        Usuario usuario = usuarioService.buscarUsuarioLogado();
+        return this.pautaRepository.findVersaoSessaoByIdAndUsuarioId(pautaId, usuario.getId())
+                .map(versao -> SnapshotsPautasEncerradas.gerarEtag(pautaId, versao))
+                .orElse(null);
     }
 }
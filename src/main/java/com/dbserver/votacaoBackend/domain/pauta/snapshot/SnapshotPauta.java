@@ -0,0 +1,4 @@
+package com.dbserver.votacaoBackend.domain.pauta.snapshot;
+
+public record SnapshotPauta(Long usuarioId, String etag, byte[] json) {
+}
@@ -0,0 +1,77 @@
+package com.dbserver.votacaoBackend.domain.pauta.snapshot;
+
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.dbserver.votacaoBackend.domain.pauta.Pauta;
+import com.dbserver.votacaoBackend.domain.pauta.dto.DetalhesPautaDto;
+import com.dbserver.votacaoBackend.domain.pauta.mapper.PautaMapper;
+import com.dbserver.votacaoBackend.domain.pauta.repository.PautaRepository;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.SessaoVotacao;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.registro.SessaoVotacaoEncerrada;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Component
+public class SnapshotsPautasEncerradas {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SnapshotsPautasEncerradas.class);
+
+    private PautaRepository pautaRepository;
+    private PautaMapper pautaMapper;
+    private ObjectMapper objectMapper;
+    private Cache<Long, SnapshotPauta> snapshots;
+
+    public SnapshotsPautasEncerradas(PautaRepository pautaRepository,
+            PautaMapper pautaMapper,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${api.votacao.snapshot.tamanho-maximo:10000}") long tamanhoMaximo) {
+        this.pautaRepository = pautaRepository;
+        this.pautaMapper = pautaMapper;
+        this.objectMapper = objectMapper;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, this.snapshots, "votacao.snapshots.pautas");
+    }
+
+    public static String gerarEtag(Long pautaId, long versao) {
+        return "detalhes-" + pautaId + "-" + versao;
+    }
+
+    public Optional<SnapshotPauta> buscar(Long pautaId, Long usuarioId) {
+        return Optional.ofNullable(this.snapshots.getIfPresent(pautaId))
+                .filter(snapshot -> snapshot.usuarioId().equals(usuarioId));
+    }
+
+    @EventListener
+    public void aoEncerrarSessao(SessaoVotacaoEncerrada evento) {
+        this.pautaRepository.findByIdAndSessaoVotacaoNotNull(evento.pautaId())
+                .ifPresent(pauta -> this.registrar(pauta, this.pautaMapper.toDetalhesPautaDto(pauta)));
+    }
+
+    public void registrar(Pauta pauta, DetalhesPautaDto detalhes) {
+        SessaoVotacao sessaoVotacao = pauta.getSessaoVotacao();
+        if (sessaoVotacao == null || sessaoVotacao.getStatus() == null)
+            return;
+
+        try {
+            this.snapshots.put(pauta.getId(), new SnapshotPauta(pauta.getUsuario().getId(),
+                    gerarEtag(pauta.getId(), sessaoVotacao.getVersao()),
+                    this.objectMapper.writeValueAsBytes(detalhes)));
+        } catch (JsonProcessingException e) {
+            LOGGER.warn("Não foi possível gerar snapshot da pauta {}.", pauta.getId(), e);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import com.dbserver.votacaoBackend.domain.usuario.validacoes.UsuarioValidacoes;
 
 @Component
 public class PautaValidacoes {
+    public static final int LIMITE_MAXIMO = 200;
 
     public void validarCriarPautaDtoNaoNula(CriarPautaDto dto) {
         if (dto == null)
@@ -32,4 +33,14 @@ public class PautaValidacoes {
         if (assunto == null || assunto.trim().isEmpty())
             throw new IllegalArgumentException("Assunto deve ser informado.");
     }
+
+    public static Integer validarLimite(Integer limite) {
+        if (limite == null)
+            return null;
+
+        if (limite < 1)
+            throw new IllegalArgumentException("Limite deve ser maior que zero.");
+
+        return Math.min(limite, LIMITE_MAXIMO);
+    }
 }
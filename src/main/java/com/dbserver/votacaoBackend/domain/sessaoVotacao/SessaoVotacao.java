@@ -4,20 +4,29 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.SQLRestriction;
+
 import com.dbserver.votacaoBackend.domain.pauta.Pauta;
 import com.dbserver.votacaoBackend.domain.pauta.validacoes.PautaValidacoes;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.enums.StatusSessaoVotacao;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.enums.TipoDeVotoEnum;
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.validacoes.SessaoVotacaoValidacoes;
 import com.dbserver.votacaoBackend.domain.voto.Voto;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.ManyToMany;
+import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -26,6 +35,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_sessao_votacao_pauta_id", columnList = "pauta_id"),
+        @Index(name = "idx_sessao_votacao_data_fechamento", columnList = "data_fechamento"),
+        @Index(name = "idx_sessao_votacao_versao", columnList = "versao") })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -40,18 +53,33 @@ public class SessaoVotacao {
     @JoinColumn(name = "pauta_id")
     private Pauta pauta;
 
-    @ManyToMany(cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "sessaoVotacao", cascade = CascadeType.REMOVE)
+    @SQLRestriction("tipo_de_voto = 'VOTO_POSITIVO'")
     private List<Voto> votosPositivos;
 
-    @ManyToMany(cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "sessaoVotacao", cascade = CascadeType.REMOVE)
+    @SQLRestriction("tipo_de_voto = 'VOTO_NEGATIVO'")
     private List<Voto> votosNegativos;
 
+    @Column(nullable = false, updatable = false)
+    private int quantidadeVotosPositivos;
+
+    @Column(nullable = false, updatable = false)
+    private int quantidadeVotosNegativos;
+
     @Column
     private LocalDateTime dataAbertura;
 
-    @Column
+    @Column(name = "data_fechamento")
     private LocalDateTime dataFechamento;
 
+    @Enumerated(EnumType.STRING)
+    @Column(insertable = false, updatable = false)
+    private StatusSessaoVotacao status;
+
+    @Column(nullable = false, updatable = false)
+    private long versao;
+
     @Transient
     private boolean ativa;
 
@@ -63,7 +91,8 @@ public class SessaoVotacao {
             PautaValidacoes.validarPautaNaoNula(this.pauta);
             SessaoVotacaoValidacoes.validarDataDeAbertura(this.dataAbertura);
             SessaoVotacaoValidacoes.validarDataDeFechamento(this.dataFechamento, this.dataAbertura);
-            return new SessaoVotacao(id, pauta, votosPositivos, votosNegativos, dataAbertura, dataFechamento, false);
+            return new SessaoVotacao(id, pauta, votosPositivos, votosNegativos, 0, 0, dataAbertura, dataFechamento,
+                    null, 0, false);
         }
     }
 
@@ -71,14 +100,22 @@ public class SessaoVotacao {
         if (voto == null)
             throw new IllegalArgumentException("Voto não deve ser nulo.");
 
-        this.votosPositivos.add(voto);
+        voto.setSessaoVotacao(this);
+        voto.setTipoDeVoto(TipoDeVotoEnum.VOTO_POSITIVO);
+        if (Hibernate.isInitialized(this.votosPositivos))
+            this.votosPositivos.add(voto);
+        this.quantidadeVotosPositivos++;
     }
 
     public void setVotosNegativos(Voto voto) {
         if (voto == null)
             throw new IllegalArgumentException("Voto não deve ser nulo.");
 
-        this.votosNegativos.add(voto);
+        voto.setSessaoVotacao(this);
+        voto.setTipoDeVoto(TipoDeVotoEnum.VOTO_NEGATIVO);
+        if (Hibernate.isInitialized(this.votosNegativos))
+            this.votosNegativos.add(voto);
+        this.quantidadeVotosNegativos++;
     }
 
     public boolean isAtiva() {
@@ -0,0 +1,14 @@
+package com.dbserver.votacaoBackend.domain.sessaoVotacao.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public record InserirVotosExternosDto(
+    @NotEmpty(message = "Votos devem ser informados.")
+    @Size(max = InserirVotosExternosDto.TAMANHO_MAXIMO, message = "Lote deve conter no máximo 5000 votos.")
+    List<InserirVotoExternoDto> votos
+) {
+    public static final int TAMANHO_MAXIMO = 5000;
+}
@@ -2,6 +2,8 @@ package com.dbserver.votacaoBackend.domain.sessaoVotacao.dto;
 
 import java.time.LocalDateTime;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 
 public record RespostaSessaoVotacaoDto(
 
@@ -16,6 +18,14 @@ public record RespostaSessaoVotacaoDto(
 
         LocalDateTime dataFechamento,
         
-        boolean sessaoAtiva
+        boolean sessaoAtiva,
+
+        @JsonIgnore
+        boolean gravacaoPendente
         ) {
-}
\ No newline at end of file
+
+    public RespostaSessaoVotacaoDto comGravacaoPendente() {
+        return new RespostaSessaoVotacaoDto(id, pautaId, votosPositivos, votosNegativos, dataAbertura,
+                dataFechamento, sessaoAtiva, true);
+    }
+}
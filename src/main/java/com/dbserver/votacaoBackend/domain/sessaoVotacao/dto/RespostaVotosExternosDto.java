@@ -0,0 +1,12 @@
+package com.dbserver.votacaoBackend.domain.sessaoVotacao.dto;
+
+import java.util.List;
+
+public record RespostaVotosExternosDto(long aceitos, long rejeitados, List<ResultadoVotoExternoDto> resultados) {
+
+    public static RespostaVotosExternosDto de(List<ResultadoVotoExternoDto> resultados) {
+        long aceitos = resultados.stream().filter(ResultadoVotoExternoDto::aceito).count();
+
+        return new RespostaVotosExternosDto(aceitos, resultados.size() - aceitos, resultados);
+    }
+}
@@ -0,0 +1,12 @@
+package com.dbserver.votacaoBackend.domain.sessaoVotacao.dto;
+
+public record ResultadoVotoExternoDto(int indice, boolean aceito, String erro) {
+
+    public static ResultadoVotoExternoDto aceito(int indice) {
+        return new ResultadoVotoExternoDto(indice, true, null);
+    }
+
+    public static ResultadoVotoExternoDto rejeitado(int indice, RuntimeException erro) {
+        return new ResultadoVotoExternoDto(indice, false, erro.getMessage());
+    }
+}
@@ -0,0 +1,251 @@
+package com.dbserver.votacaoBackend.domain.sessaoVotacao.ingestao;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.dbserver.votacaoBackend.domain.voto.Voto;
+import com.dbserver.votacaoBackend.domain.voto.repository.VotoRepository;
+import com.dbserver.votacaoBackend.domain.voto.service.VotoServiceImpl;
+import com.dbserver.votacaoBackend.infra.exceptions.VotoDuplicadoExeption;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+@Component
+public class IngestaoVotos {
+    private static final Logger LOGGER = LoggerFactory.getLogger(IngestaoVotos.class);
+
+    private VotoServiceImpl votoService;
+    private VotoRepository votoRepository;
+    private boolean habilitada;
+    private int tamanhoLote;
+    private long intervaloMaximoNanos;
+    private long intervaloRetentativaNanos;
+    private long proximaRetentativa;
+    private BlockingQueue<VotoPendente> fila;
+    private Queue<VotoPendente> retentativas = new ConcurrentLinkedQueue<>();
+    private Set<String> votosEmAndamento = ConcurrentHashMap.newKeySet();
+    private Set<Long> sessoesEmEncerramento = ConcurrentHashMap.newKeySet();
+    private Timer tempoDescarga;
+    private Counter votosRecusados;
+    private Counter votosPerdidos;
+    private ExecutorService executor;
+    private volatile boolean ativa;
+
+    public IngestaoVotos(VotoServiceImpl votoService,
+            VotoRepository votoRepository,
+            MeterRegistry meterRegistry,
+            @Value("${api.votacao.ingestao.habilitada:false}") boolean habilitada,
+            @Value("${api.votacao.ingestao.capacidade-fila:10000}") int capacidadeFila,
+            @Value("${api.votacao.ingestao.tamanho-lote:200}") int tamanhoLote,
+            @Value("${api.votacao.ingestao.intervalo-maximo-ms:20}") long intervaloMaximoMs,
+            @Value("${api.votacao.ingestao.intervalo-retentativa-ms:1000}") long intervaloRetentativaMs) {
+        this.votoService = votoService;
+        this.votoRepository = votoRepository;
+        this.habilitada = habilitada;
+        this.tamanhoLote = tamanhoLote;
+        this.intervaloMaximoNanos = TimeUnit.MILLISECONDS.toNanos(intervaloMaximoMs);
+        this.intervaloRetentativaNanos = TimeUnit.MILLISECONDS.toNanos(intervaloRetentativaMs);
+        this.fila = new ArrayBlockingQueue<>(capacidadeFila);
+        this.tempoDescarga = Timer.builder("votacao.ingestao.descarga")
+                .description("Tempo de gravação de cada lote de votos")
+                .register(meterRegistry);
+        this.votosRecusados = Counter.builder("votacao.ingestao.votos.recusados")
+                .description("Votos enfileirados que já estavam registrados")
+                .register(meterRegistry);
+        this.votosPerdidos = Counter.builder("votacao.ingestao.votos.perdidos")
+                .description("Votos aceitos que não puderam ser gravados porque a sessão já estava encerrada")
+                .register(meterRegistry);
+        meterRegistry.gauge("votacao.ingestao.fila", this.fila, BlockingQueue::size);
+        meterRegistry.gauge("votacao.ingestao.retentativas", this.retentativas, Queue::size);
+    }
+
+    @PostConstruct
+    public void iniciar() {
+        if (!this.habilitada)
+            return;
+
+        this.ativa = true;
+        this.proximaRetentativa = System.nanoTime();
+        this.executor = Executors.newSingleThreadExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "ingestao-votos");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.execute(this::processar);
+    }
+
+    @PreDestroy
+    public void encerrar() throws InterruptedException {
+        if (this.executor == null)
+            return;
+
+        this.ativa = false;
+        this.executor.shutdown();
+        this.executor.awaitTermination(10, TimeUnit.SECONDS);
+        this.descarregar();
+
+        if (!this.retentativas.isEmpty())
+            LOGGER.error("{} votos aceitos não puderam ser gravados antes do encerramento.", this.retentativas.size());
+    }
+
+    public boolean isHabilitada() {
+        return this.habilitada;
+    }
+
+    public boolean enfileirar(Voto voto) {
+        VotoPendente votoPendente = VotoPendente.de(voto);
+        String chave = votoPendente.chave();
+
+        if (!this.votosEmAndamento.add(chave))
+            throw new VotoDuplicadoExeption();
+
+        if (this.sessoesEmEncerramento.contains(voto.getSessaoVotacao().getId())) {
+            this.votosEmAndamento.remove(chave);
+            throw new IllegalStateException("Sessão de votação já encerrada.");
+        }
+
+        if (this.votoRepository.existsBySessaoVotacaoIdAndCpf(voto.getSessaoVotacao().getId(), voto.getCpf())) {
+            this.votosEmAndamento.remove(chave);
+            throw new VotoDuplicadoExeption();
+        }
+
+        if (!this.fila.offer(votoPendente)) {
+            this.votosEmAndamento.remove(chave);
+            return false;
+        }
+
+        return true;
+    }
+
+    public void iniciarEncerramento(Long sessaoVotacaoId) {
+        this.sessoesEmEncerramento.add(sessaoVotacaoId);
+    }
+
+    public void concluirEncerramento(Long sessaoVotacaoId) {
+        this.sessoesEmEncerramento.remove(sessaoVotacaoId);
+    }
+
+    public boolean possuiVotosPendentes(Long sessaoVotacaoId) {
+        String prefixo = VotoPendente.prefixoChave(sessaoVotacaoId);
+        return this.votosEmAndamento.stream().anyMatch(chave -> chave.startsWith(prefixo));
+    }
+
+    public void descarregar() {
+        List<VotoPendente> lote = new ArrayList<>(this.tamanhoLote);
+
+        while (this.fila.drainTo(lote, this.tamanhoLote) > 0) {
+            this.gravar(lote);
+            lote.clear();
+        }
+
+        this.regravarPendentes();
+    }
+
+    private void processar() {
+        List<VotoPendente> lote = new ArrayList<>(this.tamanhoLote);
+
+        while (this.ativa) {
+            try {
+                this.coletarLote(lote);
+                if (!lote.isEmpty())
+                    this.gravar(lote);
+                if (!this.retentativas.isEmpty() && System.nanoTime() - this.proximaRetentativa >= 0) {
+                    this.proximaRetentativa = System.nanoTime() + this.intervaloRetentativaNanos;
+                    this.regravarPendentes();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lote.clear();
+            }
+        }
+    }
+
+    private void coletarLote(List<VotoPendente> lote) throws InterruptedException {
+        VotoPendente primeiro = this.fila.poll(this.intervaloMaximoNanos, TimeUnit.NANOSECONDS);
+        if (primeiro == null)
+            return;
+
+        lote.add(primeiro);
+        long limite = System.nanoTime() + this.intervaloMaximoNanos;
+
+        while (lote.size() < this.tamanhoLote) {
+            this.fila.drainTo(lote, this.tamanhoLote - lote.size());
+
+            long restante = limite - System.nanoTime();
+            if (lote.size() >= this.tamanhoLote || restante <= 0)
+                return;
+
+            VotoPendente proximo = this.fila.poll(restante, TimeUnit.NANOSECONDS);
+            if (proximo == null)
+                return;
+
+            lote.add(proximo);
+        }
+    }
+
+    private void regravarPendentes() {
+        List<VotoPendente> pendentes = new ArrayList<>();
+        for (int restantes = this.retentativas.size(); restantes > 0; restantes--)
+            pendentes.add(this.retentativas.poll());
+
+        for (int inicio = 0; inicio < pendentes.size(); inicio += this.tamanhoLote)
+            this.gravar(pendentes.subList(inicio, Math.min(inicio + this.tamanhoLote, pendentes.size())));
+    }
+
+    private void gravar(List<VotoPendente> lote) {
+        Timer.Sample amostra = Timer.start();
+        try {
+            this.votoService.registrarVotos(lote.stream().map(VotoPendente::toVoto).toList());
+            lote.forEach(this::liberar);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Falha ao gravar lote de {} votos, gravando individualmente.", lote.size(), e);
+            lote.forEach(this::gravarIndividualmente);
+        } finally {
+            amostra.stop(this.tempoDescarga);
+        }
+    }
+
+    private void gravarIndividualmente(VotoPendente votoPendente) {
+        try {
+            this.votoService.registrarVoto(votoPendente.toVoto());
+            this.liberar(votoPendente);
+        } catch (VotoDuplicadoExeption e) {
+            this.votosRecusados.increment();
+            this.liberar(votoPendente);
+            LOGGER.warn("Voto na sessão {} recusado: {}", votoPendente.sessaoVotacao().getId(), e.getMessage());
+        } catch (IllegalStateException e) {
+            this.votosPerdidos.increment();
+            this.liberar(votoPendente);
+            LOGGER.error("Voto aceito na sessão {} não foi gravado: {}", votoPendente.sessaoVotacao().getId(),
+                    e.getMessage());
+        } catch (RuntimeException e) {
+            this.retentativas.add(votoPendente);
+            LOGGER.error("Não foi possível gravar voto na sessão {}, nova tentativa agendada.",
+                    votoPendente.sessaoVotacao().getId(), e);
+        }
+    }
+
+    private void liberar(VotoPendente votoPendente) {
+        this.votosEmAndamento.remove(votoPendente.chave());
+    }
+}
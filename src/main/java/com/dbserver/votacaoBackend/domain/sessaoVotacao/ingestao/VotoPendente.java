@@ -0,0 +1,31 @@
+package com.dbserver.votacaoBackend.domain.sessaoVotacao.ingestao;
+
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.SessaoVotacao;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.enums.TipoDeVotoEnum;
+import com.dbserver.votacaoBackend.domain.usuario.Cpf;
+import com.dbserver.votacaoBackend.domain.usuario.Usuario;
+import com.dbserver.votacaoBackend.domain.voto.Voto;
+
+public record VotoPendente(Cpf cpf, Usuario usuario, SessaoVotacao sessaoVotacao, TipoDeVotoEnum tipoDeVoto) {
+
+    public static VotoPendente de(Voto voto) {
+        return new VotoPendente(voto.getCpf(), voto.getUsuario(), voto.getSessaoVotacao(), voto.getTipoDeVoto());
+    }
+
+    public static String prefixoChave(Long sessaoVotacaoId) {
+        return sessaoVotacaoId + ":";
+    }
+
+    public String chave() {
+        return prefixoChave(this.sessaoVotacao.getId()) + this.cpf;
+    }
+
+    public Voto toVoto() {
+        return Voto.builder()
+                .cpf(this.cpf)
+                .usuario(this.usuario)
+                .sessaoVotacao(this.sessaoVotacao)
+                .tipoDeVoto(this.tipoDeVoto)
+                .build();
+    }
+}
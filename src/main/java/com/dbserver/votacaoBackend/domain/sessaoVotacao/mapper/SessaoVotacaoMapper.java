@@ -14,13 +14,16 @@ public interface SessaoVotacaoMapper {
 
     @Mapping(target = "votosPositivos", ignore = true)
     @Mapping(target = "votosNegativos", ignore = true)
+    @Mapping(target = "quantidadeVotosPositivos", ignore = true)
+    @Mapping(target = "quantidadeVotosNegativos", ignore = true)
     @Mapping(target = "pauta", source = "pauta")
     @Mapping(target = "ativa", ignore = true)
     SessaoVotacao toSessaoVotacao(Pauta pauta, LocalDateTime dataAbertura, LocalDateTime dataFechamento);
 
     @Mapping(target = "pautaId", expression = "java(sessaoVotacao.getPauta().getId())")
-    @Mapping(target = "votosPositivos", expression = "java(sessaoVotacao.getVotosPositivos().size())")
-    @Mapping(target = "votosNegativos", expression = "java(sessaoVotacao.getVotosNegativos().size())")
+    @Mapping(target = "votosPositivos", expression = "java(sessaoVotacao.getQuantidadeVotosPositivos())")
+    @Mapping(target = "votosNegativos", expression = "java(sessaoVotacao.getQuantidadeVotosNegativos())")
     @Mapping(target = "sessaoAtiva", expression = "java(sessaoVotacao.isAtiva())")
+    @Mapping(target = "gravacaoPendente", ignore = true)
     RespostaSessaoVotacaoDto toRespostaSessaoVotacaoDto(SessaoVotacao sessaoVotacao);
 }
@@ -0,0 +1,139 @@
+package com.dbserver.votacaoBackend.domain.sessaoVotacao.registro;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.ingestao.IngestaoVotos;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.repository.SessaoVotacaoRepository;
+import com.dbserver.votacaoBackend.utils.Utils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PreDestroy;
+
+@Component
+public class RegistroSessoesAtivas {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RegistroSessoesAtivas.class);
+
+    private SessaoVotacaoRepository sessaoVotacaoRepository;
+    private Utils utils;
+    private ApplicationEventPublisher eventPublisher;
+    private IngestaoVotos ingestaoVotos;
+    private Map<Long, SessaoAtiva> sessoes = new ConcurrentHashMap<>();
+    private Cache<Long, Boolean> pautasSemSessaoAtiva;
+    private long atrasoEncerramentoMs;
+    private long intervaloEsperaIngestaoMs;
+    private ScheduledThreadPoolExecutor expiracoes;
+
+    public RegistroSessoesAtivas(SessaoVotacaoRepository sessaoVotacaoRepository,
+            Utils utils,
+            ApplicationEventPublisher eventPublisher,
+            IngestaoVotos ingestaoVotos,
+            @Value("${api.votacao.registro.tamanho-maximo-negativos:100000}") long tamanhoMaximoNegativos,
+            @Value("${api.votacao.registro.duracao-negativos-ms:1000}") long duracaoNegativosMs,
+            @Value("${api.votacao.registro.atraso-encerramento-ms:1000}") long atrasoEncerramentoMs,
+            @Value("${api.votacao.registro.intervalo-espera-ingestao-ms:100}") long intervaloEsperaIngestaoMs) {
+        this.sessaoVotacaoRepository = sessaoVotacaoRepository;
+        this.utils = utils;
+        this.eventPublisher = eventPublisher;
+        this.ingestaoVotos = ingestaoVotos;
+        this.atrasoEncerramentoMs = atrasoEncerramentoMs;
+        this.intervaloEsperaIngestaoMs = intervaloEsperaIngestaoMs;
+        this.pautasSemSessaoAtiva = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximoNegativos)
+                .expireAfterWrite(Duration.ofMillis(duracaoNegativosMs))
+                .build();
+        this.expiracoes = new ScheduledThreadPoolExecutor(1, tarefa -> {
+            Thread thread = new Thread(tarefa, "registro-sessoes-ativas");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.expiracoes.setRemoveOnCancelPolicy(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruir() {
+        this.encerrarSessoes();
+        this.sessaoVotacaoRepository.findAllSessoesAtivas(this.utils.obterDataAtual())
+                .forEach(this::registrar);
+    }
+
+    @PreDestroy
+    public void desligar() {
+        this.expiracoes.shutdownNow();
+    }
+
+    public void registrar(SessaoAtiva sessaoAtiva) {
+        this.sessoes.put(sessaoAtiva.pautaId(), sessaoAtiva);
+        this.pautasSemSessaoAtiva.invalidate(sessaoAtiva.pautaId());
+
+        long atraso = Duration.between(this.utils.obterDataAtual(), sessaoAtiva.dataFechamento()).toMillis();
+        this.expiracoes.schedule(() -> this.sessoes.remove(sessaoAtiva.pautaId(), sessaoAtiva),
+                Math.max(atraso, 0), TimeUnit.MILLISECONDS);
+        this.expiracoes.schedule(() -> this.encerrar(sessaoAtiva), Math.max(atraso, 0) + this.atrasoEncerramentoMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    public void encerrarSessoes() {
+        try {
+            this.sessaoVotacaoRepository.encerrarSessoes(this.utils.obterDataAtual());
+        } catch (RuntimeException e) {
+            LOGGER.error("Não foi possível registrar o resultado das sessões encerradas.", e);
+        }
+    }
+
+    private void encerrar(SessaoAtiva sessaoAtiva) {
+        this.ingestaoVotos.iniciarEncerramento(sessaoAtiva.sessaoVotacaoId());
+        if (this.ingestaoVotos.possuiVotosPendentes(sessaoAtiva.sessaoVotacaoId())) {
+            LOGGER.info("Aguardando gravação dos votos pendentes da sessão {} para encerrá-la.",
+                    sessaoAtiva.sessaoVotacaoId());
+            this.expiracoes.schedule(() -> this.encerrar(sessaoAtiva), this.intervaloEsperaIngestaoMs,
+                    TimeUnit.MILLISECONDS);
+            return;
+        }
+
+        try {
+            this.sessaoVotacaoRepository.encerrarSessao(sessaoAtiva.sessaoVotacaoId(), this.utils.obterDataAtual());
+            this.ingestaoVotos.concluirEncerramento(sessaoAtiva.sessaoVotacaoId());
+        } catch (RuntimeException e) {
+            LOGGER.error("Não foi possível registrar o resultado da sessão {}, nova tentativa agendada.",
+                    sessaoAtiva.sessaoVotacaoId(), e);
+            this.expiracoes.schedule(() -> this.encerrar(sessaoAtiva), this.intervaloEsperaIngestaoMs,
+                    TimeUnit.MILLISECONDS);
+            return;
+        }
+
+        try {
+            this.eventPublisher.publishEvent(
+                    new SessaoVotacaoEncerrada(sessaoAtiva.pautaId(), sessaoAtiva.sessaoVotacaoId()));
+        } catch (RuntimeException e) {
+            LOGGER.warn("Falha ao notificar encerramento da sessão {}.", sessaoAtiva.sessaoVotacaoId(), e);
+        }
+    }
+
+    public Optional<SessaoAtiva> buscar(Long pautaId, LocalDateTime dataAtual) {
+        SessaoAtiva sessaoAtiva = this.sessoes.get(pautaId);
+        if (sessaoAtiva != null)
+            return sessaoAtiva.isAtivaEm(dataAtual) ? Optional.of(sessaoAtiva) : Optional.empty();
+
+        if (this.pautasSemSessaoAtiva.getIfPresent(pautaId) != null)
+            return Optional.empty();
+
+        Optional<SessaoAtiva> sessaoDoBanco = this.sessaoVotacaoRepository.findSessaoAtivaByPautaId(pautaId, dataAtual);
+        sessaoDoBanco.ifPresentOrElse(this::registrar, () -> this.pautasSemSessaoAtiva.put(pautaId, Boolean.TRUE));
+        return sessaoDoBanco;
+    }
+}
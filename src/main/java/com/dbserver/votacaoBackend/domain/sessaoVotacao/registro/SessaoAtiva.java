@@ -0,0 +1,17 @@
+package com.dbserver.votacaoBackend.domain.sessaoVotacao.registro;
+
+import java.time.LocalDateTime;
+
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.SessaoVotacao;
+
+public record SessaoAtiva(Long pautaId, Long sessaoVotacaoId, LocalDateTime dataFechamento) {
+
+    public static SessaoAtiva de(SessaoVotacao sessaoVotacao) {
+        return new SessaoAtiva(sessaoVotacao.getPauta().getId(), sessaoVotacao.getId(),
+                sessaoVotacao.getDataFechamento());
+    }
+
+    public boolean isAtivaEm(LocalDateTime dataAtual) {
+        return this.dataFechamento.isAfter(dataAtual);
+    }
+}
@@ -0,0 +1,4 @@
+package com.dbserver.votacaoBackend.domain.sessaoVotacao.registro;
+
+public record SessaoVotacaoEncerrada(Long pautaId, Long sessaoVotacaoId) {
+}
@@ -1,18 +1,42 @@
 package com.dbserver.votacaoBackend.domain.sessaoVotacao.repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.SessaoVotacao;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.registro.SessaoAtiva;
 
 @Repository
 public interface SessaoVotacaoRepository extends JpaRepository<SessaoVotacao, Long>{
     
     @Query("SELECT s FROM SessaoVotacao s WHERE s.pauta.id = :pautaId AND s.dataFechamento > :dataAtual")
     Optional<SessaoVotacao> findByPautaIdAndSessaoVotacaoAtiva(@Param("pautaId") Long pautaId, @Param("dataAtual") LocalDateTime dataAtual);
+
+    @Query("SELECT new com.dbserver.votacaoBackend.domain.sessaoVotacao.registro.SessaoAtiva(s.pauta.id, s.id, s.dataFechamento) FROM SessaoVotacao s WHERE s.pauta.id = :pautaId AND s.dataFechamento > :dataAtual")
+    Optional<SessaoAtiva> findSessaoAtivaByPautaId(@Param("pautaId") Long pautaId, @Param("dataAtual") LocalDateTime dataAtual);
+
+    @Query("SELECT new com.dbserver.votacaoBackend.domain.sessaoVotacao.registro.SessaoAtiva(s.pauta.id, s.id, s.dataFechamento) FROM SessaoVotacao s WHERE s.dataFechamento > :dataAtual")
+    List<SessaoAtiva> findAllSessoesAtivas(@Param("dataAtual") LocalDateTime dataAtual);
+
+    @Modifying
+    @Query("UPDATE SessaoVotacao s SET s.quantidadeVotosPositivos = s.quantidadeVotosPositivos + :votosPositivos, s.quantidadeVotosNegativos = s.quantidadeVotosNegativos + :votosNegativos, s.versao = (SELECT COALESCE(MAX(v.versao), 0) + 1 FROM SessaoVotacao v) WHERE s.id = :id AND s.status IS NULL")
+    int incrementarVotos(@Param("id") Long id, @Param("votosPositivos") int votosPositivos, @Param("votosNegativos") int votosNegativos);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE SessaoVotacao s SET s.status = CASE WHEN s.quantidadeVotosPositivos > s.quantidadeVotosNegativos THEN com.dbserver.votacaoBackend.domain.sessaoVotacao.enums.StatusSessaoVotacao.APROVADA ELSE com.dbserver.votacaoBackend.domain.sessaoVotacao.enums.StatusSessaoVotacao.REPROVADA END, s.versao = (SELECT COALESCE(MAX(v.versao), 0) + 1 FROM SessaoVotacao v) WHERE s.status IS NULL AND s.dataFechamento <= :dataAtual")
+    int encerrarSessoes(@Param("dataAtual") LocalDateTime dataAtual);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE SessaoVotacao s SET s.status = CASE WHEN s.quantidadeVotosPositivos > s.quantidadeVotosNegativos THEN com.dbserver.votacaoBackend.domain.sessaoVotacao.enums.StatusSessaoVotacao.APROVADA ELSE com.dbserver.votacaoBackend.domain.sessaoVotacao.enums.StatusSessaoVotacao.REPROVADA END, s.versao = (SELECT COALESCE(MAX(v.versao), 0) + 1 FROM SessaoVotacao v) WHERE s.id = :id AND s.status IS NULL AND s.dataFechamento <= :dataAtual")
+    int encerrarSessao(@Param("id") Long id, @Param("dataAtual") LocalDateTime dataAtual);
 }
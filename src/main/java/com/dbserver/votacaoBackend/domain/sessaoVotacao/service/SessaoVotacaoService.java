@@ -4,7 +4,9 @@ import com.dbserver.votacaoBackend.domain.sessaoVotacao.SessaoVotacao;
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.dto.AbrirVotacaoDto;
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.dto.InserirVotoExternoDto;
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.dto.InserirVotoInternoDto;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.dto.InserirVotosExternosDto;
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.dto.RespostaSessaoVotacaoDto;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.dto.RespostaVotosExternosDto;
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.enums.TipoDeVotoEnum;
 import com.dbserver.votacaoBackend.domain.voto.Voto;
 
@@ -15,6 +17,8 @@ public interface SessaoVotacaoService {
 
         RespostaSessaoVotacaoDto inserirVotoExterno(InserirVotoExternoDto dto);
 
+        RespostaVotosExternosDto inserirVotosExternos(InserirVotosExternosDto dto, String origem);
+
         SessaoVotacao buscarSessaoVotacaoAtivaPorPautaId(Long pautaId);
 
         SessaoVotacao inserirVotoPorTipoDeVoto(SessaoVotacao sessaoVotacao, Voto voto, TipoDeVotoEnum tipoDeVoto);
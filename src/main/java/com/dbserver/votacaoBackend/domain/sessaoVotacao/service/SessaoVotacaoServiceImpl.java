@@ -1,23 +1,49 @@
 package com.dbserver.votacaoBackend.domain.sessaoVotacao.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.stereotype.Service;
 
+import com.dbserver.votacaoBackend.domain.autenticacao.Autenticacao;
+import com.dbserver.votacaoBackend.domain.autenticacao.service.AutenticacaoServiceImpl;
 import com.dbserver.votacaoBackend.domain.pauta.Pauta;
 import com.dbserver.votacaoBackend.domain.pauta.service.PautaServiceImpl;
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.SessaoVotacao;
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.dto.AbrirVotacaoDto;
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.dto.InserirVotoExternoDto;
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.dto.InserirVotoInternoDto;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.dto.InserirVotosExternosDto;
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.dto.RespostaSessaoVotacaoDto;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.dto.RespostaVotosExternosDto;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.dto.ResultadoVotoExternoDto;
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.enums.TipoDeVotoEnum;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.ingestao.IngestaoVotos;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.ingestao.VotoPendente;
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.mapper.SessaoVotacaoMapper;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.registro.RegistroSessoesAtivas;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.registro.SessaoAtiva;
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.repository.SessaoVotacaoRepository;
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.validacoes.SessaoVotacaoValidacoes;
+import com.dbserver.votacaoBackend.domain.usuario.Cpf;
 import com.dbserver.votacaoBackend.domain.usuario.Usuario;
 import com.dbserver.votacaoBackend.domain.usuario.service.UsuarioServiceImpl;
 import com.dbserver.votacaoBackend.domain.voto.Voto;
 import com.dbserver.votacaoBackend.domain.voto.mapper.VotoMapper;
+import com.dbserver.votacaoBackend.domain.voto.service.VotoServiceImpl;
+import com.dbserver.votacaoBackend.infra.exceptions.SobrecargaExeption;
+import com.dbserver.votacaoBackend.infra.metricas.MetricasVotacao;
+import com.dbserver.votacaoBackend.infra.security.limite.LimiteVotosEmLote;
 import com.dbserver.votacaoBackend.utils.Utils;
 
 @Service
@@ -29,6 +55,12 @@ public class SessaoVotacaoServiceImpl implements SessaoVotacaoService {
     private SessaoVotacaoMapper sessaoVotacaoMapper;
     private SessaoVotacaoValidacoes sessaoVotacaoValidacoes;
     private VotoMapper votoMapper;
+    private VotoServiceImpl votoService;
+    private IngestaoVotos ingestaoVotos;
+    private RegistroSessoesAtivas registroSessoesAtivas;
+    private MetricasVotacao metricasVotacao;
+    private AutenticacaoServiceImpl autenticacaoService;
+    private LimiteVotosEmLote limiteVotosEmLote;
 
     public SessaoVotacaoServiceImpl(SessaoVotacaoRepository sessaoVotacaoRepository,
             UsuarioServiceImpl usuarioService,
@@ -36,7 +68,13 @@ public class SessaoVotacaoServiceImpl implements SessaoVotacaoService {
             PautaServiceImpl pautaService,
             SessaoVotacaoMapper sessaoVotacaoMapper,
             SessaoVotacaoValidacoes sessaoVotacaoValidacoes,
-            VotoMapper votoMapper) {
+            VotoMapper votoMapper,
+            VotoServiceImpl votoService,
+            IngestaoVotos ingestaoVotos,
+            RegistroSessoesAtivas registroSessoesAtivas,
+            MetricasVotacao metricasVotacao,
+            AutenticacaoServiceImpl autenticacaoService,
+            LimiteVotosEmLote limiteVotosEmLote) {
         this.sessaoVotacaoRepository = sessaoVotacaoRepository;
         this.usuarioService = usuarioService;
         this.utils = utils;
@@ -44,6 +82,12 @@ public class SessaoVotacaoServiceImpl implements SessaoVotacaoService {
         this.sessaoVotacaoMapper = sessaoVotacaoMapper;
         this.sessaoVotacaoValidacoes = sessaoVotacaoValidacoes;
         this.votoMapper = votoMapper;
+        this.votoService = votoService;
+        this.ingestaoVotos = ingestaoVotos;
+        this.registroSessoesAtivas = registroSessoesAtivas;
+        this.metricasVotacao = metricasVotacao;
+        this.autenticacaoService = autenticacaoService;
+        this.limiteVotosEmLote = limiteVotosEmLote;
     }
 
     @Override
@@ -62,45 +106,233 @@ public class SessaoVotacaoServiceImpl implements SessaoVotacaoService {
         SessaoVotacao sessaoVotacao = sessaoVotacaoMapper.toSessaoVotacao(pauta, dataAbertura, dataFechamento);
 
         this.sessaoVotacaoRepository.save(sessaoVotacao);
+        this.registroSessoesAtivas.registrar(SessaoAtiva.de(sessaoVotacao));
 
         return sessaoVotacaoMapper.toRespostaSessaoVotacaoDto(sessaoVotacao);
     }
 
     @Override
     public RespostaSessaoVotacaoDto inserirVotoInterno(InserirVotoInternoDto dto) {
-        Usuario usuario = this.usuarioService.buscarUsuarioLogado();
-        SessaoVotacao sessaoVotacao = this.buscarSessaoVotacaoAtivaPorPautaId(dto.pautaId());
+        try {
+            Usuario usuario = this.usuarioService.buscarUsuarioLogado();
+            SessaoVotacao sessaoVotacao = this.buscarSessaoVotacaoAtivaPorPautaId(dto.pautaId());
 
-        return inserirVoto(usuario.getCpf(), usuario, sessaoVotacao, dto.tipoDeVoto());
+            return inserirVoto(usuario.getCpf(), usuario, sessaoVotacao, dto.tipoDeVoto());
+        } catch (RuntimeException e) {
+            this.metricasVotacao.votoRejeitado(e);
+            throw e;
+        }
     }
 
     @Override
     public RespostaSessaoVotacaoDto inserirVotoExterno(InserirVotoExternoDto dto) {
-        Usuario usuario = this.usuarioService.buscarUsuarioPorCpfSeHouver(dto.cpf());
-        SessaoVotacao sessaoVotacao = this.buscarSessaoVotacaoAtivaPorPautaId(dto.pautaId());
-        this.sessaoVotacaoValidacoes.validarSePodeVotarExternamente(dto.cpf(),
-                dto.senha());
+        try {
+            Usuario usuario = this.usuarioService.buscarUsuarioPorCpfSeHouver(dto.cpf());
+            SessaoVotacao sessaoVotacao = this.buscarSessaoVotacaoAtivaPorPautaId(dto.pautaId());
+            this.sessaoVotacaoValidacoes.validarSePodeVotarExternamente(dto.cpf(),
+                    dto.senha());
 
-        return inserirVoto(dto.cpf(), usuario, sessaoVotacao, dto.tipoDeVoto());
+            return inserirVoto(Cpf.de(dto.cpf()), usuario, sessaoVotacao, dto.tipoDeVoto());
+        } catch (RuntimeException e) {
+            this.metricasVotacao.votoRejeitado(e);
+            throw e;
+        }
     }
 
-    private RespostaSessaoVotacaoDto inserirVoto(String cpf, Usuario usuario, SessaoVotacao sessaoVotacao, TipoDeVotoEnum tipoDeVoto){
+    @Override
+    public RespostaVotosExternosDto inserirVotosExternos(InserirVotosExternosDto dto, String origem) {
+        List<InserirVotoExternoDto> votos = dto.votos();
+        ResultadoVotoExternoDto[] resultados = new ResultadoVotoExternoDto[votos.size()];
+        Map<Long, List<Integer>> indicesPorPauta = new LinkedHashMap<>();
+
+        for (int indice = 0; indice < votos.size(); indice++) {
+            InserirVotoExternoDto voto = votos.get(indice);
+
+            if (voto == null || voto.pautaId() == null)
+                resultados[indice] = this.rejeitar(indice, new IllegalArgumentException("Id da pauta deve ser informado."));
+            else
+                indicesPorPauta.computeIfAbsent(voto.pautaId(), pautaId -> new ArrayList<>()).add(indice);
+        }
+
+        Set<Cpf> cpfs = votos.stream()
+                .filter(Objects::nonNull)
+                .flatMap(voto -> Cpf.deSeValido(voto.cpf()).stream())
+                .collect(Collectors.toSet());
+        Map<Cpf, Autenticacao> autenticacoes = this.autenticacaoService.buscarAutenticacoesPorCpfs(cpfs);
+
+        List<List<VotoExternoCandidato>> selecionados = new ArrayList<>(indicesPorPauta.size());
+        indicesPorPauta.forEach((pautaId, indices) -> selecionados.add(
+                this.selecionarVotosExternosDaPauta(pautaId, indices, votos, autenticacoes, resultados)));
+        List<List<VotoExternoCandidato>> candidatosPorPauta = this.limitarVotosExternos(selecionados, origem,
+                resultados);
+
+        Set<Cpf> autorizados = this.autorizarVotosExternos(candidatosPorPauta, autenticacoes);
+
+        candidatosPorPauta.forEach(candidatos -> this.inserirVotosExternosDaPauta(candidatos, autorizados, resultados));
+
+        return RespostaVotosExternosDto.de(Arrays.asList(resultados));
+    }
+
+    private List<VotoExternoCandidato> selecionarVotosExternosDaPauta(Long pautaId, List<Integer> indices,
+            List<InserirVotoExternoDto> votos, Map<Cpf, Autenticacao> autenticacoes,
+            ResultadoVotoExternoDto[] resultados) {
+        SessaoVotacao sessaoVotacao;
+        try {
+            sessaoVotacao = this.buscarSessaoVotacaoAtivaPorPautaId(pautaId);
+        } catch (RuntimeException e) {
+            indices.forEach(indice -> resultados[indice] = this.rejeitar(indice, e));
+            return List.of();
+        }
+
+        Set<Cpf> cpfsQueVotaram = this.votoService.buscarCpfsQueVotaram(sessaoVotacao.getId(), indices.stream()
+                .flatMap(indice -> Cpf.deSeValido(votos.get(indice).cpf()).stream())
+                .collect(Collectors.toSet()));
+        List<VotoExternoCandidato> candidatos = new ArrayList<>(indices.size());
+
+        for (int indice : indices) {
+            InserirVotoExternoDto dto = votos.get(indice);
+            try {
+                if (dto.tipoDeVoto() == null)
+                    throw new IllegalArgumentException("O tipo do voto deve ser informado.");
+
+                Cpf cpf = Cpf.de(dto.cpf());
+                Autenticacao autenticacao = autenticacoes.get(cpf);
+                Voto voto = votoMapper.toVoto(cpf, autenticacao == null ? null : autenticacao.getUsuario());
+
+                SessaoVotacaoValidacoes.validarSeUsuarioPodeVotarSessaoVotacao(sessaoVotacao, voto);
+                SessaoVotacaoValidacoes.validarVotoExternoNaoRepetido(cpfsQueVotaram, voto);
+
+                candidatos.add(new VotoExternoCandidato(indice, sessaoVotacao, voto, dto.senha(), dto.tipoDeVoto()));
+            } catch (RuntimeException e) {
+                resultados[indice] = this.rejeitar(indice, e);
+            }
+        }
+
+        return candidatos;
+    }
+
+    private List<List<VotoExternoCandidato>> limitarVotosExternos(List<List<VotoExternoCandidato>> selecionados,
+            String origem, ResultadoVotoExternoDto[] resultados) {
+        int permitidos = this.limiteVotosEmLote.reservarVotos(origem,
+                selecionados.stream().mapToInt(List::size).sum());
+        Map<Cpf, Boolean> cpfsPermitidos = new HashMap<>();
+        List<List<VotoExternoCandidato>> candidatosPorPauta = new ArrayList<>(selecionados.size());
+
+        for (List<VotoExternoCandidato> candidatos : selecionados) {
+            List<VotoExternoCandidato> permitidosDaPauta = new ArrayList<>(candidatos.size());
+
+            for (VotoExternoCandidato candidato : candidatos) {
+                if (permitidos > 0 && cpfsPermitidos.computeIfAbsent(candidato.voto().getCpf(),
+                        cpf -> this.limiteVotosEmLote.reservarCpf(cpf.toString()))) {
+                    permitidos--;
+                    permitidosDaPauta.add(candidato);
+                } else {
+                    resultados[candidato.indice()] = this.rejeitar(candidato.indice(),
+                            new SobrecargaExeption(LimiteVotosEmLote.MENSAGEM_LIMITE_EXCEDIDO));
+                }
+            }
+
+            candidatosPorPauta.add(permitidosDaPauta);
+        }
+
+        return candidatosPorPauta;
+    }
+
+    private Set<Cpf> autorizarVotosExternos(List<List<VotoExternoCandidato>> candidatosPorPauta,
+            Map<Cpf, Autenticacao> autenticacoes) {
+        Map<Cpf, String> senhasPorCpf = new HashMap<>();
+        Set<Cpf> senhasDivergentes = new HashSet<>();
+
+        candidatosPorPauta.stream().flatMap(List::stream).forEach(candidato -> {
+            Cpf cpf = candidato.voto().getCpf();
+            if (senhasPorCpf.containsKey(cpf) && !Objects.equals(senhasPorCpf.get(cpf), candidato.senha()))
+                senhasDivergentes.add(cpf);
+            else
+                senhasPorCpf.put(cpf, candidato.senha());
+        });
+        senhasPorCpf.keySet().removeAll(senhasDivergentes);
+
+        if (senhasPorCpf.isEmpty())
+            return Set.of();
+
+        return this.sessaoVotacaoValidacoes.filtrarCpfsAutorizadosAVotarExternamente(senhasPorCpf, autenticacoes);
+    }
+
+    private void inserirVotosExternosDaPauta(List<VotoExternoCandidato> candidatos, Set<Cpf> autorizados,
+            ResultadoVotoExternoDto[] resultados) {
+        List<Integer> indicesAceitos = new ArrayList<>(candidatos.size());
+        List<Voto> votosAceitos = new ArrayList<>(candidatos.size());
+
+        for (VotoExternoCandidato candidato : candidatos) {
+            if (!autorizados.contains(candidato.voto().getCpf())) {
+                resultados[candidato.indice()] = this.rejeitar(candidato.indice(),
+                        new BadCredentialsException(SessaoVotacaoValidacoes.VOTO_EXTERNO_RECUSADO));
+                continue;
+            }
+
+            inserirVotoPorTipoDeVoto(candidato.sessaoVotacao(), candidato.voto(), candidato.tipoDeVoto());
+            indicesAceitos.add(candidato.indice());
+            votosAceitos.add(candidato.voto());
+        }
+
+        if (votosAceitos.isEmpty())
+            return;
+
+        SessaoVotacao sessaoVotacao = candidatos.get(0).sessaoVotacao();
+        try {
+            this.votoService.registrarVotos(votosAceitos);
+            indicesAceitos.forEach(indice -> resultados[indice] = this.aceitar(indice, sessaoVotacao));
+        } catch (RuntimeException e) {
+            for (int posicao = 0; posicao < votosAceitos.size(); posicao++)
+                resultados[indicesAceitos.get(posicao)] = this.registrarIndividualmente(indicesAceitos.get(posicao),
+                        votosAceitos.get(posicao), sessaoVotacao);
+        }
+    }
+
+    private ResultadoVotoExternoDto registrarIndividualmente(int indice, Voto voto, SessaoVotacao sessaoVotacao) {
+        try {
+            this.votoService.registrarVoto(VotoPendente.de(voto).toVoto());
+            return this.aceitar(indice, sessaoVotacao);
+        } catch (RuntimeException e) {
+            return this.rejeitar(indice, e);
+        }
+    }
+
+    private ResultadoVotoExternoDto aceitar(int indice, SessaoVotacao sessaoVotacao) {
+        this.metricasVotacao.votoAceito(sessaoVotacao.getId());
+        return ResultadoVotoExternoDto.aceito(indice);
+    }
+
+    private ResultadoVotoExternoDto rejeitar(int indice, RuntimeException erro) {
+        this.metricasVotacao.votoRejeitado(erro);
+        return ResultadoVotoExternoDto.rejeitado(indice, erro);
+    }
+
+    private RespostaSessaoVotacaoDto inserirVoto(Cpf cpf, Usuario usuario, SessaoVotacao sessaoVotacao, TipoDeVotoEnum tipoDeVoto){
         Voto voto = votoMapper.toVoto(cpf, usuario);
 
         SessaoVotacaoValidacoes.validarSeUsuarioPodeVotarSessaoVotacao(sessaoVotacao, voto);
 
         inserirVotoPorTipoDeVoto(sessaoVotacao, voto, tipoDeVoto);
 
-        this.sessaoVotacaoRepository.save(sessaoVotacao);
+        boolean enfileirado = this.ingestaoVotos.isHabilitada() && this.ingestaoVotos.enfileirar(voto);
+        if (!enfileirado)
+            this.votoService.registrarVoto(voto);
 
-        return sessaoVotacaoMapper.toRespostaSessaoVotacaoDto(sessaoVotacao);
+        this.metricasVotacao.votoAceito(sessaoVotacao.getId());
+
+        RespostaSessaoVotacaoDto resposta = sessaoVotacaoMapper.toRespostaSessaoVotacaoDto(sessaoVotacao);
+        return enfileirado ? resposta.comGravacaoPendente() : resposta;
     }
 
     @Override
     public SessaoVotacao buscarSessaoVotacaoAtivaPorPautaId(Long pautaId) {
         LocalDateTime dataAtual = utils.obterDataAtual();
 
-        return this.sessaoVotacaoRepository.findByPautaIdAndSessaoVotacaoAtiva(pautaId, dataAtual)
+        SessaoAtiva sessaoAtiva = this.registroSessoesAtivas.buscar(pautaId, dataAtual)
+                .orElseThrow(() -> new IllegalArgumentException("Pauta não possui sessão ativa."));
+
+        return this.sessaoVotacaoRepository.findById(sessaoAtiva.sessaoVotacaoId())
                 .orElseThrow(() -> new IllegalArgumentException("Pauta não possui sessão ativa."));
     }
 
@@ -118,4 +350,7 @@ public class SessaoVotacaoServiceImpl implements SessaoVotacaoService {
         return sessaoVotacao;
     }
 
-}
\ No newline at end of file
+    private record VotoExternoCandidato(int indice, SessaoVotacao sessaoVotacao, Voto voto, String senha,
+            TipoDeVotoEnum tipoDeVoto) {
+    }
+}
@@ -0,0 +1,194 @@
+package com.dbserver.votacaoBackend.domain.sessaoVotacao.transmissao;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.dto.RespostaSessaoVotacaoDto;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.mapper.SessaoVotacaoMapper;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.registro.RegistroSessoesAtivas;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.registro.SessaoAtiva;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.repository.SessaoVotacaoRepository;
+import com.dbserver.votacaoBackend.utils.Utils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+@Component
+public class TransmissaoPlacar {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TransmissaoPlacar.class);
+    private static final String EVENTO_PLACAR = "placar";
+    private static final Duration MARGEM_FECHAMENTO = Duration.ofSeconds(5);
+
+    private SessaoVotacaoRepository sessaoVotacaoRepository;
+    private SessaoVotacaoMapper sessaoVotacaoMapper;
+    private RegistroSessoesAtivas registroSessoesAtivas;
+    private Utils utils;
+    private ObjectMapper objectMapper;
+    private long intervaloMs;
+    private Map<Long, GrupoPlacar> grupos = new ConcurrentHashMap<>();
+    private ScheduledExecutorService executor;
+
+    public TransmissaoPlacar(SessaoVotacaoRepository sessaoVotacaoRepository,
+            SessaoVotacaoMapper sessaoVotacaoMapper,
+            RegistroSessoesAtivas registroSessoesAtivas,
+            Utils utils,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${api.votacao.transmissao.atualizacoes-por-segundo:2}") int atualizacoesPorSegundo) {
+        this.sessaoVotacaoRepository = sessaoVotacaoRepository;
+        this.sessaoVotacaoMapper = sessaoVotacaoMapper;
+        this.registroSessoesAtivas = registroSessoesAtivas;
+        this.utils = utils;
+        this.objectMapper = objectMapper;
+        this.intervaloMs = 1000L / Math.max(atualizacoesPorSegundo, 1);
+        meterRegistry.gauge("votacao.transmissao.inscritos", this.grupos,
+                grupos -> grupos.values().stream().mapToInt(grupo -> grupo.emissores.size()).sum());
+    }
+
+    @PostConstruct
+    public void iniciar() {
+        this.executor = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "transmissao-placar");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.scheduleAtFixedRate(this::publicar, this.intervaloMs, this.intervaloMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        if (this.executor != null)
+            this.executor.shutdownNow();
+
+        this.grupos.values().forEach(grupo -> grupo.emissores.forEach(SseEmitter::complete));
+        this.grupos.clear();
+    }
+
+    public SseEmitter inscrever(Long pautaId) {
+        LocalDateTime dataAtual = this.utils.obterDataAtual();
+        SessaoAtiva sessaoAtiva = this.registroSessoesAtivas.buscar(pautaId, dataAtual)
+                .orElseThrow(() -> new IllegalArgumentException("Pauta não possui sessão ativa."));
+
+        long tempoMaximo = Duration.between(dataAtual, sessaoAtiva.dataFechamento()).plus(MARGEM_FECHAMENTO).toMillis();
+        SseEmitter emissor = new SseEmitter(tempoMaximo);
+
+        GrupoPlacar grupo = this.grupos.compute(pautaId, (id, existente) -> {
+            GrupoPlacar atual = existente != null ? existente : new GrupoPlacar(sessaoAtiva.sessaoVotacaoId());
+            atual.emissores.add(emissor);
+            return atual;
+        });
+
+        emissor.onCompletion(() -> this.remover(pautaId, emissor));
+        emissor.onTimeout(() -> this.remover(pautaId, emissor));
+        emissor.onError(erro -> this.remover(pautaId, emissor));
+
+        String placar = grupo.ultimoPlacar;
+        if (placar == null) {
+            placar = this.lerPlacar(grupo);
+            grupo.ultimoPlacar = placar;
+        }
+
+        if (placar != null)
+            this.enviar(pautaId, emissor, placar);
+
+        return emissor;
+    }
+
+    public void publicar() {
+        this.grupos.forEach((pautaId, grupo) -> {
+            try {
+                this.publicarGrupo(pautaId, grupo);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Falha ao publicar placar da pauta {}.", pautaId, e);
+            }
+        });
+    }
+
+    private void publicarGrupo(Long pautaId, GrupoPlacar grupo) {
+        if (grupo.emissores.isEmpty()) {
+            this.grupos.remove(pautaId, grupo);
+            return;
+        }
+
+        RespostaSessaoVotacaoDto resposta = this.lerResposta(grupo).orElse(null);
+
+        if (resposta == null) {
+            this.encerrarGrupo(pautaId, grupo);
+            return;
+        }
+
+        String placar = this.serializar(resposta);
+        if (!placar.equals(grupo.ultimoPlacar)) {
+            grupo.ultimoPlacar = placar;
+            grupo.emissores.forEach(emissor -> this.enviar(pautaId, emissor, placar));
+        }
+
+        if (!resposta.sessaoAtiva())
+            this.encerrarGrupo(pautaId, grupo);
+    }
+
+    private void encerrarGrupo(Long pautaId, GrupoPlacar grupo) {
+        this.grupos.remove(pautaId, grupo);
+        grupo.emissores.forEach(SseEmitter::complete);
+    }
+
+    private Optional<RespostaSessaoVotacaoDto> lerResposta(GrupoPlacar grupo) {
+        return this.sessaoVotacaoRepository.findById(grupo.sessaoVotacaoId)
+                .map(this.sessaoVotacaoMapper::toRespostaSessaoVotacaoDto);
+    }
+
+    private String lerPlacar(GrupoPlacar grupo) {
+        return this.lerResposta(grupo).map(this::serializar).orElse(null);
+    }
+
+    private String serializar(RespostaSessaoVotacaoDto resposta) {
+        try {
+            return this.objectMapper.writeValueAsString(resposta);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Não foi possível serializar o placar.", e);
+        }
+    }
+
+    private void enviar(Long pautaId, SseEmitter emissor, String placar) {
+        try {
+            emissor.send(SseEmitter.event().name(EVENTO_PLACAR).data(placar));
+        } catch (IOException | IllegalStateException e) {
+            this.remover(pautaId, emissor);
+        }
+    }
+
+    private void remover(Long pautaId, SseEmitter emissor) {
+        this.grupos.computeIfPresent(pautaId, (id, grupo) -> {
+            grupo.emissores.remove(emissor);
+            return grupo.emissores.isEmpty() ? null : grupo;
+        });
+    }
+
+    private static class GrupoPlacar {
+        private final Long sessaoVotacaoId;
+        private final Set<SseEmitter> emissores = new CopyOnWriteArraySet<>();
+        private volatile String ultimoPlacar;
+
+        private GrupoPlacar(Long sessaoVotacaoId) {
+            this.sessaoVotacaoId = sessaoVotacaoId;
+        }
+    }
+}
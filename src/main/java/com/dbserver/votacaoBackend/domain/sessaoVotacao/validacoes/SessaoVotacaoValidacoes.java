@@ -1,25 +1,35 @@
 package com.dbserver.votacaoBackend.domain.sessaoVotacao.validacoes;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.springframework.stereotype.Component;
 
+import com.dbserver.votacaoBackend.domain.autenticacao.Autenticacao;
 import com.dbserver.votacaoBackend.domain.autenticacao.validacoes.AutenticacaoValidacoes;
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.SessaoVotacao;
+import com.dbserver.votacaoBackend.domain.usuario.Cpf;
 import com.dbserver.votacaoBackend.domain.usuario.service.UsuarioServiceImpl;
 import com.dbserver.votacaoBackend.domain.voto.Voto;
 import com.dbserver.votacaoBackend.domain.voto.validacoes.VotoValidacoes;
+import com.dbserver.votacaoBackend.infra.security.senha.CodificadorDeSenhaLimitado;
 
 @Component
 public class SessaoVotacaoValidacoes {
+    public static final String VOTO_EXTERNO_RECUSADO = "Voto recusado: dados de autenticação inválidos ou voto já registrado.";
+
     private UsuarioServiceImpl usuarioService;
     private AutenticacaoValidacoes autenticacaoValidacoes;
+    private CodificadorDeSenhaLimitado codificadorDeSenha;
 
-    public SessaoVotacaoValidacoes(UsuarioServiceImpl usuarioService, AutenticacaoValidacoes autenticacaoValidacoes) {
+    public SessaoVotacaoValidacoes(UsuarioServiceImpl usuarioService, AutenticacaoValidacoes autenticacaoValidacoes,
+            CodificadorDeSenhaLimitado codificadorDeSenha) {
         this.usuarioService = usuarioService;
         this.autenticacaoValidacoes = autenticacaoValidacoes;
+        this.codificadorDeSenha = codificadorDeSenha;
     }
 
     public static void validarSessaoVotacaoNaoNula(SessaoVotacao sessaoVotacao) {
@@ -39,6 +49,22 @@ public class SessaoVotacaoValidacoes {
             this.autenticacaoValidacoes.validarAutenticacaoPorCpfESenha(cpf, senha);
     }
 
+    public Set<Cpf> filtrarCpfsAutorizadosAVotarExternamente(Map<Cpf, String> senhasPorCpf,
+            Map<Cpf, Autenticacao> autenticacoes) {
+        Set<Cpf> autorizados = new HashSet<>(senhasPorCpf.keySet());
+        List<Cpf> cadastrados = autorizados.stream().filter(autenticacoes::containsKey).toList();
+        cadastrados.forEach(autorizados::remove);
+
+        autorizados.addAll(this.codificadorDeSenha.filtrarSenhasValidas(cadastrados, senhasPorCpf::get,
+                cpf -> autenticacoes.get(cpf).getSenha()));
+        return autorizados;
+    }
+
+    public static void validarVotoExternoNaoRepetido(Set<Cpf> cpfsQueVotaram, Voto voto) {
+        if (!cpfsQueVotaram.add(voto.getCpf()))
+            throw new IllegalStateException(VOTO_EXTERNO_RECUSADO);
+    }
+
     public static void validarSeUsuarioPodeVotarSessaoVotacao(SessaoVotacao sessaoVotacao, Voto voto) {
         validarSessaoVotacaoNaoNula(sessaoVotacao);
         VotoValidacoes.validarVotoNaoNulo(voto);
@@ -46,13 +72,6 @@ public class SessaoVotacaoValidacoes {
 
         if (sessaoVotacao.getPauta().getUsuario().getCpf().equals(voto.getCpf()))
             throw new IllegalArgumentException("O criador não pode votar na pauta criada.");
-
-        List<Voto> todosVotantes = new ArrayList<>(sessaoVotacao.getVotosPositivos());
-
-        todosVotantes.addAll(sessaoVotacao.getVotosNegativos());
-
-        if (todosVotantes.contains(voto))
-            throw new IllegalStateException("Não é possível votar duas vezes.");
     }
 
     public static void validarDataDeAbertura(LocalDateTime dataAbertura) {
@@ -0,0 +1,46 @@
+package com.dbserver.votacaoBackend.domain.usuario;
+
+import java.util.Optional;
+
+import com.dbserver.votacaoBackend.domain.usuario.validacoes.UsuarioValidacoes;
+import com.dbserver.votacaoBackend.utils.ValidadorFormato;
+
+public record Cpf(long valor) implements Comparable<Cpf> {
+    private static final int TAMANHO = 11;
+    private static final long LIMITE = 100_000_000_000L;
+
+    public Cpf {
+        if (valor < 0 || valor >= LIMITE)
+            throw new IllegalArgumentException("Cpf deve conter 11 caracteres numéricos.");
+    }
+
+    public static Cpf de(String cpf) {
+        UsuarioValidacoes.validarFormatoCpf(cpf);
+        return new Cpf(Long.parseLong(cpf.trim()));
+    }
+
+    public static Optional<Cpf> deSeValido(String cpf) {
+        if (!ValidadorFormato.isCpfValido(cpf))
+            return Optional.empty();
+
+        return Optional.of(new Cpf(Long.parseLong(cpf.trim())));
+    }
+
+    @Override
+    public int compareTo(Cpf outro) {
+        return Long.compare(this.valor, outro.valor);
+    }
+
+    @Override
+    public String toString() {
+        char[] digitos = new char[TAMANHO];
+        long restante = this.valor;
+
+        for (int i = TAMANHO - 1; i >= 0; i--) {
+            digitos[i] = (char) ('0' + restante % 10);
+            restante /= 10;
+        }
+
+        return new String(digitos);
+    }
+}
@@ -0,0 +1,21 @@
+package com.dbserver.votacaoBackend.domain.usuario;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Immutable
+@Converter(autoApply = true)
+public class CpfConverter implements AttributeConverter<Cpf, Long> {
+
+    @Override
+    public Long convertToDatabaseColumn(Cpf cpf) {
+        return cpf == null ? null : cpf.valor();
+    }
+
+    @Override
+    public Cpf convertToEntityAttribute(Long valor) {
+        return valor == null ? null : new Cpf(valor);
+    }
+}
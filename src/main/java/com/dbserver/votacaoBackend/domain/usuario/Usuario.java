@@ -1,5 +1,8 @@
 package com.dbserver.votacaoBackend.domain.usuario;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.dbserver.votacaoBackend.domain.usuario.validacoes.UsuarioValidacoes;
 
 import jakarta.persistence.Column;
@@ -15,6 +18,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "usuario")
 @Getter
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -35,7 +39,7 @@ public class Usuario {
 
     @Column(nullable = false, unique = true)
     @EqualsAndHashCode.Include
-    private String cpf;
+    private Cpf cpf;
 
     @Column(nullable = false)
     private boolean admin;
@@ -46,7 +50,7 @@ public class Usuario {
             Usuario usuario = new Usuario(this.id, this.nome, this.sobrenome, this.cpf, this.admin);
             UsuarioValidacoes.validarformatoNome(this.nome);
             UsuarioValidacoes.validarFormatoSobrenome(this.sobrenome);
-            UsuarioValidacoes.validarFormatoCpf(this.cpf);
+            UsuarioValidacoes.validarCpfNaoNulo(this.cpf);
             return usuario;
         }
     }
@@ -0,0 +1,4 @@
+package com.dbserver.votacaoBackend.domain.usuario.dto;
+
+public record ErroImportacaoDto(long linha, String erro) implements EventoImportacaoDto {
+}
@@ -0,0 +1,4 @@
+package com.dbserver.votacaoBackend.domain.usuario.dto;
+
+public sealed interface EventoImportacaoDto permits ErroImportacaoDto, ProgressoImportacaoDto {
+}
@@ -0,0 +1,8 @@
+package com.dbserver.votacaoBackend.domain.usuario.dto;
+
+public record ProgressoImportacaoDto(
+        long processadas,
+        long importadas,
+        long rejeitadas,
+        boolean concluida) implements EventoImportacaoDto {
+}
@@ -0,0 +1,17 @@
+package com.dbserver.votacaoBackend.domain.usuario.importacao;
+
+import org.springframework.http.MediaType;
+
+public enum FormatoImportacao {
+    CSV,
+    NDJSON;
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    public static FormatoImportacao de(String tipoConteudo) {
+        if (tipoConteudo != null && MediaType.parseMediaType(tipoConteudo).isCompatibleWith(MediaType.APPLICATION_NDJSON))
+            return NDJSON;
+
+        return CSV;
+    }
+}
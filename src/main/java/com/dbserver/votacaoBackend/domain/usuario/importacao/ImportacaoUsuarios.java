@@ -0,0 +1,295 @@
+package com.dbserver.votacaoBackend.domain.usuario.importacao;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import com.dbserver.votacaoBackend.domain.autenticacao.Autenticacao;
+import com.dbserver.votacaoBackend.domain.autenticacao.dto.AutenticacaoDto;
+import com.dbserver.votacaoBackend.domain.autenticacao.repository.AutenticacaoRepository;
+import com.dbserver.votacaoBackend.domain.autenticacao.validacoes.AutenticacaoValidacoes;
+import com.dbserver.votacaoBackend.domain.usuario.Cpf;
+import com.dbserver.votacaoBackend.domain.usuario.Usuario;
+import com.dbserver.votacaoBackend.domain.usuario.dto.CriarUsuarioDto;
+import com.dbserver.votacaoBackend.domain.usuario.dto.ErroImportacaoDto;
+import com.dbserver.votacaoBackend.domain.usuario.dto.EventoImportacaoDto;
+import com.dbserver.votacaoBackend.domain.usuario.dto.ProgressoImportacaoDto;
+import com.dbserver.votacaoBackend.domain.usuario.mapper.UsuarioMapper;
+import com.dbserver.votacaoBackend.domain.usuario.repository.UsuarioLoteRepository;
+import com.dbserver.votacaoBackend.domain.usuario.repository.UsuarioRepository;
+import com.dbserver.votacaoBackend.infra.cache.CacheEntidades;
+import com.dbserver.votacaoBackend.infra.security.senha.CodificadorDeSenhaLimitado;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+@Component
+public class ImportacaoUsuarios {
+    private static final List<String> COLUNAS_CSV = List.of("nome", "sobrenome", "cpf", "email", "senha", "admin");
+
+    private UsuarioRepository usuarioRepository;
+    private AutenticacaoRepository autenticacaoRepository;
+    private UsuarioLoteRepository usuarioLoteRepository;
+    private UsuarioMapper usuarioMapper;
+    private CodificadorDeSenhaLimitado codificadorDeSenha;
+    private CacheEntidades cacheEntidades;
+    private ObjectMapper objectMapper;
+    private CsvMapper csvMapper;
+    private Validator validator;
+    private int tamanhoLote;
+    private ForkJoinPool codificacao;
+
+    public ImportacaoUsuarios(UsuarioRepository usuarioRepository,
+            AutenticacaoRepository autenticacaoRepository,
+            UsuarioLoteRepository usuarioLoteRepository,
+            UsuarioMapper usuarioMapper,
+            CodificadorDeSenhaLimitado codificadorDeSenha,
+            CacheEntidades cacheEntidades,
+            ObjectMapper objectMapper,
+            Validator validator,
+            @Value("${api.usuario.importacao.tamanho-lote:500}") int tamanhoLote,
+            @Value("${api.usuario.importacao.threads-hash:4}") int threadsHash) {
+        this.usuarioRepository = usuarioRepository;
+        this.autenticacaoRepository = autenticacaoRepository;
+        this.usuarioLoteRepository = usuarioLoteRepository;
+        this.usuarioMapper = usuarioMapper;
+        this.codificadorDeSenha = codificadorDeSenha;
+        this.cacheEntidades = cacheEntidades;
+        this.objectMapper = objectMapper;
+        this.csvMapper = CsvMapper.builder().enable(CsvParser.Feature.SKIP_EMPTY_LINES).build();
+        this.validator = validator;
+        this.tamanhoLote = tamanhoLote;
+        this.codificacao = new ForkJoinPool(threadsHash);
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        this.codificacao.shutdownNow();
+    }
+
+    public void importar(InputStream entrada, FormatoImportacao formato, Consumer<EventoImportacaoDto> eventos)
+            throws IOException {
+        Reader leitor = new InputStreamReader(entrada, StandardCharsets.UTF_8);
+        ImportacaoEmAndamento importacao = new ImportacaoEmAndamento(eventos);
+
+        if (formato == FormatoImportacao.CSV)
+            this.lerCsv(leitor, importacao);
+        else
+            this.lerNdjson(new BufferedReader(leitor), importacao);
+
+        importacao.concluir();
+    }
+
+    private void lerNdjson(BufferedReader leitor, ImportacaoEmAndamento importacao) throws IOException {
+        long numeroLinha = 0;
+        String linha;
+
+        while ((linha = leitor.readLine()) != null) {
+            numeroLinha++;
+            if (!linha.isBlank()) {
+                String conteudo = linha;
+                importacao.adicionar(numeroLinha, () -> this.converterNdjson(conteudo));
+            }
+        }
+    }
+
+    private void lerCsv(Reader leitor, ImportacaoEmAndamento importacao) throws IOException {
+        try (JsonParser parser = this.csvMapper.createParser(leitor)) {
+            try {
+                RegistroCsv cabecalho = lerRegistroCsv(parser);
+                List<String> colunas = cabecalho == null ? List.of()
+                        : cabecalho.valores().stream().map(String::trim).toList();
+
+                if (!colunas.containsAll(COLUNAS_CSV)) {
+                    importacao.erro(1, "Cabeçalho CSV deve conter as colunas " + String.join(",", COLUNAS_CSV) + ".");
+                    return;
+                }
+
+                int[] indices = COLUNAS_CSV.stream().mapToInt(colunas::indexOf).toArray();
+                RegistroCsv registro;
+
+                while ((registro = lerRegistroCsv(parser)) != null) {
+                    List<String> valores = registro.valores();
+                    importacao.adicionar(registro.linha(), () -> converterCsv(colunas.size(), indices, valores));
+                }
+            } catch (JsonProcessingException e) {
+                importacao.erro(parser.currentLocation().getLineNr(), "Linha com formato inválido.");
+            }
+        }
+    }
+
+    private static RegistroCsv lerRegistroCsv(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_ARRAY)
+            return null;
+
+        long linha = parser.currentTokenLocation().getLineNr();
+        List<String> valores = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.VALUE_STRING)
+            valores.add(parser.getText());
+
+        return new RegistroCsv(linha, valores);
+    }
+
+    private static CriarUsuarioDto converterCsv(int quantidadeColunas, int[] indices, List<String> valores) {
+        if (valores.size() != quantidadeColunas)
+            throw new IllegalArgumentException("Linha deve conter " + quantidadeColunas + " colunas.");
+
+        return new CriarUsuarioDto(
+                new AutenticacaoDto(valores.get(indices[3]).trim(), valores.get(indices[4])),
+                valores.get(indices[0]).trim(),
+                valores.get(indices[1]).trim(),
+                valores.get(indices[2]).trim(),
+                Boolean.parseBoolean(valores.get(indices[5]).trim()));
+    }
+
+    private CriarUsuarioDto converterNdjson(String linha) {
+        try {
+            return this.objectMapper.readValue(linha, CriarUsuarioDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Linha com formato inválido.");
+        }
+    }
+
+    private LinhaImportacao validar(long numeroLinha, CriarUsuarioDto dto) {
+        this.validarRestricoes(dto);
+        this.validarRestricoes(dto.autenticacaoDto());
+
+        Usuario usuario = this.usuarioMapper.toUsuario(dto);
+        AutenticacaoValidacoes.validarFormatoDoEmail(dto.autenticacaoDto().email());
+        AutenticacaoValidacoes.validarFormatoDaSenha(dto.autenticacaoDto().senha());
+
+        return new LinhaImportacao(numeroLinha, usuario, dto.autenticacaoDto().email(), dto.autenticacaoDto().senha());
+    }
+
+    private <T> void validarRestricoes(T objeto) {
+        Set<ConstraintViolation<T>> violacoes = this.validator.validate(objeto);
+        if (!violacoes.isEmpty())
+            throw new IllegalArgumentException(violacoes.iterator().next().getMessage());
+    }
+
+    private int gravar(List<LinhaImportacao> lote, Consumer<EventoImportacaoDto> eventos) {
+        Set<Cpf> cpfsExistentes = new HashSet<>(
+                this.usuarioRepository.findCpfsExistentes(lote.stream().map(linha -> linha.usuario().getCpf()).toList()));
+        Set<String> emailsExistentes = new HashSet<>(
+                this.autenticacaoRepository.findEmailsExistentes(lote.stream().map(LinhaImportacao::email).toList()));
+        List<LinhaImportacao> validas = new ArrayList<>(lote.size());
+
+        for (LinhaImportacao linha : lote) {
+            if (!cpfsExistentes.add(linha.usuario().getCpf()))
+                eventos.accept(new ErroImportacaoDto(linha.numero(), "Cpf já cadastrado."));
+            else if (!emailsExistentes.add(linha.email()))
+                eventos.accept(new ErroImportacaoDto(linha.numero(), "Email já cadastrado."));
+            else
+                validas.add(linha);
+        }
+
+        if (validas.isEmpty())
+            return 0;
+
+        List<String> senhas = this.codificacao.submit(() -> validas.parallelStream()
+                .map(linha -> this.codificadorDeSenha.codificarNaThreadAtual(linha.senha()))
+                .toList()).join();
+
+        List<Autenticacao> autenticacoes = new ArrayList<>(validas.size());
+        for (int i = 0; i < validas.size(); i++) {
+            Autenticacao autenticacao = Autenticacao.builder()
+                    .email(validas.get(i).email())
+                    .senha(senhas.get(i))
+                    .build();
+            autenticacao.setUsuario(validas.get(i).usuario());
+            autenticacoes.add(autenticacao);
+        }
+
+        int importadas;
+        try {
+            this.usuarioLoteRepository.inserir(autenticacoes);
+            importadas = validas.size();
+        } catch (DataIntegrityViolationException e) {
+            importadas = this.gravarIndividualmente(validas, autenticacoes, eventos);
+        }
+
+        if (importadas > 0)
+            this.cacheEntidades.invalidarConsultasDeUsuario();
+        return importadas;
+    }
+
+    private int gravarIndividualmente(List<LinhaImportacao> validas, List<Autenticacao> autenticacoes,
+            Consumer<EventoImportacaoDto> eventos) {
+        int importadas = 0;
+
+        for (int i = 0; i < validas.size(); i++) {
+            try {
+                this.usuarioLoteRepository.inserir(List.of(autenticacoes.get(i)));
+                importadas++;
+            } catch (DataIntegrityViolationException e) {
+                eventos.accept(new ErroImportacaoDto(validas.get(i).numero(),
+                        "Cpf ou email cadastrado durante a importação."));
+            }
+        }
+
+        return importadas;
+    }
+
+    private record RegistroCsv(long linha, List<String> valores) {
+    }
+
+    private class ImportacaoEmAndamento {
+        private Consumer<EventoImportacaoDto> eventos;
+        private List<LinhaImportacao> lote = new ArrayList<>(ImportacaoUsuarios.this.tamanhoLote);
+        private long processadas;
+        private long importadas;
+
+        private ImportacaoEmAndamento(Consumer<EventoImportacaoDto> eventos) {
+            this.eventos = eventos;
+        }
+
+        private void adicionar(long numeroLinha, Supplier<CriarUsuarioDto> conversor) {
+            this.processadas++;
+            try {
+                this.lote.add(ImportacaoUsuarios.this.validar(numeroLinha, conversor.get()));
+            } catch (IllegalArgumentException e) {
+                this.erro(numeroLinha, e.getMessage());
+            }
+
+            if (this.lote.size() == ImportacaoUsuarios.this.tamanhoLote) {
+                this.importadas += ImportacaoUsuarios.this.gravar(this.lote, this.eventos);
+                this.lote.clear();
+                this.eventos.accept(new ProgressoImportacaoDto(this.processadas, this.importadas,
+                        this.processadas - this.importadas, false));
+            }
+        }
+
+        private void erro(long numeroLinha, String mensagem) {
+            this.eventos.accept(new ErroImportacaoDto(numeroLinha, mensagem));
+        }
+
+        private void concluir() {
+            if (!this.lote.isEmpty())
+                this.importadas += ImportacaoUsuarios.this.gravar(this.lote, this.eventos);
+
+            this.eventos.accept(new ProgressoImportacaoDto(this.processadas, this.importadas,
+                    this.processadas - this.importadas, true));
+        }
+    }
+}
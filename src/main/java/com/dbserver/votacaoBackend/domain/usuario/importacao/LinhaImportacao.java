@@ -0,0 +1,6 @@
+package com.dbserver.votacaoBackend.domain.usuario.importacao;
+
+import com.dbserver.votacaoBackend.domain.usuario.Usuario;
+
+public record LinhaImportacao(long numero, Usuario usuario, String email, String senha) {
+}
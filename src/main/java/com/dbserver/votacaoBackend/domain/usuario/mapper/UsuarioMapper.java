@@ -5,6 +5,7 @@ import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 
 import com.dbserver.votacaoBackend.domain.autenticacao.Autenticacao;
+import com.dbserver.votacaoBackend.domain.usuario.Cpf;
 import com.dbserver.votacaoBackend.domain.usuario.Usuario;
 import com.dbserver.votacaoBackend.domain.usuario.dto.CriarUsuarioDto;
 import com.dbserver.votacaoBackend.domain.usuario.dto.CriarUsuarioRespostaDto;
@@ -31,4 +32,12 @@ public interface UsuarioMapper {
     default VerificarSeUsuarioExisteRespostaDto toVerificarSeUsuarioExisteRespostaDto(boolean existe){
         return new VerificarSeUsuarioExisteRespostaDto(existe);
     }
+
+    default Cpf converterCpf(String cpf) {
+        return Cpf.de(cpf);
+    }
+
+    default String formatarCpf(Cpf cpf) {
+        return cpf == null ? null : cpf.toString();
+    }
 }
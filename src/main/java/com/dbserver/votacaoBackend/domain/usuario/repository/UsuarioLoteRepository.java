@@ -0,0 +1,52 @@
+package com.dbserver.votacaoBackend.domain.usuario.repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dbserver.votacaoBackend.domain.autenticacao.Autenticacao;
+
+@Repository
+public class UsuarioLoteRepository {
+    private static final String INSERIR_USUARIO = "INSERT INTO usuario (nome, sobrenome, cpf, admin) VALUES (:nome, :sobrenome, :cpf, :admin)";
+    private static final String BUSCAR_IDS_POR_CPF = "SELECT id, cpf FROM usuario WHERE cpf IN (:cpfs)";
+    private static final String INSERIR_AUTENTICACAO = "INSERT INTO autenticacao (email, senha, usuario_id) VALUES (:email, :senha, :usuarioId)";
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    public UsuarioLoteRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional
+    public void inserir(List<Autenticacao> autenticacoes) {
+        this.jdbcTemplate.batchUpdate(INSERIR_USUARIO, autenticacoes.stream()
+                .map(Autenticacao::getUsuario)
+                .map(usuario -> new MapSqlParameterSource()
+                        .addValue("nome", usuario.getNome())
+                        .addValue("sobrenome", usuario.getSobrenome())
+                        .addValue("cpf", usuario.getCpf().valor())
+                        .addValue("admin", usuario.isAdmin()))
+                .toArray(SqlParameterSource[]::new));
+
+        Map<Long, Long> idsPorCpf = new HashMap<>();
+        this.jdbcTemplate.query(BUSCAR_IDS_POR_CPF,
+                Map.of("cpfs", autenticacoes.stream().map(Autenticacao::getUsuario).map(usuario -> usuario.getCpf().valor()).toList()),
+                resultado -> {
+                    idsPorCpf.put(resultado.getLong("cpf"), resultado.getLong("id"));
+                });
+
+        this.jdbcTemplate.batchUpdate(INSERIR_AUTENTICACAO, autenticacoes.stream()
+                .map(autenticacao -> new MapSqlParameterSource()
+                        .addValue("email", autenticacao.getEmail())
+                        .addValue("senha", autenticacao.getSenha())
+                        .addValue("usuarioId", idsPorCpf.get(autenticacao.getUsuario().getCpf().valor())))
+                .toArray(SqlParameterSource[]::new));
+    }
+}
@@ -1,9 +1,24 @@
 package com.dbserver.votacaoBackend.domain.usuario.repository;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import com.dbserver.votacaoBackend.domain.usuario.Cpf;
 import com.dbserver.votacaoBackend.domain.usuario.Usuario;
+import com.dbserver.votacaoBackend.infra.cache.CacheEntidades;
+
+import jakarta.persistence.QueryHint;
 
 public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
-    Optional<Usuario> findByCpf(String cpf);
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheEntidades.CONSULTA_USUARIO_POR_CPF) })
+    Optional<Usuario> findByCpf(Cpf cpf);
+
+    @Query("SELECT u.cpf FROM Usuario u WHERE u.cpf IN :cpfs")
+    List<Cpf> findCpfsExistentes(@Param("cpfs") Collection<Cpf> cpfs);
 }
@@ -4,9 +4,11 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.dbserver.votacaoBackend.domain.autenticacao.Autenticacao;
 import com.dbserver.votacaoBackend.domain.autenticacao.service.AutenticacaoServiceImpl;
+import com.dbserver.votacaoBackend.domain.usuario.Cpf;
 import com.dbserver.votacaoBackend.domain.usuario.Usuario;
 import com.dbserver.votacaoBackend.domain.usuario.dto.CriarUsuarioDto;
 import com.dbserver.votacaoBackend.domain.usuario.dto.CriarUsuarioRespostaDto;
@@ -14,20 +16,21 @@ import com.dbserver.votacaoBackend.domain.usuario.dto.UsuarioRespostaDto;
 import com.dbserver.votacaoBackend.domain.usuario.dto.VerificarSeUsuarioExisteRespostaDto;
 import com.dbserver.votacaoBackend.domain.usuario.mapper.UsuarioMapper;
 import com.dbserver.votacaoBackend.domain.usuario.repository.UsuarioRepository;
-
-import jakarta.transaction.Transactional;
+import com.dbserver.votacaoBackend.infra.cache.CacheEntidades;
 
 @Service
 public class UsuarioServiceImpl implements UsuarioService {
     private UsuarioRepository usuarioRepository;
     private AutenticacaoServiceImpl autenticacaoService;
     private UsuarioMapper usuarioMapper;
+    private CacheEntidades cacheEntidades;
 
     public UsuarioServiceImpl(UsuarioRepository usuarioRepository, AutenticacaoServiceImpl autenticacaoService,
-            UsuarioMapper usuarioMapper) {
+            UsuarioMapper usuarioMapper, CacheEntidades cacheEntidades) {
         this.usuarioRepository = usuarioRepository;
         this.autenticacaoService = autenticacaoService;
         this.usuarioMapper = usuarioMapper;
+        this.cacheEntidades = cacheEntidades;
     }
 
     @Override
@@ -50,6 +53,7 @@ public class UsuarioServiceImpl implements UsuarioService {
 
         this.usuarioRepository.save(usuario);
         this.autenticacaoService.criarAutenticacao(autenticacao, usuario);
+        this.cacheEntidades.invalidarConsultasDeUsuario();
         return usuarioMapper.toCriarUsuarioRespostaDto(usuario, autenticacao);
     }
 
@@ -71,10 +75,11 @@ public class UsuarioServiceImpl implements UsuarioService {
 
     @Override
     public boolean verificarSeExisteUsuarioPorCpf(String cpf) {
-        return this.usuarioRepository.findByCpf(cpf).isPresent();
+        return Cpf.deSeValido(cpf).flatMap(this.usuarioRepository::findByCpf).isPresent();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public VerificarSeUsuarioExisteRespostaDto verificarSeExisteUsuarioPorCpfComoDto(String cpf) {
         boolean existe = verificarSeExisteUsuarioPorCpf(cpf);
         return usuarioMapper.toVerificarSeUsuarioExisteRespostaDto(existe);
@@ -82,6 +87,6 @@ public class UsuarioServiceImpl implements UsuarioService {
 
     @Override
     public Usuario buscarUsuarioPorCpfSeHouver(String cpf) {
-        return this.usuarioRepository.findByCpf(cpf).orElse(null);
+        return Cpf.deSeValido(cpf).flatMap(this.usuarioRepository::findByCpf).orElse(null);
     }
 }
@@ -2,8 +2,9 @@ package com.dbserver.votacaoBackend.domain.usuario.validacoes;
 
 import org.springframework.stereotype.Component;
 
+import com.dbserver.votacaoBackend.domain.usuario.Cpf;
 import com.dbserver.votacaoBackend.domain.usuario.Usuario;
-import com.dbserver.votacaoBackend.utils.Utils;
+import com.dbserver.votacaoBackend.utils.ValidadorFormato;
 
 @Component
 public class UsuarioValidacoes {
@@ -25,7 +26,12 @@ public class UsuarioValidacoes {
     }
 
     public static void validarFormatoCpf(String cpf) {
-        if (cpf == null || !Utils.validarRegex(Utils.REGEX_CPF, cpf.trim()))
+        if (!ValidadorFormato.isCpfValido(cpf))
+            throw new IllegalArgumentException("Cpf deve conter 11 caracteres numéricos.");
+    }
+
+    public static void validarCpfNaoNulo(Cpf cpf) {
+        if (cpf == null)
             throw new IllegalArgumentException("Cpf deve conter 11 caracteres numéricos.");
     }
 
@@ -1,45 +1,68 @@
 package com.dbserver.votacaoBackend.domain.voto;
 
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.SessaoVotacao;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.enums.TipoDeVotoEnum;
+import com.dbserver.votacaoBackend.domain.usuario.Cpf;
 import com.dbserver.votacaoBackend.domain.usuario.Usuario;
 import com.dbserver.votacaoBackend.domain.usuario.validacoes.UsuarioValidacoes;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = Voto.RESTRICAO_VOTO_UNICO, columnNames = { "sessao_votacao_id", "cpf" }))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @Builder
 public class Voto {
+    public static final String RESTRICAO_VOTO_UNICO = "uk_voto_sessao_votacao_cpf";
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "voto_id_seq")
+    @SequenceGenerator(name = "voto_id_seq", sequenceName = "voto_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
     @EqualsAndHashCode.Include
-    private String cpf;
+    private Cpf cpf;
 
     @ManyToOne
     @JoinColumn(name = "usuario_id", nullable = true)
     private Usuario usuario;
 
+    @Setter
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "sessao_votacao_id", nullable = false)
+    private SessaoVotacao sessaoVotacao;
+
+    @Setter
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TipoDeVotoEnum tipoDeVoto;
+
     public static class VotoBuilder{
         public Voto build(){
-            UsuarioValidacoes.validarFormatoCpf(cpf);
-            return new Voto(this.id, this.cpf, this.usuario);
+            UsuarioValidacoes.validarCpfNaoNulo(this.cpf);
+            return new Voto(this.id, this.cpf, this.usuario, this.sessaoVotacao, this.tipoDeVoto);
         }
     }
 }
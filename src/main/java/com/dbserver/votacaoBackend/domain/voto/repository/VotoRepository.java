@@ -0,0 +1,20 @@
+package com.dbserver.votacaoBackend.domain.voto.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.dbserver.votacaoBackend.domain.usuario.Cpf;
+import com.dbserver.votacaoBackend.domain.voto.Voto;
+
+@Repository
+public interface VotoRepository extends JpaRepository<Voto, Long> {
+    boolean existsBySessaoVotacaoIdAndCpf(Long sessaoVotacaoId, Cpf cpf);
+
+    @Query("SELECT v.cpf FROM Voto v WHERE v.sessaoVotacao.id = :sessaoVotacaoId AND v.cpf IN :cpfs")
+    List<Cpf> findCpfsQueVotaram(@Param("sessaoVotacaoId") Long sessaoVotacaoId, @Param("cpfs") Collection<Cpf> cpfs);
+}
@@ -0,0 +1,16 @@
+package com.dbserver.votacaoBackend.domain.voto.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import com.dbserver.votacaoBackend.domain.usuario.Cpf;
+import com.dbserver.votacaoBackend.domain.voto.Voto;
+
+public interface VotoService {
+    Voto registrarVoto(Voto voto);
+
+    List<Voto> registrarVotos(List<Voto> votos);
+
+    Set<Cpf> buscarCpfsQueVotaram(Long sessaoVotacaoId, Collection<Cpf> cpfs);
+}
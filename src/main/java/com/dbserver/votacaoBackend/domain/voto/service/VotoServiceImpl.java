@@ -0,0 +1,108 @@
+package com.dbserver.votacaoBackend.domain.voto.service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.enums.TipoDeVotoEnum;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.repository.SessaoVotacaoRepository;
+import com.dbserver.votacaoBackend.domain.usuario.Cpf;
+import com.dbserver.votacaoBackend.domain.voto.Voto;
+import com.dbserver.votacaoBackend.domain.voto.repository.VotoRepository;
+import com.dbserver.votacaoBackend.domain.voto.validacoes.VotoValidacoes;
+import com.dbserver.votacaoBackend.infra.exceptions.VotoDuplicadoExeption;
+
+@Service
+public class VotoServiceImpl implements VotoService {
+    private VotoRepository votoRepository;
+    private SessaoVotacaoRepository sessaoVotacaoRepository;
+
+    public VotoServiceImpl(VotoRepository votoRepository, SessaoVotacaoRepository sessaoVotacaoRepository) {
+        this.votoRepository = votoRepository;
+        this.sessaoVotacaoRepository = sessaoVotacaoRepository;
+    }
+
+    @Override
+    @Transactional
+    public Voto registrarVoto(Voto voto) {
+        VotoValidacoes.validarVotoNaoNulo(voto);
+
+        try {
+            this.votoRepository.saveAndFlush(voto);
+        } catch (DataIntegrityViolationException e) {
+            throw traduzirViolacao(e);
+        }
+
+        int votosPositivos = voto.getTipoDeVoto() == TipoDeVotoEnum.VOTO_POSITIVO ? 1 : 0;
+        int votosNegativos = voto.getTipoDeVoto() == TipoDeVotoEnum.VOTO_NEGATIVO ? 1 : 0;
+
+        this.incrementarVotos(voto.getSessaoVotacao().getId(), votosPositivos, votosNegativos);
+
+        return voto;
+    }
+
+    @Override
+    @Transactional
+    public List<Voto> registrarVotos(List<Voto> votos) {
+        votos.forEach(VotoValidacoes::validarVotoNaoNulo);
+
+        try {
+            this.votoRepository.saveAllAndFlush(votos);
+        } catch (DataIntegrityViolationException e) {
+            throw traduzirViolacao(e);
+        }
+
+        Map<Long, List<Voto>> votosPorSessao = votos.stream()
+                .collect(Collectors.groupingBy(voto -> voto.getSessaoVotacao().getId()));
+
+        votosPorSessao.forEach((sessaoVotacaoId, votosDaSessao) -> {
+            int votosPositivos = (int) votosDaSessao.stream()
+                    .filter(voto -> voto.getTipoDeVoto() == TipoDeVotoEnum.VOTO_POSITIVO)
+                    .count();
+
+            this.incrementarVotos(sessaoVotacaoId, votosPositivos, votosDaSessao.size() - votosPositivos);
+        });
+
+        return votos;
+    }
+
+    @Override
+    public Set<Cpf> buscarCpfsQueVotaram(Long sessaoVotacaoId, Collection<Cpf> cpfs) {
+        if (cpfs.isEmpty())
+            return new HashSet<>();
+
+        return new HashSet<>(this.votoRepository.findCpfsQueVotaram(sessaoVotacaoId, cpfs));
+    }
+
+    private void incrementarVotos(Long sessaoVotacaoId, int votosPositivos, int votosNegativos) {
+        if (this.sessaoVotacaoRepository.incrementarVotos(sessaoVotacaoId, votosPositivos, votosNegativos) == 0)
+            throw new IllegalStateException("Sessão de votação já encerrada.");
+    }
+
+    private static RuntimeException traduzirViolacao(DataIntegrityViolationException e) {
+        if (violouRestricao(e, Voto.RESTRICAO_VOTO_UNICO))
+            return new VotoDuplicadoExeption();
+
+        return e;
+    }
+
+    private static boolean violouRestricao(Throwable erro, String restricao) {
+        for (Throwable causa = erro; causa != null; causa = causa.getCause()) {
+            String nome = causa instanceof ConstraintViolationException violacao ? violacao.getConstraintName()
+                    : causa.getMessage();
+
+            if (nome != null && nome.toLowerCase().contains(restricao))
+                return true;
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,42 @@
+package com.dbserver.votacaoBackend.infra.cache;
+
+import org.hibernate.Cache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@Component
+public class CacheEntidades {
+    public static final String CONSULTA_USUARIO_POR_CPF = "usuario-por-cpf";
+    public static final String CONSULTA_AUTENTICACAO_POR_EMAIL = "autenticacao-por-email";
+    public static final String CONSULTA_AUTENTICACAO_POR_CPF = "autenticacao-por-cpf";
+
+    private EntityManagerFactory entityManagerFactory;
+
+    public CacheEntidades(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public void invalidarConsultasDeUsuario() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.invalidarConsultas();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                CacheEntidades.this.invalidarConsultas();
+            }
+        });
+    }
+
+    private void invalidarConsultas() {
+        Cache cache = this.entityManagerFactory.getCache().unwrap(Cache.class);
+        cache.evictQueryRegion(CONSULTA_USUARIO_POR_CPF);
+        cache.evictQueryRegion(CONSULTA_AUTENTICACAO_POR_EMAIL);
+        cache.evictQueryRegion(CONSULTA_AUTENTICACAO_POR_CPF);
+    }
+}
@@ -0,0 +1,80 @@
+package com.dbserver.votacaoBackend.infra.datasource;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@ConditionalOnProperty(name = "api.datasource.replica.habilitada", havingValue = "true")
+public class DataSourceReplicaConfig {
+    private static final String CONSULTA_ATRASO_POSTGRES = "SELECT COALESCE(CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END, 0)";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource dataSourcePrimaria(DataSourceProperties propriedades) {
+        return propriedades.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("api.datasource.replica.hikari")
+    HikariDataSource dataSourceReplica(@Value("${api.datasource.replica.url}") String url,
+            @Value("${api.datasource.replica.username}") String usuario,
+            @Value("${api.datasource.replica.password}") String senha) {
+        HikariDataSource replica = DataSourceBuilder.create().type(HikariDataSource.class)
+                .url(url)
+                .username(usuario)
+                .password(senha)
+                .build();
+        replica.setPoolName("replica");
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    @Bean
+    MonitorReplica monitorReplica(@Qualifier("dataSourceReplica") DataSource replica,
+            @Value("${api.datasource.replica.consulta-atraso:" + CONSULTA_ATRASO_POSTGRES + "}") String consultaAtraso,
+            @Value("${api.datasource.replica.atraso-maximo-ms:5000}") long atrasoMaximoMs,
+            @Value("${api.datasource.replica.intervalo-verificacao-ms:1000}") long intervaloVerificacaoMs,
+            MeterRegistry meterRegistry) {
+        return new MonitorReplica(replica, consultaAtraso, Duration.ofMillis(atrasoMaximoMs),
+                Duration.ofMillis(intervaloVerificacaoMs), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(@Qualifier("dataSourcePrimaria") DataSource primaria,
+            @Qualifier("dataSourceReplica") DataSource replica,
+            MonitorReplica monitorReplica) {
+        return new LazyConnectionDataSourceProxy(new RoteadorDataSource(primaria, replica, monitorReplica));
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor leituraReplicaAdvisor() {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(LeituraReplica.class), new LeituraReplicaInterceptor());
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
@@ -0,0 +1,18 @@
+package com.dbserver.votacaoBackend.infra.datasource;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+public class LeituraReplicaInterceptor implements MethodInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        boolean anterior = RoteadorDataSource.isLeituraReplica();
+        RoteadorDataSource.definirLeituraReplica(true);
+        try {
+            return invocation.proceed();
+        } finally {
+            RoteadorDataSource.definirLeituraReplica(anterior);
+        }
+    }
+}
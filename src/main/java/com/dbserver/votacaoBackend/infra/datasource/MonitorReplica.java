@@ -0,0 +1,87 @@
+package com.dbserver.votacaoBackend.infra.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+public class MonitorReplica {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MonitorReplica.class);
+
+    private DataSource replica;
+    private String consultaAtraso;
+    private long atrasoMaximoMs;
+    private long intervaloVerificacaoMs;
+    private ScheduledExecutorService executor;
+    private volatile boolean disponivel;
+    private volatile double atrasoSegundos;
+
+    public MonitorReplica(DataSource replica, String consultaAtraso, Duration atrasoMaximo,
+            Duration intervaloVerificacao, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.consultaAtraso = consultaAtraso;
+        this.atrasoMaximoMs = atrasoMaximo.toMillis();
+        this.intervaloVerificacaoMs = intervaloVerificacao.toMillis();
+        Gauge.builder("votacao.datasource.replica.atraso", this, monitor -> monitor.atrasoSegundos)
+                .description("Atraso de replicação medido na réplica, em segundos")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("votacao.datasource.replica.disponivel", this, monitor -> monitor.disponivel ? 1 : 0)
+                .description("Indica se as leituras estão sendo enviadas para a réplica")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void iniciar() {
+        this.executor = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "monitor-replica");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.scheduleWithFixedDelay(this::verificar, 0, this.intervaloVerificacaoMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        if (this.executor != null)
+            this.executor.shutdownNow();
+    }
+
+    public boolean isDisponivel() {
+        return this.disponivel;
+    }
+
+    public void verificar() {
+        try (Connection conexao = this.replica.getConnection();
+                Statement consulta = conexao.createStatement();
+                ResultSet resultado = consulta.executeQuery(this.consultaAtraso)) {
+            this.atrasoSegundos = resultado.next() ? resultado.getDouble(1) : 0;
+            this.atualizarDisponibilidade(this.atrasoSegundos * 1000 <= this.atrasoMaximoMs);
+        } catch (SQLException | RuntimeException e) {
+            this.atualizarDisponibilidade(false);
+            LOGGER.debug("Falha ao verificar a réplica.", e);
+        }
+    }
+
+    private void atualizarDisponibilidade(boolean disponivel) {
+        if (this.disponivel != disponivel)
+            LOGGER.warn(disponivel ? "Leituras voltaram para a réplica (atraso de {}s)."
+                    : "Leituras redirecionadas para o banco primário (atraso de {}s).", this.atrasoSegundos);
+
+        this.disponivel = disponivel;
+    }
+}
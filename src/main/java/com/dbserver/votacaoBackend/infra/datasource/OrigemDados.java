@@ -0,0 +1,6 @@
+package com.dbserver.votacaoBackend.infra.datasource;
+
+public enum OrigemDados {
+    PRIMARIA,
+    REPLICA
+}
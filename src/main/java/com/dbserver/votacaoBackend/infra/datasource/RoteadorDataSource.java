@@ -0,0 +1,41 @@
+package com.dbserver.votacaoBackend.infra.datasource;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class RoteadorDataSource extends AbstractRoutingDataSource {
+    private static final ThreadLocal<Boolean> LEITURA_REPLICA = ThreadLocal.withInitial(() -> false);
+
+    private MonitorReplica monitorReplica;
+
+    public RoteadorDataSource(DataSource primaria, DataSource replica, MonitorReplica monitorReplica) {
+        this.monitorReplica = monitorReplica;
+        this.setTargetDataSources(Map.of(OrigemDados.PRIMARIA, primaria, OrigemDados.REPLICA, replica));
+        this.setDefaultTargetDataSource(primaria);
+        this.afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (isLeituraReplica() && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && this.monitorReplica.isDisponivel())
+            return OrigemDados.REPLICA;
+
+        return OrigemDados.PRIMARIA;
+    }
+
+    public static boolean isLeituraReplica() {
+        return LEITURA_REPLICA.get();
+    }
+
+    public static void definirLeituraReplica(boolean leituraReplica) {
+        if (leituraReplica)
+            LEITURA_REPLICA.set(true);
+        else
+            LEITURA_REPLICA.remove();
+    }
+}
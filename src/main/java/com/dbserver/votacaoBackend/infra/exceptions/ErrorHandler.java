@@ -1,6 +1,7 @@
 package com.dbserver.votacaoBackend.infra.exceptions;
 
 import org.postgresql.util.PSQLException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -69,6 +70,14 @@ public class ErrorHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(new RespostaErro(e.getMessage()));
     }
+
+    @ExceptionHandler(SobrecargaExeption.class)
+    public ResponseEntity<RespostaErro> handleSobrecargaExeption(SobrecargaExeption e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new RespostaErro(e.getMessage()));
+    }
+
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
     public ResponseEntity<RespostaErro> handleMethodArgumentTypeMismatchException(MethodArgumentTypeMismatchException e) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -0,0 +1,15 @@
+package com.dbserver.votacaoBackend.infra.exceptions;
+
+public class SobrecargaExeption extends RuntimeException {
+    public SobrecargaExeption() {
+       super();
+   }
+
+   public SobrecargaExeption(String mensagem) {
+       super(mensagem);
+   }
+
+   public SobrecargaExeption(String mensagem, Throwable causa) {
+       super(mensagem, causa);
+   }
+}
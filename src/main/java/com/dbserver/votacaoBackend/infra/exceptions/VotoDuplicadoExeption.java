@@ -0,0 +1,7 @@
+package com.dbserver.votacaoBackend.infra.exceptions;
+
+public class VotoDuplicadoExeption extends IllegalStateException {
+    public VotoDuplicadoExeption() {
+        super("Não é possível votar duas vezes.");
+    }
+}
@@ -0,0 +1,31 @@
+package com.dbserver.votacaoBackend.infra.metricas;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class ContadorConsultas implements StatementInspector {
+    private static final ThreadLocal<AtomicInteger> CONSULTAS = new ThreadLocal<>();
+
+    private StatementInspector delegado;
+
+    public ContadorConsultas(StatementInspector delegado) {
+        this.delegado = delegado;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        AtomicInteger consultas = CONSULTAS.get();
+        if (consultas != null)
+            consultas.incrementAndGet();
+        return this.delegado.inspect(sql);
+    }
+
+    public static void vincular(AtomicInteger consultas) {
+        CONSULTAS.set(consultas);
+    }
+
+    public static void desvincular() {
+        CONSULTAS.remove();
+    }
+}
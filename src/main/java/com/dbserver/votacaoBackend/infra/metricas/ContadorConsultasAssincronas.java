@@ -0,0 +1,25 @@
+package com.dbserver.votacaoBackend.infra.metricas;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+public class ContadorConsultasAssincronas implements CallableProcessingInterceptor {
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        Object consultas = request.getAttribute(MetricasConsultasFilter.ATRIBUTO_CONSULTAS,
+                RequestAttributes.SCOPE_REQUEST);
+
+        if (consultas instanceof AtomicInteger contagem)
+            ContadorConsultas.vincular(contagem);
+    }
+
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        ContadorConsultas.desvincular();
+    }
+}
@@ -0,0 +1,38 @@
+package com.dbserver.votacaoBackend.infra.metricas;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.BeanUtils;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class MetricasConfig implements WebMvcConfigurer {
+
+    @Bean
+    HibernatePropertiesCustomizer contadorConsultasCustomizer() {
+        return propriedades -> propriedades.put(AvailableSettings.STATEMENT_INSPECTOR, new ContadorConsultas(
+                inspetorConfigurado(propriedades.get(AvailableSettings.STATEMENT_INSPECTOR))));
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new ContadorConsultasAssincronas());
+    }
+
+    private static StatementInspector inspetorConfigurado(Object configurado) {
+        if (configurado == null)
+            return sql -> sql;
+
+        if (configurado instanceof StatementInspector inspetor)
+            return inspetor;
+
+        Class<?> classe = configurado instanceof Class<?> tipo ? tipo
+                : ClassUtils.resolveClassName(configurado.toString().trim(), null);
+        return BeanUtils.instantiateClass(classe, StatementInspector.class);
+    }
+}
@@ -0,0 +1,66 @@
+package com.dbserver.votacaoBackend.infra.metricas;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MetricasConsultasFilter extends OncePerRequestFilter {
+    static final String ATRIBUTO_CONSULTAS = MetricasConsultasFilter.class.getName() + ".CONSULTAS";
+    private static final String URI_NAO_MAPEADA = "NAO_MAPEADA";
+
+    private MeterRegistry meterRegistry;
+
+    public MetricasConsultasFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AtomicInteger consultas = (AtomicInteger) request.getAttribute(ATRIBUTO_CONSULTAS);
+        if (consultas == null) {
+            consultas = new AtomicInteger();
+            request.setAttribute(ATRIBUTO_CONSULTAS, consultas);
+        }
+
+        ContadorConsultas.vincular(consultas);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ContadorConsultas.desvincular();
+
+            if (!this.isAsyncStarted(request))
+                this.registrar(request, consultas.get());
+        }
+    }
+
+    private void registrar(HttpServletRequest request, int consultas) {
+        Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+        DistributionSummary.builder("votacao.hibernate.consultas")
+                .description("Consultas SQL executadas por requisição")
+                .tag("uri", uri != null ? uri.toString() : URI_NAO_MAPEADA)
+                .tag("metodo", request.getMethod())
+                .register(this.meterRegistry)
+                .record(consultas);
+    }
+}
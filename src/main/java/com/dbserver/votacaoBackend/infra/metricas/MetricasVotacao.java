@@ -0,0 +1,144 @@
+package com.dbserver.votacaoBackend.infra.metricas;
+
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.stereotype.Component;
+
+import com.dbserver.votacaoBackend.infra.exceptions.SobrecargaExeption;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Component
+public class MetricasVotacao {
+    private static final long SEGUNDOS_ATE_REMOVER_SESSAO = TimeUnit.MINUTES.toSeconds(5);
+    private static final long SEGUNDOS_ENTRE_LIMPEZAS = TimeUnit.MINUTES.toSeconds(1);
+
+    private MeterRegistry meterRegistry;
+    private Counter votosAceitos;
+    private Map<String, Counter> votosRejeitados = new ConcurrentHashMap<>();
+    private Map<Long, TaxaVotos> taxasPorSessao = new ConcurrentHashMap<>();
+    private volatile long ultimaLimpeza;
+
+    public MetricasVotacao(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.votosAceitos = Counter.builder("votacao.votos")
+                .description("Votos recebidos por resultado")
+                .tag("resultado", "aceito")
+                .tag("motivo", "nenhum")
+                .register(meterRegistry);
+        this.ultimaLimpeza = segundoAtual();
+    }
+
+    public void votoAceito(Long sessaoVotacaoId) {
+        this.votosAceitos.increment();
+
+        if (sessaoVotacaoId == null)
+            return;
+
+        long segundo = segundoAtual();
+        this.taxasPorSessao.computeIfAbsent(sessaoVotacaoId, this::registrarTaxa).registrar(segundo);
+        this.limparSessoesInativas(segundo);
+    }
+
+    public void votoRejeitado(RuntimeException erro) {
+        String motivo = classificar(erro);
+        this.votosRejeitados.computeIfAbsent(motivo, chave -> Counter.builder("votacao.votos")
+                .description("Votos recebidos por resultado")
+                .tag("resultado", "rejeitado")
+                .tag("motivo", chave)
+                .register(this.meterRegistry))
+                .increment();
+    }
+
+    private TaxaVotos registrarTaxa(Long sessaoVotacaoId) {
+        TaxaVotos taxa = new TaxaVotos();
+        taxa.medidor = Gauge.builder("votacao.votos.por.segundo", taxa, valor -> valor.taxa(segundoAtual()))
+                .description("Votos aceitos no último segundo completo")
+                .tag("sessao", String.valueOf(sessaoVotacaoId))
+                .register(this.meterRegistry);
+        return taxa;
+    }
+
+    private void limparSessoesInativas(long segundo) {
+        if (segundo - this.ultimaLimpeza < SEGUNDOS_ENTRE_LIMPEZAS)
+            return;
+
+        this.ultimaLimpeza = segundo;
+        this.taxasPorSessao.entrySet().removeIf(entrada -> {
+            TaxaVotos taxa = entrada.getValue();
+            if (segundo - taxa.ultimoVoto() < SEGUNDOS_ATE_REMOVER_SESSAO)
+                return false;
+
+            this.meterRegistry.remove(taxa.medidor);
+            return true;
+        });
+    }
+
+    private static String classificar(RuntimeException erro) {
+        if (erro instanceof NoSuchElementException)
+            return "nao_encontrado";
+        if (erro instanceof AuthenticationException)
+            return "credenciais";
+        if (erro instanceof SobrecargaExeption)
+            return "limite";
+        if (erro instanceof IllegalStateException)
+            return "conflito";
+        if (erro instanceof IllegalArgumentException)
+            return "invalido";
+        return "erro";
+    }
+
+    private static long segundoAtual() {
+        return TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
+    }
+
+    private static class TaxaVotos {
+        private final ReentrantLock trava = new ReentrantLock();
+        private Gauge medidor;
+        private long segundo;
+        private long votosNoSegundo;
+        private long votosNoSegundoAnterior;
+        private volatile long ultimoVoto;
+
+        private void registrar(long segundoAtual) {
+            this.trava.lock();
+            try {
+                this.avancar(segundoAtual);
+                this.votosNoSegundo++;
+                this.ultimoVoto = segundoAtual;
+            } finally {
+                this.trava.unlock();
+            }
+        }
+
+        private double taxa(long segundoAtual) {
+            this.trava.lock();
+            try {
+                this.avancar(segundoAtual);
+                return this.votosNoSegundoAnterior;
+            } finally {
+                this.trava.unlock();
+            }
+        }
+
+        private long ultimoVoto() {
+            return this.ultimoVoto;
+        }
+
+        private void avancar(long segundoAtual) {
+            if (segundoAtual <= this.segundo)
+                return;
+
+            this.votosNoSegundoAnterior = segundoAtual == this.segundo + 1 ? this.votosNoSegundo : 0;
+            this.votosNoSegundo = 0;
+            this.segundo = segundoAtual;
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.dbserver.votacaoBackend.infra.security;
 
+import java.time.Duration;
 import java.util.Arrays;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -10,21 +14,27 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.dbserver.votacaoBackend.infra.security.limite.FiltroLimiteRequisicoes;
+import com.dbserver.votacaoBackend.infra.security.senha.CodificadorDeSenhaLimitado;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
     private SecurityFilter securityFilter;
+    private FiltroLimiteRequisicoes filtroLimiteRequisicoes;
     private static final String AUTORIDADE_ADMIN = "ADMIN";
 
-    public SecurityConfig(SecurityFilter securityFilter) {
+    public SecurityConfig(SecurityFilter securityFilter, FiltroLimiteRequisicoes filtroLimiteRequisicoes) {
         this.securityFilter = securityFilter;
+        this.filtroLimiteRequisicoes = filtroLimiteRequisicoes;
     }
 
     @Bean
@@ -35,19 +45,24 @@ public class SecurityConfig {
                 .authorizeHttpRequests(authorize -> authorize
 
                         .requestMatchers(HttpMethod.POST, "/pauta").hasAuthority(AUTORIDADE_ADMIN)
-                        .requestMatchers(HttpMethod.GET, "/pauta/usuarioLogado", "/pauta/detalhes/**").hasAuthority(AUTORIDADE_ADMIN)
-                        .requestMatchers(HttpMethod.GET, "/pauta/ativas").authenticated()
+                        .requestMatchers(HttpMethod.GET, "/pauta/usuarioLogado", "/pauta/usuarioLogado/stream", "/pauta/detalhes/**").hasAuthority(AUTORIDADE_ADMIN)
+                        .requestMatchers(HttpMethod.GET, "/pauta/ativas", "/pauta/ativas/stream").authenticated()
 
                         .requestMatchers(HttpMethod.GET, "/usuario/usuarioLogado").authenticated()
-                        .requestMatchers(HttpMethod.POST, "/usuario").hasAuthority(AUTORIDADE_ADMIN)
+                        .requestMatchers(HttpMethod.POST, "/usuario", "/usuario/importacao").hasAuthority(AUTORIDADE_ADMIN)
                         
                         .requestMatchers(HttpMethod.POST, "/votacao/abrir").hasAuthority(AUTORIDADE_ADMIN)
 
                         .requestMatchers(HttpMethod.PATCH, "/votacao/votoInterno").authenticated()
+                        .requestMatchers(HttpMethod.PATCH, "/votacao/votoExterno/lote").hasAuthority(AUTORIDADE_ADMIN)
+
+                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasAuthority(AUTORIDADE_ADMIN)
 
                         .anyRequest().permitAll())
                 .cors(cors -> cors.configurationSource(this.corsConfigurationSource()))
                 .addFilterBefore(securityFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(filtroLimiteRequisicoes, SecurityFilter.class)
                 .build();
     }
 
@@ -57,6 +72,7 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(Arrays.asList("http://localhost:5173"));
         configuration.setAllowedMethods(Arrays.asList("*"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        configuration.setExposedHeaders(Arrays.asList("X-Next-Cursor", HttpHeaders.ETAG));
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
         return source;
@@ -69,7 +85,13 @@ public class SecurityConfig {
     }
 
     @Bean
-    PasswordEncoder passwordEnconder() {
-        return new BCryptPasswordEncoder();
+    CodificadorDeSenhaLimitado passwordEnconder(@Value("${api.security.senha.threads:4}") int threads,
+            @Value("${api.security.senha.capacidade-fila:64}") int capacidadeFila,
+            @Value("${api.security.senha.lote.threads:2}") int threadsLote,
+            @Value("${api.security.senha.tempo-maximo-espera-ms:2000}") long tempoMaximoEsperaMs,
+            @Value("${api.security.senha.duracao-cache-segundos:300}") long duracaoCacheSegundos,
+            MeterRegistry meterRegistry) {
+        return new CodificadorDeSenhaLimitado(new BCryptPasswordEncoder(), threads, capacidadeFila, threadsLote,
+                Duration.ofMillis(tempoMaximoEsperaMs), Duration.ofSeconds(duracaoCacheSegundos), meterRegistry);
     }
 }
\ No newline at end of file
@@ -3,19 +3,27 @@ package com.dbserver.votacaoBackend.infra.security;
 import java.io.IOException;
 import java.util.Optional;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.dbserver.votacaoBackend.domain.autenticacao.Autenticacao;
 import com.dbserver.votacaoBackend.domain.autenticacao.repository.AutenticacaoRepository;
+import com.dbserver.votacaoBackend.domain.usuario.Usuario;
+import com.dbserver.votacaoBackend.domain.usuario.repository.UsuarioRepository;
 import com.dbserver.votacaoBackend.infra.exceptions.RespostaErro;
 import com.dbserver.votacaoBackend.infra.exceptions.ValidarJwtExeption;
+import com.dbserver.votacaoBackend.infra.security.token.TokenCache;
 import com.dbserver.votacaoBackend.infra.security.token.TokenService;
 import com.dbserver.votacaoBackend.infra.security.userDetails.UserDetailsImpl;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,10 +33,26 @@ import jakarta.servlet.http.HttpServletResponse;
 public class SecurityFilter extends OncePerRequestFilter {
     private TokenService tokenService;
     private AutenticacaoRepository autenticacaoRepository;
+    private UsuarioRepository usuarioRepository;
+    private TokenCache tokenCache;
+    private boolean principalPorClaims;
+    private Timer tempoCache;
+    private Timer tempoToken;
+    private Timer tempoInvalido;
 
-    public SecurityFilter(TokenService tokenService, AutenticacaoRepository autenticacaoRepository) {
+    public SecurityFilter(TokenService tokenService, AutenticacaoRepository autenticacaoRepository,
+            UsuarioRepository usuarioRepository,
+            TokenCache tokenCache,
+            MeterRegistry meterRegistry,
+            @Value("${api.security.token.principal-por-claims:false}") boolean principalPorClaims) {
         this.tokenService = tokenService;
         this.autenticacaoRepository = autenticacaoRepository;
+        this.usuarioRepository = usuarioRepository;
+        this.tokenCache = tokenCache;
+        this.principalPorClaims = principalPorClaims;
+        this.tempoCache = this.registrarTempo(meterRegistry, "cache");
+        this.tempoToken = this.registrarTempo(meterRegistry, "token");
+        this.tempoInvalido = this.registrarTempo(meterRegistry, "invalido");
     }
 
     @Override
@@ -37,23 +61,41 @@ public class SecurityFilter extends OncePerRequestFilter {
         var token = this.recuperarToken(request);
 
         if (token != null) {
+            Timer.Sample amostra = Timer.start();
+            Optional<Authentication> authenticationEmCache = this.tokenCache.buscar(token);
+
+            if (authenticationEmCache.isPresent()) {
+                SecurityContextHolder.getContext().setAuthentication(authenticationEmCache.get());
+                amostra.stop(this.tempoCache);
+                filterChain.doFilter(request, response);
+                return;
+            }
+
             try {
-                String email = tokenService.validarToken(token);
+                DecodedJWT jwt = tokenService.verificarToken(token);
 
-                Optional<Autenticacao> autenticacao = this.autenticacaoRepository.findByEmail(email);
+                Optional<Usuario> usuario = this.principalPorClaims
+                        ? this.tokenService.extrairUsuarioId(jwt).flatMap(this.usuarioRepository::findById)
+                        : Optional.empty();
+
+                if (usuario.isEmpty())
+                    usuario = this.autenticacaoRepository.findByEmail(jwt.getSubject()).map(Autenticacao::getUsuario);
                 
-                if (autenticacao.isPresent()) {
-                    Autenticacao autenticacaoEncontrada = autenticacao.get();
-                    UserDetailsImpl userDetailsImpl = new UserDetailsImpl(autenticacaoEncontrada);
+                if (usuario.isPresent()) {
+                    Usuario usuarioAutenticado = usuario.get();
 
-                    var authentication = new UsernamePasswordAuthenticationToken(userDetailsImpl.getUsuario(), null,
-                    userDetailsImpl.getAuthorities());
+                    var authentication = new UsernamePasswordAuthenticationToken(usuarioAutenticado, null,
+                    UserDetailsImpl.gerarAutoridades(usuarioAutenticado));
                     SecurityContextHolder.getContext().setAuthentication(authentication);
+                    this.tokenCache.armazenar(token, authentication, jwt.getExpiresAtAsInstant());
+                    amostra.stop(this.tempoToken);
                 }else{
+                    amostra.stop(this.tempoInvalido);
                     this.respostaErro(response);
                     return;
                 }
             } catch (ValidarJwtExeption e) {
+                amostra.stop(this.tempoInvalido);
                 this.respostaErro(response);
                 return;
             }
@@ -62,6 +104,13 @@ public class SecurityFilter extends OncePerRequestFilter {
 
     }
 
+    private Timer registrarTempo(MeterRegistry meterRegistry, String origem) {
+        return Timer.builder("votacao.seguranca.autenticacao")
+                .description("Tempo para autenticar a requisição a partir do token")
+                .tag("origem", origem)
+                .register(meterRegistry);
+    }
+
     private String recuperarToken(HttpServletRequest request) {
         var authHeader = request.getHeader("Authorization");
         if (authHeader == null)
@@ -0,0 +1,47 @@
+package com.dbserver.votacaoBackend.infra.security.limite;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class BaldeDeTokens {
+    private AtomicLong proximaLiberacao;
+    private long intervaloNanos;
+    private long toleranciaNanos;
+
+    public BaldeDeTokens(LimiteTaxa limite, long agoraNanos) {
+        this.intervaloNanos = limite.intervaloNanos();
+        this.toleranciaNanos = this.intervaloNanos * (limite.capacidade() - 1);
+        this.proximaLiberacao = new AtomicLong(agoraNanos);
+    }
+
+    public long consumir(long agoraNanos) {
+        while (true) {
+            long atual = this.proximaLiberacao.get();
+            long inicio = Math.max(atual, agoraNanos);
+            long espera = inicio - this.toleranciaNanos - agoraNanos;
+
+            if (espera > 0)
+                return espera;
+
+            if (this.proximaLiberacao.compareAndSet(atual, inicio + this.intervaloNanos))
+                return 0;
+        }
+    }
+
+    public int consumirAte(long agoraNanos, int quantidade) {
+        if (quantidade < 1)
+            return 0;
+
+        while (true) {
+            long atual = this.proximaLiberacao.get();
+            long inicio = Math.max(atual, agoraNanos);
+            long folga = agoraNanos + this.toleranciaNanos - inicio;
+
+            if (folga < 0)
+                return 0;
+
+            int disponiveis = (int) Math.min(quantidade, folga / this.intervaloNanos + 1);
+            if (this.proximaLiberacao.compareAndSet(atual, inicio + this.intervaloNanos * disponiveis))
+                return disponiveis;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.dbserver.votacaoBackend.infra.security.limite;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.dbserver.votacaoBackend.infra.exceptions.RespostaErro;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@Component
+public class FiltroLimiteRequisicoes extends OncePerRequestFilter {
+    private static final int TAMANHO_MAXIMO_CORPO_LIDO = 4096;
+
+    private ObjectMapper objectMapper;
+    private boolean habilitado;
+    private Map<RotaLimitada, LimiteTaxa> limitesPorIp = new EnumMap<>(RotaLimitada.class);
+    private LimitePorCpf limitePorCpf;
+    private Cache<String, BaldeDeTokens> baldesPorIp;
+    private Map<RotaLimitada, ContadoresRota> contadores = new EnumMap<>(RotaLimitada.class);
+
+    public FiltroLimiteRequisicoes(ObjectMapper objectMapper, MeterRegistry meterRegistry, LimitePorCpf limitePorCpf,
+            @Value("${api.security.limite.habilitado:true}") boolean habilitado,
+            @Value("${api.security.limite.tamanho-maximo:100000}") long tamanhoMaximo,
+            @Value("${api.security.limite.login:10/30}") String limiteLogin,
+            @Value("${api.security.limite.autorizar-voto-externo:10/30}") String limiteAutorizarVotoExterno,
+            @Value("${api.security.limite.voto-externo:60/600}") String limiteVotoExterno,
+            @Value("${api.security.limite.voto-externo-lote:10/60}") String limiteVotoExternoLote,
+            @Value("${api.security.limite.existe-usuario:30/300}") String limiteExisteUsuario) {
+        this.objectMapper = objectMapper;
+        this.habilitado = habilitado;
+        this.limitesPorIp.put(RotaLimitada.LOGIN, LimiteTaxa.de(limiteLogin));
+        this.limitesPorIp.put(RotaLimitada.AUTORIZAR_VOTO_EXTERNO, LimiteTaxa.de(limiteAutorizarVotoExterno));
+        this.limitesPorIp.put(RotaLimitada.VOTO_EXTERNO, LimiteTaxa.de(limiteVotoExterno));
+        this.limitesPorIp.put(RotaLimitada.VOTO_EXTERNO_LOTE, LimiteTaxa.de(limiteVotoExternoLote));
+        this.limitesPorIp.put(RotaLimitada.EXISTE_USUARIO, LimiteTaxa.de(limiteExisteUsuario));
+        this.limitePorCpf = limitePorCpf;
+
+        long expiracaoPorIp = this.limitesPorIp.values().stream()
+                .mapToLong(LimiteTaxa::duracaoReabastecimentoNanos)
+                .max()
+                .orElse(0);
+        this.baldesPorIp = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterAccess(expiracaoPorIp, TimeUnit.NANOSECONDS)
+                .build();
+
+        for (RotaLimitada rota : RotaLimitada.values())
+            this.contadores.put(rota, new ContadoresRota(meterRegistry, rota));
+
+        meterRegistry.gauge("votacao.limite.baldes", Tags.of("chave", "ip"), this.baldesPorIp, Cache::estimatedSize);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !this.habilitado;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RotaLimitada rota = RotaLimitada.de(request).orElse(null);
+
+        if (rota == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ContadoresRota contadoresRota = this.contadores.get(rota);
+        long agora = System.nanoTime();
+        LimiteTaxa limiteIp = this.limitesPorIp.get(rota);
+        long espera = this.baldesPorIp.get(rota.name() + ":" + request.getRemoteAddr(),
+                chave -> new BaldeDeTokens(limiteIp, agora)).consumir(agora);
+
+        if (espera > 0) {
+            contadoresRota.bloqueadasPorIp.increment();
+            this.respostaLimiteExcedido(response, espera);
+            return;
+        }
+
+        HttpServletRequest requisicao = request;
+        String cpf = null;
+
+        if (rota.getOrigemCpf() == RotaLimitada.OrigemCpf.PARAMETRO) {
+            cpf = request.getParameter("cpf");
+        } else if (rota.getOrigemCpf() == RotaLimitada.OrigemCpf.CORPO) {
+            RequisicaoComCorpoEmCache requisicaoComCorpo = new RequisicaoComCorpoEmCache(request,
+                    TAMANHO_MAXIMO_CORPO_LIDO);
+            cpf = this.extrairCpf(requisicaoComCorpo.getInicioDoCorpo());
+            requisicao = requisicaoComCorpo;
+        }
+
+        if (cpf != null && !cpf.isBlank()) {
+            espera = this.limitePorCpf.consumir(cpf, agora);
+
+            if (espera > 0) {
+                contadoresRota.bloqueadasPorCpf.increment();
+                this.respostaLimiteExcedido(response, espera);
+                return;
+            }
+        }
+
+        contadoresRota.permitidas.increment();
+        filterChain.doFilter(requisicao, response);
+    }
+
+    private String extrairCpf(byte[] corpo) {
+        try {
+            JsonNode cpf = this.objectMapper.readTree(corpo).get("cpf");
+            return cpf != null && cpf.isTextual() ? cpf.asText() : null;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private void respostaLimiteExcedido(HttpServletResponse response, long esperaNanos) throws IOException {
+        long segundos = Math.max(1, (esperaNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(segundos));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write(this.objectMapper.writeValueAsString(
+                new RespostaErro("Muitas requisições. Tente novamente mais tarde.")));
+    }
+
+    private static class ContadoresRota {
+        private Counter permitidas;
+        private Counter bloqueadasPorIp;
+        private Counter bloqueadasPorCpf;
+
+        ContadoresRota(MeterRegistry meterRegistry, RotaLimitada rota) {
+            this.permitidas = registrar(meterRegistry, rota, "permitida");
+            this.bloqueadasPorIp = registrar(meterRegistry, rota, "bloqueada_ip");
+            this.bloqueadasPorCpf = registrar(meterRegistry, rota, "bloqueada_cpf");
+        }
+
+        private static Counter registrar(MeterRegistry meterRegistry, RotaLimitada rota, String resultado) {
+            return Counter.builder("votacao.limite.requisicoes")
+                    .description("Requisições às rotas com limite de taxa por resultado")
+                    .tag("rota", rota.name().toLowerCase())
+                    .tag("resultado", resultado)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.dbserver.votacaoBackend.infra.security.limite;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+@Component
+public class LimitePorCpf {
+    private LimiteTaxa limite;
+    private Cache<String, BaldeDeTokens> baldes;
+
+    public LimitePorCpf(MeterRegistry meterRegistry,
+            @Value("${api.security.limite.tamanho-maximo:100000}") long tamanhoMaximo,
+            @Value("${api.security.limite.cpf:5/10}") String limiteCpf) {
+        this.limite = LimiteTaxa.de(limiteCpf);
+        this.baldes = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterAccess(this.limite.duracaoReabastecimentoNanos(), TimeUnit.NANOSECONDS)
+                .build();
+
+        meterRegistry.gauge("votacao.limite.baldes", Tags.of("chave", "cpf"), this.baldes, Cache::estimatedSize);
+    }
+
+    public long consumir(String cpf, long agoraNanos) {
+        return this.baldes.get(cpf, chave -> new BaldeDeTokens(this.limite, agoraNanos)).consumir(agoraNanos);
+    }
+}
@@ -0,0 +1,31 @@
+package com.dbserver.votacaoBackend.infra.security.limite;
+
+import java.util.concurrent.TimeUnit;
+
+public record LimiteTaxa(int capacidade, int porMinuto) {
+
+    public LimiteTaxa {
+        if (capacidade < 1 || porMinuto < 1)
+            throw new IllegalArgumentException("Capacidade e reposição por minuto do limite devem ser maiores que zero.");
+    }
+
+    public static LimiteTaxa de(String valor) {
+        String[] partes = valor.split("/");
+        if (partes.length != 2)
+            throw new IllegalArgumentException("Limite deve seguir o formato capacidade/por-minuto.");
+
+        try {
+            return new LimiteTaxa(Integer.parseInt(partes[0].trim()), Integer.parseInt(partes[1].trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Limite deve seguir o formato capacidade/por-minuto.");
+        }
+    }
+
+    public long intervaloNanos() {
+        return TimeUnit.MINUTES.toNanos(1) / this.porMinuto;
+    }
+
+    public long duracaoReabastecimentoNanos() {
+        return this.intervaloNanos() * this.capacidade;
+    }
+}
@@ -0,0 +1,45 @@
+package com.dbserver.votacaoBackend.infra.security.limite;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@Component
+public class LimiteVotosEmLote {
+    public static final String MENSAGEM_LIMITE_EXCEDIDO = "Muitas requisições. Tente novamente mais tarde.";
+
+    private boolean habilitado;
+    private LimiteTaxa limiteVotos;
+    private LimitePorCpf limitePorCpf;
+    private Cache<String, BaldeDeTokens> baldesPorOrigem;
+
+    public LimiteVotosEmLote(LimitePorCpf limitePorCpf,
+            @Value("${api.security.limite.habilitado:true}") boolean habilitado,
+            @Value("${api.security.limite.tamanho-maximo:100000}") long tamanhoMaximo,
+            @Value("${api.security.limite.votos-em-lote:5000/5000}") String limiteVotos) {
+        this.limitePorCpf = limitePorCpf;
+        this.habilitado = habilitado;
+        this.limiteVotos = LimiteTaxa.de(limiteVotos);
+        this.baldesPorOrigem = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterAccess(this.limiteVotos.duracaoReabastecimentoNanos(), TimeUnit.NANOSECONDS)
+                .build();
+    }
+
+    public int reservarVotos(String origem, int quantidade) {
+        if (!this.habilitado)
+            return quantidade;
+
+        long agora = System.nanoTime();
+        return this.baldesPorOrigem.get(origem, chave -> new BaldeDeTokens(this.limiteVotos, agora))
+                .consumirAte(agora, quantidade);
+    }
+
+    public boolean reservarCpf(String cpf) {
+        return !this.habilitado || this.limitePorCpf.consumir(cpf, System.nanoTime()) == 0;
+    }
+}
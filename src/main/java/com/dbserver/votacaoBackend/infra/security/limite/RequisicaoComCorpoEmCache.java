@@ -0,0 +1,85 @@
+package com.dbserver.votacaoBackend.infra.security.limite;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+public class RequisicaoComCorpoEmCache extends HttpServletRequestWrapper {
+    private byte[] inicioDoCorpo;
+    private ServletInputStream entrada;
+
+    public RequisicaoComCorpoEmCache(HttpServletRequest request, int tamanhoMaximo) throws IOException {
+        super(request);
+        ServletInputStream original = request.getInputStream();
+        this.inicioDoCorpo = original.readNBytes(tamanhoMaximo);
+        this.entrada = new EntradaComInicioEmCache(
+                new SequenceInputStream(new ByteArrayInputStream(this.inicioDoCorpo), original), original);
+    }
+
+    public byte[] getInicioDoCorpo() {
+        return this.inicioDoCorpo;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        return this.entrada;
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        String codificacao = this.getCharacterEncoding();
+        Charset charset = codificacao != null ? Charset.forName(codificacao) : StandardCharsets.UTF_8;
+
+        return new BufferedReader(new InputStreamReader(this.entrada, charset));
+    }
+
+    private static class EntradaComInicioEmCache extends ServletInputStream {
+        private InputStream entrada;
+        private ServletInputStream original;
+        private boolean finalizada;
+
+        EntradaComInicioEmCache(InputStream entrada, ServletInputStream original) {
+            this.entrada = entrada;
+            this.original = original;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int valor = this.entrada.read();
+            this.finalizada = valor == -1;
+            return valor;
+        }
+
+        @Override
+        public int read(byte[] destino, int inicio, int tamanho) throws IOException {
+            int lidos = this.entrada.read(destino, inicio, tamanho);
+            this.finalizada = lidos == -1;
+            return lidos;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return this.finalizada;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            this.original.setReadListener(readListener);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.dbserver.votacaoBackend.infra.security.limite;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+public enum RotaLimitada {
+    LOGIN("POST", "/auth/login", OrigemCpf.NENHUMA),
+    AUTORIZAR_VOTO_EXTERNO("POST", "/auth/votoExterno", OrigemCpf.CORPO),
+    VOTO_EXTERNO("PATCH", "/votacao/votoExterno", OrigemCpf.CORPO),
+    VOTO_EXTERNO_LOTE("PATCH", "/votacao/votoExterno/lote", OrigemCpf.NENHUMA),
+    EXISTE_USUARIO("GET", "/usuario/existe", OrigemCpf.PARAMETRO);
+
+    private String metodo;
+    private String caminho;
+    private OrigemCpf origemCpf;
+
+    RotaLimitada(String metodo, String caminho, OrigemCpf origemCpf) {
+        this.metodo = metodo;
+        this.caminho = caminho;
+        this.origemCpf = origemCpf;
+    }
+
+    public static Optional<RotaLimitada> de(HttpServletRequest request) {
+        String caminho = request.getRequestURI().substring(request.getContextPath().length());
+
+        return Arrays.stream(values())
+                .filter(rota -> rota.metodo.equals(request.getMethod()) && rota.caminho.equals(caminho))
+                .findFirst();
+    }
+
+    public OrigemCpf getOrigemCpf() {
+        return this.origemCpf;
+    }
+
+    public enum OrigemCpf {
+        NENHUMA,
+        CORPO,
+        PARAMETRO
+    }
+}
@@ -0,0 +1,212 @@
+package com.dbserver.votacaoBackend.infra.security.senha;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.dbserver.votacaoBackend.infra.exceptions.SobrecargaExeption;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+public class CodificadorDeSenhaLimitado implements PasswordEncoder {
+    private static final String MENSAGEM_SOBRECARGA = "Muitas verificações de senha em andamento, tente novamente em instantes.";
+
+    private PasswordEncoder codificador;
+    private ThreadPoolExecutor executor;
+    private ThreadPoolExecutor executorLote;
+    private Duration tempoMaximoEspera;
+    private Cache<String, Boolean> verificacoesValidas;
+    private byte[] sal = new byte[16];
+    private Timer tempoCodificacao;
+    private Timer tempoVerificacao;
+    private Counter verificacoesEmCache;
+    private Counter rejeicoes;
+
+    public CodificadorDeSenhaLimitado(PasswordEncoder codificador, int threads, int capacidadeFila, int threadsLote,
+            Duration tempoMaximoEspera, Duration duracaoCache, MeterRegistry meterRegistry) {
+        this.codificador = codificador;
+        this.tempoMaximoEspera = tempoMaximoEspera;
+        this.executor = criarExecutor("verificacao-senha-", threads, capacidadeFila);
+        this.executorLote = criarExecutor("verificacao-senha-lote-", threadsLote, threadsLote);
+        this.verificacoesValidas = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(duracaoCache)
+                .build();
+        new SecureRandom().nextBytes(this.sal);
+
+        this.tempoCodificacao = Timer.builder("votacao.senha.hash")
+                .description("Tempo de cálculo de hash de senha")
+                .tag("operacao", "codificacao")
+                .register(meterRegistry);
+        this.tempoVerificacao = Timer.builder("votacao.senha.hash")
+                .description("Tempo de cálculo de hash de senha")
+                .tag("operacao", "verificacao")
+                .register(meterRegistry);
+        this.verificacoesEmCache = Counter.builder("votacao.senha.verificacoes.cache")
+                .description("Verificações de senha atendidas pelo cache")
+                .register(meterRegistry);
+        this.rejeicoes = Counter.builder("votacao.senha.rejeicoes")
+                .description("Verificações de senha recusadas por sobrecarga")
+                .register(meterRegistry);
+        meterRegistry.gauge("votacao.senha.fila", this.executor, executor -> executor.getQueue().size());
+        meterRegistry.gauge("votacao.senha.lote.em-andamento", this.executorLote, ThreadPoolExecutor::getActiveCount);
+    }
+
+    private static ThreadPoolExecutor criarExecutor(String prefixo, int threads, int capacidadeFila) {
+        AtomicInteger contador = new AtomicInteger();
+
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacidadeFila), tarefa -> {
+                    Thread thread = new Thread(tarefa, prefixo + contador.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence senha) {
+        return this.executar(() -> this.tempoCodificacao.recordCallable(() -> this.codificador.encode(senha)));
+    }
+
+    public String codificarNaThreadAtual(CharSequence senha) {
+        return this.tempoCodificacao.record(() -> this.codificador.encode(senha));
+    }
+
+    @Override
+    public boolean matches(CharSequence senha, String senhaEncriptada) {
+        if (senha == null || senhaEncriptada == null)
+            return false;
+
+        String chave = this.gerarChave(senha, senhaEncriptada);
+        if (this.verificacoesValidas.getIfPresent(chave) != null) {
+            this.verificacoesEmCache.increment();
+            return true;
+        }
+
+        boolean valida = this.executar(
+                () -> this.tempoVerificacao.recordCallable(() -> this.codificador.matches(senha, senhaEncriptada)));
+        if (valida)
+            this.verificacoesValidas.put(chave, Boolean.TRUE);
+
+        return valida;
+    }
+
+    public <T> Set<T> filtrarSenhasValidas(Collection<T> itens, Function<T, ? extends CharSequence> senha,
+            Function<T, String> senhaEncriptada) {
+        Set<T> validas = new HashSet<>();
+        Deque<VerificacaoPendente<T>> pendentes = new ArrayDeque<>();
+
+        try {
+            for (T item : itens) {
+                CharSequence senhaDoItem = senha.apply(item);
+                String senhaEncriptadaDoItem = senhaEncriptada.apply(item);
+                if (senhaDoItem == null || senhaEncriptadaDoItem == null)
+                    continue;
+
+                String chave = this.gerarChave(senhaDoItem, senhaEncriptadaDoItem);
+                if (this.verificacoesValidas.getIfPresent(chave) != null) {
+                    this.verificacoesEmCache.increment();
+                    validas.add(item);
+                    continue;
+                }
+
+                if (pendentes.size() == this.executorLote.getMaximumPoolSize())
+                    this.concluir(pendentes.poll(), validas);
+
+                pendentes.add(new VerificacaoPendente<>(item, chave, this.submeter(this.executorLote, () -> this.tempoVerificacao
+                        .recordCallable(() -> this.codificador.matches(senhaDoItem, senhaEncriptadaDoItem)))));
+            }
+
+            while (!pendentes.isEmpty())
+                this.concluir(pendentes.poll(), validas);
+        } catch (RuntimeException e) {
+            pendentes.forEach(pendente -> pendente.resultado().cancel(true));
+            throw e;
+        }
+
+        return validas;
+    }
+
+    public void shutdown() {
+        this.executor.shutdown();
+        this.executorLote.shutdown();
+    }
+
+    private <T> void concluir(VerificacaoPendente<T> pendente, Set<T> validas) {
+        if (Boolean.TRUE.equals(this.aguardar(pendente.resultado()))) {
+            this.verificacoesValidas.put(pendente.chave(), Boolean.TRUE);
+            validas.add(pendente.item());
+        }
+    }
+
+    private <T> T executar(Callable<T> tarefa) {
+        return this.aguardar(this.submeter(this.executor, tarefa));
+    }
+
+    private <T> Future<T> submeter(ThreadPoolExecutor executor, Callable<T> tarefa) {
+        try {
+            return executor.submit(tarefa);
+        } catch (RejectedExecutionException e) {
+            this.rejeicoes.increment();
+            throw new SobrecargaExeption(MENSAGEM_SOBRECARGA, e);
+        }
+    }
+
+    private <T> T aguardar(Future<T> resultado) {
+        try {
+            return resultado.get(this.tempoMaximoEspera.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            resultado.cancel(true);
+            this.rejeicoes.increment();
+            throw new SobrecargaExeption(MENSAGEM_SOBRECARGA, e);
+        } catch (InterruptedException e) {
+            resultado.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new SobrecargaExeption(MENSAGEM_SOBRECARGA, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException causa)
+                throw causa;
+            throw new IllegalStateException("Falha ao verificar senha.", e.getCause());
+        }
+    }
+
+    private String gerarChave(CharSequence senha, String senhaEncriptada) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(this.sal);
+            digest.update(senha.toString().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(senhaEncriptada.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Algoritmo SHA-256 indisponível.", e);
+        }
+    }
+
+    private record VerificacaoPendente<T>(T item, String chave, Future<Boolean> resultado) {
+    }
+}
@@ -1,5 +1,8 @@
 package com.dbserver.votacaoBackend.infra.security.token;
 
+import java.util.Optional;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.dbserver.votacaoBackend.domain.autenticacao.Autenticacao;
 import com.dbserver.votacaoBackend.infra.exceptions.CriarJwtExeption;
 import com.dbserver.votacaoBackend.infra.exceptions.ValidarJwtExeption;
@@ -7,4 +10,6 @@ import com.dbserver.votacaoBackend.infra.exceptions.ValidarJwtExeption;
 public interface ITokenService {
     public String gerarToken(Autenticacao autenticacao) throws CriarJwtExeption;
     public String validarToken(String token) throws ValidarJwtExeption;
+    public DecodedJWT verificarToken(String token) throws ValidarJwtExeption;
+    public Optional<Long> extrairUsuarioId(DecodedJWT jwt);
 }
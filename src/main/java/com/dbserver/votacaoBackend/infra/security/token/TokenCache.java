@@ -0,0 +1,80 @@
+package com.dbserver.votacaoBackend.infra.security.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+@Component
+public class TokenCache {
+    private Cache<String, TokenVerificado> cache;
+    private Duration duracaoMaxima;
+
+    public TokenCache(@Value("${api.security.token.cache.tamanho-maximo:10000}") long tamanhoMaximo,
+            @Value("${api.security.token.cache.duracao-maxima-segundos:300}") long duracaoMaximaSegundos) {
+        this.duracaoMaxima = Duration.ofSeconds(duracaoMaximaSegundos);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfter(new ExpiracaoDoToken())
+                .build();
+    }
+
+    public Optional<Authentication> buscar(String token) {
+        TokenVerificado tokenVerificado = this.cache.getIfPresent(gerarChave(token));
+        if (tokenVerificado == null || !tokenVerificado.expiracao().isAfter(Instant.now()))
+            return Optional.empty();
+
+        return Optional.of(tokenVerificado.authentication());
+    }
+
+    public void armazenar(String token, Authentication authentication, Instant expiracao) {
+        if (expiracao == null || !expiracao.isAfter(Instant.now()))
+            return;
+
+        this.cache.put(gerarChave(token), new TokenVerificado(authentication, expiracao));
+    }
+
+    private static String gerarChave(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Algoritmo SHA-256 indisponível.", e);
+        }
+    }
+
+    private record TokenVerificado(Authentication authentication, Instant expiracao) {
+    }
+
+    private class ExpiracaoDoToken implements Expiry<String, TokenVerificado> {
+        @Override
+        public long expireAfterCreate(String chave, TokenVerificado tokenVerificado, long tempoAtual) {
+            Duration ateExpirar = Duration.between(Instant.now(), tokenVerificado.expiracao());
+            Duration duracao = ateExpirar.compareTo(duracaoMaxima) < 0 ? ateExpirar : duracaoMaxima;
+            return Math.max(duracao.toNanos(), 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String chave, TokenVerificado tokenVerificado, long tempoAtual,
+                long duracaoAtual) {
+            return this.expireAfterCreate(chave, tokenVerificado, tempoAtual);
+        }
+
+        @Override
+        public long expireAfterRead(String chave, TokenVerificado tokenVerificado, long tempoAtual,
+                long duracaoAtual) {
+            return duracaoAtual;
+        }
+    }
+}
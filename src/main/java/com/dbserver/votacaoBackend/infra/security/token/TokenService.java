@@ -3,11 +3,13 @@ package com.dbserver.votacaoBackend.infra.security.token;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.AlgorithmMismatchException;
 import com.auth0.jwt.exceptions.IncorrectClaimException;
@@ -16,46 +18,93 @@ import com.auth0.jwt.exceptions.JWTDecodeException;
 import com.auth0.jwt.exceptions.MissingClaimException;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.dbserver.votacaoBackend.domain.autenticacao.Autenticacao;
+import com.dbserver.votacaoBackend.domain.usuario.Usuario;
 import com.dbserver.votacaoBackend.infra.exceptions.CriarJwtExeption;
 import com.dbserver.votacaoBackend.infra.exceptions.ValidarJwtExeption;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 @Service
 public class TokenService implements ITokenService{
-    
-    @Value("${api.security.token.senha}")
-    private String senha;
+    private static final String EMISSOR = "CRUD Unidade Ar";
+
+    private Algorithm algorithm;
+    private JWTVerifier verifier;
+    private int versao;
+    private Timer tempoGeracao;
+    private Timer tempoVerificacaoValida;
+    private Timer tempoVerificacaoInvalida;
+
+    public TokenService(@Value("${api.security.token.senha}") String senha,
+            @Value("${api.security.token.versao:1}") int versao,
+            MeterRegistry meterRegistry) {
+        this.algorithm = Algorithm.HMAC256(senha);
+        this.versao = versao;
+        this.tempoGeracao = Timer.builder("votacao.token.geracao")
+                .description("Tempo de geração de tokens JWT")
+                .register(meterRegistry);
+        this.tempoVerificacaoValida = Timer.builder("votacao.token.verificacao")
+                .description("Tempo de verificação de tokens JWT")
+                .tag("resultado", "valido")
+                .register(meterRegistry);
+        this.tempoVerificacaoInvalida = Timer.builder("votacao.token.verificacao")
+                .description("Tempo de verificação de tokens JWT")
+                .tag("resultado", "invalido")
+                .register(meterRegistry);
+        this.verifier = JWT.require(this.algorithm)
+                .withIssuer(EMISSOR)
+                .withClaim("versao", versao)
+                .build();
+    }
 
     @Override
     public String gerarToken(Autenticacao autenticacao) throws CriarJwtExeption {
 
         if(autenticacao == null) throw new IllegalArgumentException("Autenticação não deve ser nula");
         if(autenticacao.getUsuario() == null) throw new IllegalArgumentException("Usuário de autenticação não deve ser nula");
+        Timer.Sample amostra = Timer.start();
         try {
-            Algorithm algorithm = Algorithm.HMAC256(senha);
+            Usuario usuario = autenticacao.getUsuario();
             return JWT.create()
-                    .withIssuer("CRUD Unidade Ar")
+                    .withIssuer(EMISSOR)
                     .withSubject(autenticacao.getEmail())
-                    .withClaim("userId", autenticacao.getUsuario().getId())
+                    .withClaim("userId", usuario.getId())
+                    .withClaim("versao", this.versao)
                     .withExpiresAt(this.gerarDataExpiracao())
-                    .sign(algorithm);
+                    .sign(this.algorithm);
         } catch (JWTCreationException e) {
             throw new CriarJwtExeption("Erro ao gerar Token", e);
         } catch (IllegalArgumentException e) {
             throw new CriarJwtExeption("Erro com os argumentos na geração do token",  e);
+        } finally {
+            amostra.stop(this.tempoGeracao);
         }
     }
 
     @Override
     public String validarToken(String token) throws ValidarJwtExeption {
+        return this.verificarToken(token).getSubject();
+    }
+
+    @Override
+    public DecodedJWT verificarToken(String token) throws ValidarJwtExeption {
+        Timer.Sample amostra = Timer.start();
         try {
-            Algorithm algorithm = Algorithm.HMAC256(senha);
-            return JWT.require(algorithm)
-                    .withIssuer("CRUD Unidade Ar")
-                    .build()
-                    .verify(token)
-                    .getSubject();
+            DecodedJWT jwt = this.decodificarToken(token);
+            amostra.stop(this.tempoVerificacaoValida);
+            return jwt;
+        } catch (ValidarJwtExeption e) {
+            amostra.stop(this.tempoVerificacaoInvalida);
+            throw e;
+        }
+    }
 
+    private DecodedJWT decodificarToken(String token) throws ValidarJwtExeption {
+        try {
+            return this.verifier.verify(token);
         } catch (AlgorithmMismatchException e) {
             throw new ValidarJwtExeption("Algoritmo JWT não corresponde ao esperado", e);
         } catch (SignatureVerificationException e) {
@@ -71,6 +120,11 @@ public class TokenService implements ITokenService{
         }
     }
 
+    @Override
+    public Optional<Long> extrairUsuarioId(DecodedJWT jwt) {
+        return Optional.ofNullable(jwt.getClaim("userId").asLong());
+    }
+
     private Instant gerarDataExpiracao() {
         return LocalDateTime.now().plusHours(2).toInstant(ZoneOffset.of("-03:00"));
     }
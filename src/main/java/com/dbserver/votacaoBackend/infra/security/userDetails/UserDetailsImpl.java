@@ -28,6 +28,10 @@ public class UserDetailsImpl implements UserDetails {
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
+        return gerarAutoridades(this.usuario);
+    }
+
+    public static List<SimpleGrantedAuthority> gerarAutoridades(Usuario usuario) {
         List<SimpleGrantedAuthority> autoridades = new ArrayList<>();
         if (usuario.isAdmin()) {
             autoridades.add(new SimpleGrantedAuthority("ADMIN"));
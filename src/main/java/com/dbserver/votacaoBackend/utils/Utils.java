@@ -1,6 +1,8 @@
 package com.dbserver.votacaoBackend.utils;
 
 import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 import org.springframework.stereotype.Component;
@@ -10,9 +12,10 @@ public class Utils {
 
     public static final String REGEX_CPF = "\\d{11}";
     public static final String REGEX_EMAIL = "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$";
+    private static final Map<String, Pattern> PADROES = new ConcurrentHashMap<>();
 
     public static boolean validarRegex(String regex, String conteudo) {
-        Pattern pattern = Pattern.compile(regex);
+        Pattern pattern = PADROES.computeIfAbsent(regex, Pattern::compile);
         return pattern.matcher(conteudo).matches();
     }
 
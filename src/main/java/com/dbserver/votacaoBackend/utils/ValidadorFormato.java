@@ -0,0 +1,97 @@
+package com.dbserver.votacaoBackend.utils;
+
+public final class ValidadorFormato {
+    private static final int TAMANHO_CPF = 11;
+    private static final int TAMANHO_MINIMO_DOMINIO_TOPO = 2;
+
+    private ValidadorFormato() {
+    }
+
+    public static boolean isCpfValido(String cpf) {
+        if (cpf == null)
+            return false;
+
+        int inicio = inicioSemEspacos(cpf);
+        int fim = fimSemEspacos(cpf, inicio);
+
+        if (fim - inicio != TAMANHO_CPF)
+            return false;
+
+        for (int i = inicio; i < fim; i++) {
+            if (!isDigito(cpf.charAt(i)))
+                return false;
+        }
+
+        return true;
+    }
+
+    public static boolean isEmailValido(String email) {
+        if (email == null)
+            return false;
+
+        int inicio = inicioSemEspacos(email);
+        int fim = fimSemEspacos(email, inicio);
+
+        int arroba = inicio;
+        while (arroba < fim && isCaractereLocalEmail(email.charAt(arroba)))
+            arroba++;
+
+        if (arroba == inicio || arroba >= fim || email.charAt(arroba) != '@')
+            return false;
+
+        int ultimoPonto = -1;
+        for (int i = arroba + 1; i < fim; i++) {
+            char caractere = email.charAt(i);
+            if (!isCaractereDominioEmail(caractere))
+                return false;
+            if (caractere == '.')
+                ultimoPonto = i;
+        }
+
+        if (ultimoPonto <= arroba + 1 || fim - ultimoPonto - 1 < TAMANHO_MINIMO_DOMINIO_TOPO)
+            return false;
+
+        for (int i = ultimoPonto + 1; i < fim; i++) {
+            if (!isLetra(email.charAt(i)))
+                return false;
+        }
+
+        return true;
+    }
+
+    public static int tamanhoSemEspacos(String conteudo) {
+        int inicio = inicioSemEspacos(conteudo);
+        return fimSemEspacos(conteudo, inicio) - inicio;
+    }
+
+    private static int inicioSemEspacos(String conteudo) {
+        int inicio = 0;
+        while (inicio < conteudo.length() && conteudo.charAt(inicio) <= ' ')
+            inicio++;
+        return inicio;
+    }
+
+    private static int fimSemEspacos(String conteudo, int inicio) {
+        int fim = conteudo.length();
+        while (fim > inicio && conteudo.charAt(fim - 1) <= ' ')
+            fim--;
+        return fim;
+    }
+
+    private static boolean isDigito(char caractere) {
+        return caractere >= '0' && caractere <= '9';
+    }
+
+    private static boolean isLetra(char caractere) {
+        return (caractere >= 'a' && caractere <= 'z') || (caractere >= 'A' && caractere <= 'Z');
+    }
+
+    private static boolean isCaractereLocalEmail(char caractere) {
+        return isLetra(caractere) || isDigito(caractere) || caractere == '.' || caractere == '_'
+                || caractere == '%' || caractere == '+' || caractere == '-';
+    }
+
+    private static boolean isCaractereDominioEmail(char caractere) {
+        return isLetra(caractere) || isDigito(caractere) || caractere == '.' || caractere == '-';
+    }
+}
@@ -0,0 +1,5 @@
+ALTER TABLE sessao_votacao
+ADD COLUMN versao BIGINT NOT NULL DEFAULT 0;
+
+UPDATE sessao_votacao
+SET versao = quantidade_votos_positivos + quantidade_votos_negativos + CASE WHEN status IS NULL THEN 0 ELSE 1 END;
@@ -0,0 +1,7 @@
+CREATE INDEX idx_pauta_usuario_id_created_at ON pauta (usuario_id, created_at DESC, id DESC);
+
+CREATE INDEX idx_pauta_usuario_id_categoria_created_at ON pauta (usuario_id, categoria, created_at DESC, id DESC);
+
+CREATE INDEX idx_sessao_votacao_pauta_id ON sessao_votacao (pauta_id);
+
+CREATE INDEX idx_sessao_votacao_data_fechamento ON sessao_votacao (data_fechamento);
@@ -0,0 +1,5 @@
+ALTER TABLE usuario
+ALTER COLUMN cpf TYPE BIGINT USING cpf::BIGINT;
+
+ALTER TABLE voto
+ALTER COLUMN cpf TYPE BIGINT USING cpf::BIGINT;
@@ -0,0 +1 @@
+CREATE INDEX idx_sessao_votacao_pendente_data_fechamento ON sessao_votacao (data_fechamento) WHERE status IS NULL;
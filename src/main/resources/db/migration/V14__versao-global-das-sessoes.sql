@@ -0,0 +1 @@
+CREATE INDEX idx_sessao_votacao_versao ON sessao_votacao (versao);
@@ -0,0 +1,26 @@
+ALTER TABLE voto
+ADD COLUMN sessao_votacao_id BIGINT,
+ADD COLUMN tipo_de_voto VARCHAR(20);
+
+UPDATE voto v
+SET sessao_votacao_id = vp.sessao_votacao_id, tipo_de_voto = 'VOTO_POSITIVO'
+FROM sessao_votacao_votos_positivos vp
+WHERE vp.votos_positivos_id = v.id;
+
+UPDATE voto v
+SET sessao_votacao_id = vn.sessao_votacao_id, tipo_de_voto = 'VOTO_NEGATIVO'
+FROM sessao_votacao_votos_negativos vn
+WHERE vn.votos_negativos_id = v.id;
+
+DELETE FROM voto WHERE sessao_votacao_id IS NULL;
+
+ALTER TABLE voto
+ALTER COLUMN sessao_votacao_id SET NOT NULL,
+ALTER COLUMN tipo_de_voto SET NOT NULL;
+
+ALTER TABLE voto
+ADD CONSTRAINT fk_voto_sessao_votacao
+FOREIGN KEY (sessao_votacao_id) REFERENCES sessao_votacao(id) ON DELETE CASCADE;
+
+DROP TABLE sessao_votacao_votos_positivos;
+DROP TABLE sessao_votacao_votos_negativos;
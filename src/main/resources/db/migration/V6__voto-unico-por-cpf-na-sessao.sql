@@ -0,0 +1,8 @@
+DELETE FROM voto v
+USING voto duplicado
+WHERE v.sessao_votacao_id = duplicado.sessao_votacao_id
+AND v.cpf = duplicado.cpf
+AND v.id > duplicado.id;
+
+ALTER TABLE voto
+ADD CONSTRAINT uk_voto_sessao_votacao_cpf UNIQUE (sessao_votacao_id, cpf);
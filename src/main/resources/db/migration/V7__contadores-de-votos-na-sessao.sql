@@ -0,0 +1,9 @@
+ALTER TABLE sessao_votacao
+ADD COLUMN quantidade_votos_positivos INTEGER NOT NULL DEFAULT 0,
+ADD COLUMN quantidade_votos_negativos INTEGER NOT NULL DEFAULT 0;
+
+UPDATE sessao_votacao s
+SET quantidade_votos_positivos = (
+        SELECT COUNT(*) FROM voto v WHERE v.sessao_votacao_id = s.id AND v.tipo_de_voto = 'VOTO_POSITIVO'),
+    quantidade_votos_negativos = (
+        SELECT COUNT(*) FROM voto v WHERE v.sessao_votacao_id = s.id AND v.tipo_de_voto = 'VOTO_NEGATIVO');
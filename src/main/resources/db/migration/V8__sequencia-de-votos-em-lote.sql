@@ -0,0 +1 @@
+ALTER SEQUENCE voto_id_seq INCREMENT BY 50;
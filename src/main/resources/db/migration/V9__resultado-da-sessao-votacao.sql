@@ -0,0 +1,9 @@
+ALTER TABLE sessao_votacao
+ADD COLUMN status VARCHAR(20);
+
+UPDATE sessao_votacao
+SET status = CASE
+        WHEN quantidade_votos_positivos > quantidade_votos_negativos THEN 'APROVADA'
+        ELSE 'REPROVADA'
+    END
+WHERE data_fechamento <= CURRENT_TIMESTAMP;
@@ -0,0 +1,134 @@
+package com.dbserver.votacaoBackend.carga;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import com.dbserver.votacaoBackend.domain.autenticacao.Autenticacao;
+import com.dbserver.votacaoBackend.domain.autenticacao.repository.AutenticacaoRepository;
+import com.dbserver.votacaoBackend.domain.pauta.Pauta;
+import com.dbserver.votacaoBackend.domain.pauta.repository.PautaRepository;
+import com.dbserver.votacaoBackend.domain.usuario.Cpf;
+import com.dbserver.votacaoBackend.domain.usuario.Usuario;
+import com.dbserver.votacaoBackend.domain.usuario.repository.UsuarioRepository;
+import com.dbserver.votacaoBackend.fixture.pauta.PautaFixture;
+import com.dbserver.votacaoBackend.fixture.sessaoVotacao.SessaoVotacaoFixture;
+import com.dbserver.votacaoBackend.infra.security.token.TokenService;
+
+@Tag("carga")
+abstract class CargaVotoInterno {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CargaVotoInterno.class);
+    private static final int QUANTIDADE_VOTANTES = 2000;
+    private static final int REQUISICOES_SIMULTANEAS = 400;
+    private static final long CPF_INICIAL = 70000000000L;
+
+    @LocalServerPort
+    private int porta;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private AutenticacaoRepository autenticacaoRepository;
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private TokenService tokenService;
+
+    private Pauta pauta;
+
+    private List<String> tokens;
+
+    protected abstract String modo();
+
+    @BeforeEach
+    void configurar() {
+        Usuario admin = Usuario.builder().nome("Administrador").sobrenome("Carga")
+                .cpf(new Cpf(CPF_INICIAL)).admin(true).build();
+        this.usuarioRepository.save(admin);
+
+        this.pauta = PautaFixture.pautaTransporte(admin);
+        this.pauta.setSessaoVotacao(SessaoVotacaoFixture.sessaoVotacaoAtiva(this.pauta));
+        this.pautaRepository.save(this.pauta);
+
+        List<Usuario> votantes = new ArrayList<>(QUANTIDADE_VOTANTES);
+        for (int i = 1; i <= QUANTIDADE_VOTANTES; i++)
+            votantes.add(Usuario.builder().nome("Votante").sobrenome("Carga")
+                    .cpf(new Cpf(CPF_INICIAL + i)).admin(false).build());
+        this.usuarioRepository.saveAll(votantes);
+
+        List<Autenticacao> autenticacoes = new ArrayList<>(QUANTIDADE_VOTANTES);
+        for (Usuario votante : votantes) {
+            Autenticacao autenticacao = Autenticacao.builder()
+                    .email("votante" + votante.getCpf() + "@carga.com")
+                    .senha("senhaDeCarga")
+                    .build();
+            autenticacao.setUsuario(votante);
+            autenticacoes.add(autenticacao);
+        }
+        this.autenticacaoRepository.saveAll(autenticacoes);
+
+        this.tokens = autenticacoes.stream().map(this.tokenService::gerarToken).toList();
+    }
+
+    @AfterEach
+    void limpar() {
+        this.pautaRepository.deleteAll();
+        this.autenticacaoRepository.deleteAll();
+        this.usuarioRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve registrar todos os votos internos sob carga e informar a vazão")
+    void dadoMilharesDeVotantesQuandoVotamSimultaneamenteEntaoRegistrarTodosOsVotos() throws Exception {
+        HttpClient cliente = HttpClient.newBuilder().build();
+        URI uri = URI.create("http://localhost:" + this.porta + "/votacao/votoInterno");
+        String corpo = "{\"pautaId\":" + this.pauta.getId() + ",\"tipoDeVoto\":\"VOTO_POSITIVO\"}";
+        Semaphore simultaneas = new Semaphore(REQUISICOES_SIMULTANEAS);
+        AtomicInteger sucessos = new AtomicInteger();
+        List<CompletableFuture<Void>> respostas = new ArrayList<>(QUANTIDADE_VOTANTES);
+
+        long inicio = System.nanoTime();
+        for (String token : this.tokens) {
+            simultaneas.acquire();
+            HttpRequest requisicao = HttpRequest.newBuilder(uri)
+                    .header("Authorization", "Bearer " + token)
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString(corpo))
+                    .build();
+            respostas.add(cliente.sendAsync(requisicao, HttpResponse.BodyHandlers.discarding())
+                    .thenAccept(resposta -> {
+                        if (resposta.statusCode() < 300)
+                            sucessos.incrementAndGet();
+                    })
+                    .whenComplete((resultado, erro) -> simultaneas.release()));
+        }
+        CompletableFuture.allOf(respostas.toArray(CompletableFuture[]::new)).get(5, TimeUnit.MINUTES);
+        long duracaoMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+
+        LOGGER.info("[{}] {} votos em {} ms ({} votos/s)", this.modo(), sucessos.get(), duracaoMs,
+                sucessos.get() * 1000L / Math.max(duracaoMs, 1));
+        assertEquals(QUANTIDADE_VOTANTES, sucessos.get());
+    }
+}
@@ -0,0 +1,17 @@
+package com.dbserver.votacaoBackend.carga;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:carga-plataforma",
+        "spring.threads.virtual.enabled=false" })
+@ActiveProfiles("test")
+class CargaVotoInternoThreadsPlataformaTest extends CargaVotoInterno {
+
+    @Override
+    protected String modo() {
+        return "threads de plataforma";
+    }
+}
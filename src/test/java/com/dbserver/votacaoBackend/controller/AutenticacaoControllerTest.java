@@ -162,7 +162,7 @@ class AutenticacaoControllerTest {
     @DisplayName("Deve ser possível validar usuário existente com dados para validar voto externo válidos ao tentar votar externamente")
     void dadoPossuoDadosValidarVotoExternoCorretosQuandoTentoValidarVotoExternoEntaoRetornarValidarVotoExternoComTrue()
             throws Exception {
-        String cpf = this.autenticacao.getUsuario().getCpf();
+        String cpf = this.autenticacao.getUsuario().getCpf().toString();
 
         this.autorizarVotoExternoDto = AutorizarVotoExternoDtoFixture.autorizarVotoExternoDtoValido(cpf);
 
@@ -195,7 +195,7 @@ class AutenticacaoControllerTest {
     @DisplayName("Não deve ser possível validar usuário existente com ao passar senha incorreta ao tentar votar externamente")
     void dadoSenhaIncorretaQuandoTentoValidarVotoExternoEntaoRetornarRespostaErro()
             throws Exception {
-        String cpf = this.autenticacao.getUsuario().getCpf();
+        String cpf = this.autenticacao.getUsuario().getCpf().toString();
 
         this.autorizarVotoExternoDto = AutorizarVotoExternoDtoFixture.autorizarVotoExternoDtoSenhaIncorreta(cpf);
 
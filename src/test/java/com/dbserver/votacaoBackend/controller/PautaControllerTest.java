@@ -16,6 +16,7 @@ import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import com.dbserver.votacaoBackend.domain.autenticacao.Autenticacao;
@@ -36,7 +37,12 @@ import com.dbserver.votacaoBackend.infra.security.token.TokenService;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import java.util.List;
@@ -57,12 +63,14 @@ class PautaControllerTest {
         private Usuario usuarioCadastrado;
         private PautaRepository pautaRepository;
         private ObjectMapper objectMapper;
+        private MeterRegistry meterRegistry;
 
         @Autowired
         public PautaControllerTest(AutenticacaoRepository autenticacaoRepository,
                         UsuarioRepository usuarioRepository, MockMvc mockMvc,
                         JacksonTester<CriarPautaDto> criarPautaDtoJson,
-                        TokenService tokenService, PautaRepository pautaRepository, ObjectMapper objectMapper) {
+                        TokenService tokenService, PautaRepository pautaRepository, ObjectMapper objectMapper,
+                        MeterRegistry meterRegistry) {
                 this.usuarioRepository = usuarioRepository;
                 this.autenticacaoRepository = autenticacaoRepository;
                 this.mockMvc = mockMvc;
@@ -70,6 +78,7 @@ class PautaControllerTest {
                 this.tokenService = tokenService;
                 this.pautaRepository = pautaRepository;
                 this.objectMapper = objectMapper;
+                this.meterRegistry = meterRegistry;
         }
 
         @BeforeEach
@@ -106,7 +115,7 @@ class PautaControllerTest {
                                 .andExpect(jsonPath("$.assunto").value(this.criarPautaDto.assunto()))
                                 .andExpect(jsonPath("$.usuario.id").value(this.usuarioCadastrado.getId()))
                                 .andExpect(jsonPath("$.usuario.sobrenome").value(this.usuarioCadastrado.getSobrenome()))
-                                .andExpect(jsonPath("$.usuario.cpf").value(this.usuarioCadastrado.getCpf()))
+                                .andExpect(jsonPath("$.usuario.cpf").value(this.usuarioCadastrado.getCpf().toString()))
                                 .andExpect(jsonPath("$.usuario.admin").value(this.usuarioCadastrado.isAdmin()))
                                 .andExpect(jsonPath("$.sessaoVotacao").isEmpty());
         }
@@ -201,6 +210,98 @@ class PautaControllerTest {
                 assertEquals(1, pautasDoUsuario.size());
         }
 
+        @Test
+        @DisplayName("Deve retornar todas as pautas do usuário logado quando o limite não for informado")
+        void dadoNaoInformoLimiteQuandoBuscoMinhasPautasEntaoRetornarListaCompleta() throws Exception {
+                List<Pauta> pautas = PautaFixture.listaDePautas(this.usuarioCadastrado);
+                this.pautaRepository.saveAll(pautas);
+
+                mockMvc.perform(MockMvcRequestBuilders
+                                .get("/pauta/usuarioLogado")
+                                .header("Authorization", "Bearer " + this.token)
+                                .contentType(MediaType.APPLICATION_JSON))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.length()").value(pautas.size()))
+                                .andExpect(header().doesNotExist("X-Next-Cursor"));
+        }
+
+        @Test
+        @DisplayName("Deve ser possível paginar pautas do usuário logado através do cursor")
+        void dadoInformoLimiteQuandoBuscoMinhasPautasEntaoRetornarPaginaComProximoCursor() throws Exception {
+                List<Pauta> pautas = PautaFixture.listaDePautas(this.usuarioCadastrado);
+                this.pautaRepository.saveAll(pautas);
+
+                MockHttpServletResponse primeiraPagina = mockMvc.perform(MockMvcRequestBuilders
+                                .get("/pauta/usuarioLogado?limit=1")
+                                .header("Authorization", "Bearer " + this.token)
+                                .contentType(MediaType.APPLICATION_JSON))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.length()").value(1))
+                                .andExpect(header().exists("X-Next-Cursor"))
+                                .andReturn().getResponse();
+
+                mockMvc.perform(MockMvcRequestBuilders
+                                .get("/pauta/usuarioLogado")
+                                .param("limit", "1")
+                                .param("cursor", primeiraPagina.getHeader("X-Next-Cursor"))
+                                .header("Authorization", "Bearer " + this.token)
+                                .contentType(MediaType.APPLICATION_JSON))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.length()").value(1))
+                                .andExpect(header().doesNotExist("X-Next-Cursor"));
+        }
+
+        @Test
+        @DisplayName("Não deve ser possível listar pautas ao informar cursor inválido")
+        void dadoInformoCursorInvalidoQuandoBuscoMinhasPautasEntaoRetornarRespostaErro() throws Exception {
+                mockMvc.perform(MockMvcRequestBuilders
+                                .get("/pauta/usuarioLogado?cursor=invalido")
+                                .header("Authorization", "Bearer " + this.token)
+                                .contentType(MediaType.APPLICATION_JSON))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.erro").value("Cursor inválido."));
+        }
+
+        @Test
+        @DisplayName("Deve ser possível transmitir pautas ativas em NDJSON")
+        void dadoPossuoPautasAtivasQuandoTransmitoPautasAtivasEntaoRetornarUmaLinhaPorPauta() throws Exception {
+                List<Pauta> pautas = PautaFixture.listaDePautasUmaPautaAtiva(usuarioCadastrado);
+                this.pautaRepository.saveAll(pautas);
+
+                MvcResult resultado = mockMvc.perform(MockMvcRequestBuilders
+                                .get("/pauta/ativas/stream")
+                                .header("Authorization", "Bearer " + this.token)
+                                .accept(MediaType.APPLICATION_NDJSON))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                String corpo = mockMvc.perform(asyncDispatch(resultado))
+                                .andExpect(status().isOk())
+                                .andReturn().getResponse().getContentAsString();
+
+                assertEquals(1, corpo.lines().count());
+        }
+
+        @Test
+        @DisplayName("Deve contar as consultas executadas durante a transmissão em NDJSON")
+        void dadoPossuoPautasQuandoTransmitoMinhasPautasEntaoRegistrarConsultasDaTransmissao() throws Exception {
+                this.pautaRepository.saveAll(PautaFixture.listaDePautas(usuarioCadastrado));
+
+                MvcResult resultado = mockMvc.perform(MockMvcRequestBuilders
+                                .get("/pauta/usuarioLogado/stream")
+                                .header("Authorization", "Bearer " + this.token)
+                                .accept(MediaType.APPLICATION_NDJSON))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                mockMvc.perform(asyncDispatch(resultado)).andExpect(status().isOk());
+
+                DistributionSummary consultas = this.meterRegistry.get("votacao.hibernate.consultas")
+                                .tag("uri", "/pauta/usuarioLogado/stream")
+                                .summary();
+                assertTrue(consultas.max() > 0);
+        }
+
         @Test
         @DisplayName("deve ser possível buscar pauta ativa por Id")
         void dadoPossuoPautaIdQuandoBuscoAtivaPorIdEntaoRetornarRespostaPautaDto() throws Exception {
@@ -258,4 +359,110 @@ class PautaControllerTest {
                                 .andExpect(status().isNotFound())
                                 .andExpect(jsonPath("$.erro").value("Pauta não encontrada."));
         }
+
+        @Test
+        @DisplayName("Deve responder 304 ao buscar pauta ativa por Id com ETag atual")
+        void dadoPossuoEtagAtualQuandoBuscoAtivaPorIdEntaoRetornarNaoModificado() throws Exception {
+                Pauta pautaTransporte = PautaFixture.pautaTransporteAtiva(this.usuarioCadastrado);
+                this.pautaRepository.save(pautaTransporte);
+
+                String etag = mockMvc.perform(MockMvcRequestBuilders
+                                .get("/pauta/{id}", pautaTransporte.getId())
+                                .header("Authorization", "Bearer " + this.token))
+                                .andExpect(status().isOk())
+                                .andExpect(header().exists("ETag"))
+                                .andReturn().getResponse().getHeader("ETag");
+
+                mockMvc.perform(MockMvcRequestBuilders
+                                .get("/pauta/{id}", pautaTransporte.getId())
+                                .header("Authorization", "Bearer " + this.token)
+                                .header("If-None-Match", etag))
+                                .andExpect(status().isNotModified())
+                                .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("Deve responder 304 ao buscar detalhes de uma pauta com ETag atual")
+        void dadoPossuoEtagAtualQuandoBuscoDetalhesPautaEntaoRetornarNaoModificado() throws Exception {
+                Pauta pautaTransporte = PautaFixture.pautaTransporteAtiva(this.usuarioCadastrado);
+                this.pautaRepository.save(pautaTransporte);
+
+                String etag = mockMvc.perform(MockMvcRequestBuilders
+                                .get("/pauta/detalhes/{id}", pautaTransporte.getId())
+                                .header("Authorization", "Bearer " + this.token))
+                                .andExpect(status().isOk())
+                                .andReturn().getResponse().getHeader("ETag");
+
+                mockMvc.perform(MockMvcRequestBuilders
+                                .get("/pauta/detalhes/{id}", pautaTransporte.getId())
+                                .header("Authorization", "Bearer " + this.token)
+                                .header("If-None-Match", etag))
+                                .andExpect(status().isNotModified());
+        }
+
+        @Test
+        @DisplayName("Deve responder com novo ETag ao listar pautas ativas após abertura de nova sessão")
+        void dadoNovaPautaAtivaQuandoBuscoPautasAtivasComEtagAntigoEntaoRetornarListaAtualizada() throws Exception {
+                this.pautaRepository.save(PautaFixture.pautaTransporteAtiva(this.usuarioCadastrado));
+
+                String etag = mockMvc.perform(MockMvcRequestBuilders
+                                .get("/pauta/ativas")
+                                .header("Authorization", "Bearer " + this.token))
+                                .andExpect(status().isOk())
+                                .andReturn().getResponse().getHeader("ETag");
+
+                mockMvc.perform(MockMvcRequestBuilders
+                                .get("/pauta/ativas")
+                                .header("Authorization", "Bearer " + this.token)
+                                .header("If-None-Match", etag))
+                                .andExpect(status().isNotModified());
+
+                this.pautaRepository.save(PautaFixture.pautaTransporteAtiva(this.usuarioCadastrado));
+
+                mockMvc.perform(MockMvcRequestBuilders
+                                .get("/pauta/ativas")
+                                .header("Authorization", "Bearer " + this.token)
+                                .header("If-None-Match", etag))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.length()").value(2));
+        }
+
+        @Test
+        @DisplayName("Não deve reaproveitar o ETag das pautas ativas para outra categoria ou limite")
+        void dadoEtagDeOutraConsultaQuandoBuscoPautasAtivasEntaoRetornarLista() throws Exception {
+                this.pautaRepository.save(PautaFixture.pautaTransporteAtiva(this.usuarioCadastrado));
+
+                String etag = mockMvc.perform(MockMvcRequestBuilders
+                                .get("/pauta/ativas")
+                                .header("Authorization", "Bearer " + this.token))
+                                .andExpect(status().isOk())
+                                .andReturn().getResponse().getHeader("ETag");
+
+                mockMvc.perform(MockMvcRequestBuilders
+                                .get("/pauta/ativas")
+                                .param("categoria", Categoria.SAUDE.toString())
+                                .header("Authorization", "Bearer " + this.token)
+                                .header("If-None-Match", etag))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.length()").value(0));
+
+                mockMvc.perform(MockMvcRequestBuilders
+                                .get("/pauta/ativas")
+                                .param("limit", "1")
+                                .header("Authorization", "Bearer " + this.token)
+                                .header("If-None-Match", etag))
+                                .andExpect(status().isOk());
+        }
+
+        @Test
+        @DisplayName("Deve exigir token de administrador para acessar as métricas")
+        void dadoNaoPossuoTokenDeAdministradorQuandoAcessoMetricasEntaoRetornarProibido() throws Exception {
+                mockMvc.perform(MockMvcRequestBuilders.get("/actuator/prometheus"))
+                                .andExpect(status().isForbidden());
+
+                mockMvc.perform(MockMvcRequestBuilders
+                                .get("/actuator/prometheus")
+                                .header("Authorization", "Bearer " + this.token))
+                                .andExpect(status().isOk());
+        }
 }
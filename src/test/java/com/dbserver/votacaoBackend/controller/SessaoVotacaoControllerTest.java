@@ -26,6 +26,7 @@ import com.dbserver.votacaoBackend.domain.sessaoVotacao.SessaoVotacao;
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.dto.AbrirVotacaoDto;
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.dto.InserirVotoExternoDto;
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.dto.InserirVotoInternoDto;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.validacoes.SessaoVotacaoValidacoes;
 import com.dbserver.votacaoBackend.domain.usuario.Usuario;
 import com.dbserver.votacaoBackend.domain.usuario.repository.UsuarioRepository;
 import com.dbserver.votacaoBackend.fixture.autenticacao.AutenticacaoFixture;
@@ -172,6 +173,34 @@ class SessaoVotacaoControllerTest {
                 .andExpect(jsonPath("$.votosPositivos").value(1));
     }
 
+    @Test
+    @DisplayName("Não deve ser possível votar duas vezes na mesma pauta")
+    void dadoJaVoteiNaPautaQuandoTentoVotarNovamenteEntaoRetornarRespostaErro() throws Exception {
+        SessaoVotacao sessaoVotacao = SessaoVotacaoFixture.sessaoVotacaoAtiva(pautaTransporte);
+        pautaTransporte.setSessaoVotacao(sessaoVotacao);
+        this.pautaRepository.save(pautaTransporte);
+
+        InserirVotoInternoDto inserirVotoInternoDto = InserirVotoInternoDtoFixture
+                .inserirVotoInternoPositivoDto(this.pautaTransporte.getId());
+
+        String json = this.inserirVotoInternoDtoJson.write(inserirVotoInternoDto).getJson();
+
+        mockMvc.perform(MockMvcRequestBuilders
+                .patch("/votacao/votoInterno")
+                .header("Authorization", "Bearer " + this.tokenUsuario)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(MockMvcRequestBuilders
+                .patch("/votacao/votoInterno")
+                .header("Authorization", "Bearer " + this.tokenUsuario)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.erro").value("Não é possível votar duas vezes."));
+    }
+
     @Test
     @DisplayName("Deve ser possível votar externamente em uma pauta")
     void dadoPossuoInserirVotoExternoDtoDtoCorretoQuandoTentoVotarExternamenteEntaoRetornarRespostaSessaoVotacao()
@@ -194,4 +223,63 @@ class SessaoVotacaoControllerTest {
                 .andExpect(jsonPath("$.pautaId").value(this.pautaTransporte.getId()))
                 .andExpect(jsonPath("$.votosNegativos").value(1));
     }
+
+    @Test
+    @DisplayName("Deve ser possível votar externamente em lote informando o resultado de cada voto")
+    void dadoPossuoLoteDeVotosExternosQuandoTentoVotarEmLoteEntaoRetornarResultadoPorVoto() throws Exception {
+        SessaoVotacao sessaoVotacao = SessaoVotacaoFixture.sessaoVotacaoAtiva(pautaTransporte);
+        pautaTransporte.setSessaoVotacao(sessaoVotacao);
+        this.pautaRepository.save(pautaTransporte);
+
+        String voto = "{\"pautaId\":" + this.pautaTransporte.getId()
+                + ",\"tipoDeVoto\":\"VOTO_POSITIVO\",\"cpf\":\"" + UsuarioFixture.CPF_ALEATORIO + "\"}";
+        String json = "{\"votos\":[" + voto + "," + voto + "]}";
+
+        mockMvc.perform(MockMvcRequestBuilders
+                .patch("/votacao/votoExterno/lote")
+                .header("Authorization", "Bearer " + this.tokenAdmin)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.aceitos").value(1))
+                .andExpect(jsonPath("$.rejeitados").value(1))
+                .andExpect(jsonPath("$.resultados[0].aceito").value(true))
+                .andExpect(jsonPath("$.resultados[1].erro").value(SessaoVotacaoValidacoes.VOTO_EXTERNO_RECUSADO));
+    }
+
+    @Test
+    @DisplayName("Não deve ser possível votar externamente em lote sem ser administrador")
+    void dadoNaoSouAdministradorQuandoTentoVotarEmLoteEntaoRetornarProibido() throws Exception {
+        String json = "{\"votos\":[{\"pautaId\":" + this.pautaTransporte.getId()
+                + ",\"tipoDeVoto\":\"VOTO_POSITIVO\",\"cpf\":\"" + UsuarioFixture.CPF_ALEATORIO + "\"}]}";
+
+        mockMvc.perform(MockMvcRequestBuilders
+                .patch("/votacao/votoExterno/lote")
+                .header("Authorization", "Bearer " + this.tokenUsuario)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Deve ser possível acompanhar o placar de uma pauta com sessão ativa")
+    void dadoPautaComSessaoAtivaQuandoAcompanhoPlacarEntaoIniciarTransmissao() throws Exception {
+        SessaoVotacao sessaoVotacao = SessaoVotacaoFixture.sessaoVotacaoAtiva(pautaTransporte);
+        pautaTransporte.setSessaoVotacao(sessaoVotacao);
+        this.pautaRepository.save(pautaTransporte);
+
+        mockMvc.perform(MockMvcRequestBuilders
+                .get("/votacao/" + this.pautaTransporte.getId() + "/stream"))
+                .andExpect(request().asyncStarted())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM));
+    }
+
+    @Test
+    @DisplayName("Não deve ser possível acompanhar o placar de uma pauta sem sessão ativa")
+    void dadoPautaSemSessaoAtivaQuandoAcompanhoPlacarEntaoRetornarRespostaErro() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders
+                .get("/votacao/" + this.pautaTransporte.getId() + "/stream"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.erro").value("Pauta não possui sessão ativa."));
+    }
 }
@@ -15,13 +15,16 @@ import org.springframework.boot.test.json.JacksonTester;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import com.dbserver.votacaoBackend.domain.autenticacao.Autenticacao;
 import com.dbserver.votacaoBackend.domain.autenticacao.dto.AutenticacaoDto;
 import com.dbserver.votacaoBackend.domain.autenticacao.repository.AutenticacaoRepository;
+import com.dbserver.votacaoBackend.domain.usuario.Cpf;
 import com.dbserver.votacaoBackend.domain.usuario.Usuario;
 import com.dbserver.votacaoBackend.domain.usuario.dto.CriarUsuarioDto;
+import com.dbserver.votacaoBackend.domain.usuario.importacao.FormatoImportacao;
 import com.dbserver.votacaoBackend.domain.usuario.repository.UsuarioRepository;
 import com.dbserver.votacaoBackend.fixture.autenticacao.AutenticacaoDtoFixture;
 import com.dbserver.votacaoBackend.fixture.autenticacao.AutenticacaoFixture;
@@ -29,6 +32,9 @@ import com.dbserver.votacaoBackend.fixture.usuario.CriarUsuarioDtoFixture;
 import com.dbserver.votacaoBackend.fixture.usuario.UsuarioFixture;
 import com.dbserver.votacaoBackend.infra.security.token.TokenService;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import java.util.stream.Stream;
@@ -172,7 +178,7 @@ class UsuarioControllerTest {
 
         String nome = this.usuarioCadastrado.getNome();
         String sobrenome = this.usuarioCadastrado.getSobrenome();
-        String cpf = this.usuarioCadastrado.getCpf();
+        String cpf = this.usuarioCadastrado.getCpf().toString();
         boolean admin = this.usuarioCadastrado.isAdmin();
 
         mockMvc.perform(MockMvcRequestBuilders
@@ -213,4 +219,64 @@ class UsuarioControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.existe").value(false));
     }
+
+    @Test
+    @DisplayName("Deve ser possível importar usuários em NDJSON informando erros por linha")
+    void dadoPossuoArquivoNdjsonQuandoImportoUsuariosEntaoRetornarErrosEProgresso() throws Exception {
+        String corpo = String.join("\n",
+                "{\"nome\":\"Maria\",\"sobrenome\":\"Souza\",\"cpf\":\"90000000001\",\"admin\":false,\"autenticacaoDto\":{\"email\":\"maria.importada@example.com\",\"senha\":\"senha1234\"}}",
+                "{\"nome\":\"Joao\",\"sobrenome\":\"Silva\",\"cpf\":\"123\",\"admin\":false,\"autenticacaoDto\":{\"email\":\"joao.importado@example.com\",\"senha\":\"senha1234\"}}",
+                "{\"nome\":\"Ana\",\"sobrenome\":\"Lima\",\"cpf\":\"" + UsuarioFixture.CPF_ADMIN
+                        + "\",\"admin\":false,\"autenticacaoDto\":{\"email\":\"ana.importada@example.com\",\"senha\":\"senha1234\"}}");
+
+        String resposta = this.importar(MediaType.APPLICATION_NDJSON_VALUE, corpo);
+
+        assertTrue(resposta.contains("{\"linha\":2,\"erro\":\"Cpf deve conter 11 caracteres numéricos.\"}"));
+        assertTrue(resposta.contains("{\"linha\":3,\"erro\":\"Cpf já cadastrado.\"}"));
+        assertTrue(resposta.strip().endsWith(
+                "{\"processadas\":3,\"importadas\":1,\"rejeitadas\":2,\"concluida\":true}"));
+        assertTrue(this.usuarioRepository.findByCpf(Cpf.de("90000000001")).isPresent());
+    }
+
+    @Test
+    @DisplayName("Deve ser possível importar usuários em CSV")
+    void dadoPossuoArquivoCsvQuandoImportoUsuariosEntaoGravarUsuarios() throws Exception {
+        String corpo = String.join("\n",
+                "nome,sobrenome,cpf,email,senha,admin",
+                "Maria,Souza,90000000001,maria.importada@example.com,senha1234,false",
+                "Joao,Silva,90000000002,joao.importado@example.com,senha1234,true");
+
+        String resposta = this.importar(FormatoImportacao.TEXT_CSV_VALUE, corpo);
+
+        assertTrue(resposta.strip().endsWith(
+                "{\"processadas\":2,\"importadas\":2,\"rejeitadas\":0,\"concluida\":true}"));
+        assertEquals(3, this.usuarioRepository.count());
+        assertTrue(this.autenticacaoRepository.findByEmail("joao.importado@example.com").isPresent());
+    }
+
+    @Test
+    @DisplayName("Deve retornar erro ao importar CSV sem cabeçalho esperado")
+    void dadoPossuoCsvSemCabecalhoQuandoImportoUsuariosEntaoRetornarErro() throws Exception {
+        String corpo = "Maria,Souza,90000000001,maria.importada@example.com,senha1234,false";
+
+        String resposta = this.importar(FormatoImportacao.TEXT_CSV_VALUE, corpo);
+
+        assertTrue(resposta.contains("\"linha\":1"));
+        assertTrue(resposta.strip().endsWith("\"concluida\":true}"));
+        assertEquals(1, this.usuarioRepository.count());
+    }
+
+    private String importar(String tipoConteudo, String corpo) throws Exception {
+        MvcResult resultado = mockMvc.perform(MockMvcRequestBuilders
+                .post("/usuario/importacao")
+                .header("Authorization", "Bearer " + this.token)
+                .contentType(tipoConteudo)
+                .content(corpo))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        return mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
 }
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -38,6 +39,9 @@ import com.dbserver.votacaoBackend.fixture.usuario.UsuarioFixture;
 import com.dbserver.votacaoBackend.infra.security.token.TokenService;
 import com.dbserver.votacaoBackend.utils.Utils;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @SpringBootTest
 @ExtendWith(MockitoExtension.class)
 class AutenticacaoServiceTest {
@@ -61,6 +65,9 @@ class AutenticacaoServiceTest {
         @Mock
         private TokenService tokenService;
 
+        @Spy
+        private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
         private Usuario usuarioMock;
         private Autenticacao autenticacaoMock;
         private String senha;
@@ -75,7 +82,7 @@ class AutenticacaoServiceTest {
                 this.senha = AutenticacaoFixture.SENHA;
                 this.senhaEncriptada = this.autenticacaoMock.getSenha();
                 this.autorizarVotoExternoDto = AutorizarVotoExternoDtoFixture
-                                .autorizarVotoExternoDtoValido(this.usuarioMock.getCpf());
+                                .autorizarVotoExternoDtoValido(this.usuarioMock.getCpf().toString());
                 this.autenticacaoDto = AutenticacaoDtoFixture.autenticacaoDtoAdminValido();
         }
 
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
@@ -79,28 +80,28 @@ class AutenticacaoValidacoesTest {
     @Test
     @DisplayName("Deve ser validar autenticacao por cpf e senha")
     void dadoTenhoCpfESenhaCompativeisQuandoTentoValidarAutenticacaoPorCpfESenhaEntaoDeveValidarCorretamente() {
-        when(this.autenticacaoRepository.findByCpf(anyString())).thenReturn(Optional.of(this.autenticacao));
+        when(this.autenticacaoRepository.findByCpf(any())).thenReturn(Optional.of(this.autenticacao));
         when(this.autenticacao.getSenha()).thenReturn("senhaQualquer");
         when(this.passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
         
-        assertDoesNotThrow(() -> this.autenticacaoValidacoes.validarAutenticacaoPorCpfESenha("senhaQualquer", "12345678910"));
+        assertDoesNotThrow(() -> this.autenticacaoValidacoes.validarAutenticacaoPorCpfESenha("12345678910", "senhaQualquer"));
     }
 
     @Test
     @DisplayName("Deve retornar erro ao autenticacao por cpf e senha ao passar cpf inexistente")
     void dadoTenhoCpfInexistenteQuandoTentoValidarAutenticacaoPorCpfESenhaEntaoDeveRetornarErro() {
-        when(this.autenticacaoRepository.findByCpf(anyString())).thenReturn(Optional.empty());
+        when(this.autenticacaoRepository.findByCpf(any())).thenReturn(Optional.empty());
         
-        assertThrows(BadCredentialsException.class, () -> this.autenticacaoValidacoes.validarAutenticacaoPorCpfESenha("senhaQualquer", "12345678910"));
+        assertThrows(BadCredentialsException.class, () -> this.autenticacaoValidacoes.validarAutenticacaoPorCpfESenha("12345678910", "senhaQualquer"));
     }
     @Test
     @DisplayName("Deve retornar erro ao autenticacao por cpf e senha ao passar senha incorreta")
     void dadoTenhoSenhaIncorretaQuandoTentoValidarAutenticacaoPorCpfESenhaEntaoDeveRetornarErro() {
-        when(this.autenticacaoRepository.findByCpf(anyString())).thenReturn(Optional.of(this.autenticacao));
+        when(this.autenticacaoRepository.findByCpf(any())).thenReturn(Optional.of(this.autenticacao));
 
         when(this.autenticacao.getSenha()).thenReturn("senhaQualquer");
         when(this.passwordEncoder.matches(anyString(), anyString())).thenReturn(false);
 
-        assertThrows(BadCredentialsException.class, () -> this.autenticacaoValidacoes.validarAutenticacaoPorCpfESenha("senhaQualquer", "12345678910"));
+        assertThrows(BadCredentialsException.class, () -> this.autenticacaoValidacoes.validarAutenticacaoPorCpfESenha("12345678910", "senhaQualquer"));
     }
 }
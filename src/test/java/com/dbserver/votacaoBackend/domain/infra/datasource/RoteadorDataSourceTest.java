@@ -0,0 +1,110 @@
+package com.dbserver.votacaoBackend.domain.infra.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.dbserver.votacaoBackend.infra.datasource.MonitorReplica;
+import com.dbserver.votacaoBackend.infra.datasource.RoteadorDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RoteadorDataSourceTest {
+    private static final String URL_PRIMARIA = "jdbc:h2:mem:roteador-primaria";
+    private static final String URL_REPLICA = "jdbc:h2:mem:roteador-replica";
+
+    private DataSource primaria = new DriverManagerDataSource(URL_PRIMARIA, "sa", "");
+
+    private DataSource replica = new DriverManagerDataSource(URL_REPLICA, "sa", "");
+
+    @AfterEach
+    void limpar() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        RoteadorDataSource.definirLeituraReplica(false);
+    }
+
+    private RoteadorDataSource criarRoteador(String consultaAtraso) {
+        MonitorReplica monitorReplica = new MonitorReplica(this.replica, consultaAtraso, Duration.ofSeconds(5),
+                Duration.ofSeconds(1), new SimpleMeterRegistry());
+        monitorReplica.verificar();
+        return new RoteadorDataSource(this.primaria, this.replica, monitorReplica);
+    }
+
+    private String obterUrl(DataSource dataSource) throws SQLException {
+        try (Connection conexao = dataSource.getConnection()) {
+            return conexao.getMetaData().getURL();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve enviar leitura marcada para a réplica")
+    void dadoLeituraMarcadaParaReplicaQuandoObtenhoConexaoEntaoUsarReplica() throws SQLException {
+        RoteadorDataSource roteador = this.criarRoteador("SELECT 0");
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        RoteadorDataSource.definirLeituraReplica(true);
+
+        assertEquals(URL_REPLICA, this.obterUrl(roteador));
+    }
+
+    @Test
+    @DisplayName("Deve enviar transação somente leitura não marcada para o banco primário")
+    void dadoTransacaoSomenteLeituraNaoMarcadaQuandoObtenhoConexaoEntaoUsarPrimaria() throws SQLException {
+        RoteadorDataSource roteador = this.criarRoteador("SELECT 0");
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(URL_PRIMARIA, this.obterUrl(roteador));
+    }
+
+    @Test
+    @DisplayName("Deve enviar transação de escrita para o banco primário mesmo dentro de leitura marcada")
+    void dadoTransacaoDeEscritaDentroDeLeituraMarcadaQuandoObtenhoConexaoEntaoUsarPrimaria() throws SQLException {
+        RoteadorDataSource roteador = this.criarRoteador("SELECT 0");
+        RoteadorDataSource.definirLeituraReplica(true);
+
+        assertEquals(URL_PRIMARIA, this.obterUrl(roteador));
+    }
+
+    @Test
+    @DisplayName("Deve enviar transação de escrita para o banco primário")
+    void dadoTransacaoDeEscritaQuandoObtenhoConexaoEntaoUsarPrimaria() throws SQLException {
+        RoteadorDataSource roteador = this.criarRoteador("SELECT 0");
+
+        assertEquals(URL_PRIMARIA, this.obterUrl(roteador));
+    }
+
+    @Test
+    @DisplayName("Deve usar o banco primário quando a réplica estiver atrasada além da tolerância")
+    void dadoReplicaAtrasadaQuandoObtenhoConexaoSomenteLeituraEntaoUsarPrimaria() throws SQLException {
+        RoteadorDataSource roteador = this.criarRoteador("SELECT 10");
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        RoteadorDataSource.definirLeituraReplica(true);
+
+        assertEquals(URL_PRIMARIA, this.obterUrl(roteador));
+    }
+
+    @Test
+    @DisplayName("Deve marcar a réplica como indisponível quando a verificação falhar")
+    void dadoFalhaNaVerificacaoQuandoVerificoReplicaEntaoMarcarIndisponivel() {
+        MonitorReplica monitorReplica = new MonitorReplica(this.replica, "SELECT 0", Duration.ofSeconds(5),
+                Duration.ofSeconds(1), new SimpleMeterRegistry());
+        monitorReplica.verificar();
+        assertTrue(monitorReplica.isDisponivel());
+
+        MonitorReplica monitorComFalha = new MonitorReplica(this.replica, "SELECT * FROM tabela_inexistente",
+                Duration.ofSeconds(5), Duration.ofSeconds(1), new SimpleMeterRegistry());
+        monitorComFalha.verificar();
+        assertFalse(monitorComFalha.isDisponivel());
+    }
+}
@@ -0,0 +1,149 @@
+package com.dbserver.votacaoBackend.domain.infra.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dbserver.votacaoBackend.domain.autenticacao.Autenticacao;
+import com.dbserver.votacaoBackend.domain.autenticacao.repository.AutenticacaoRepository;
+import com.dbserver.votacaoBackend.domain.pauta.Pauta;
+import com.dbserver.votacaoBackend.domain.pauta.repository.PautaRepository;
+import com.dbserver.votacaoBackend.domain.usuario.Usuario;
+import com.dbserver.votacaoBackend.domain.usuario.repository.UsuarioRepository;
+import com.dbserver.votacaoBackend.domain.voto.repository.VotoRepository;
+import com.dbserver.votacaoBackend.fixture.autenticacao.AutenticacaoFixture;
+import com.dbserver.votacaoBackend.fixture.pauta.PautaFixture;
+import com.dbserver.votacaoBackend.fixture.sessaoVotacao.SessaoVotacaoFixture;
+import com.dbserver.votacaoBackend.fixture.usuario.UsuarioFixture;
+import com.dbserver.votacaoBackend.infra.datasource.MonitorReplica;
+import com.dbserver.votacaoBackend.infra.security.token.TokenService;
+
+@AutoConfigureMockMvc
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:roteamento-primaria",
+        "api.datasource.replica.habilitada=true",
+        "api.datasource.replica.url=" + RoteamentoReplicaTest.URL_REPLICA,
+        "api.datasource.replica.username=sa",
+        "api.datasource.replica.password=",
+        "api.datasource.replica.consulta-atraso=SELECT 0"
+})
+@ActiveProfiles("test")
+class RoteamentoReplicaTest {
+    static final String URL_REPLICA = "jdbc:h2:mem:roteamento-replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    @Qualifier("dataSourcePrimaria")
+    private DataSource primaria;
+
+    @Autowired
+    private MonitorReplica monitorReplica;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private AutenticacaoRepository autenticacaoRepository;
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private VotoRepository votoRepository;
+
+    @Autowired
+    private TokenService tokenService;
+
+    private Pauta pauta;
+
+    private String tokenAdmin;
+
+    private String tokenUsuario;
+
+    @BeforeEach
+    void configurar() {
+        this.criarEsquemaVazioNaReplica();
+        this.monitorReplica.verificar();
+
+        Usuario admin = UsuarioFixture.usuarioAdmin();
+        Usuario usuario = UsuarioFixture.usuarioNaoAdmin();
+        this.usuarioRepository.saveAll(List.of(admin, usuario));
+
+        Autenticacao adminAuth = AutenticacaoFixture.autenticacaoAdmin(admin);
+        Autenticacao usuarioAuth = AutenticacaoFixture.autenticacaoUsuario(usuario);
+        this.autenticacaoRepository.saveAll(List.of(adminAuth, usuarioAuth));
+
+        this.tokenAdmin = this.tokenService.gerarToken(adminAuth);
+        this.tokenUsuario = this.tokenService.gerarToken(usuarioAuth);
+
+        this.pauta = PautaFixture.pautaTransporte(admin);
+        this.pauta.setSessaoVotacao(SessaoVotacaoFixture.sessaoVotacaoAtiva(this.pauta));
+        this.pautaRepository.save(this.pauta);
+    }
+
+    @AfterEach
+    @Transactional
+    void limpar() {
+        this.pautaRepository.deleteAll();
+        this.autenticacaoRepository.deleteAll();
+        this.usuarioRepository.deleteAll();
+    }
+
+    private void criarEsquemaVazioNaReplica() {
+        JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(URL_REPLICA, "sa", ""));
+        replica.execute("DROP ALL OBJECTS");
+
+        new JdbcTemplate(this.primaria).queryForList("SCRIPT NODATA", String.class).stream()
+                .filter(comando -> !comando.startsWith("--") && !comando.startsWith("CREATE USER"))
+                .forEach(replica::execute);
+    }
+
+    @Test
+    @DisplayName("Deve ler e gravar o voto no banco primário com a réplica habilitada")
+    void dadoReplicaHabilitadaQuandoVotoEntaoLerEGravarNoBancoPrimario() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders
+                .patch("/votacao/votoInterno")
+                .header("Authorization", "Bearer " + this.tokenUsuario)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"pautaId\": " + this.pauta.getId() + ", \"tipoDeVoto\": \"VOTO_POSITIVO\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.votosPositivos").value(1));
+
+        assertEquals(1, this.votoRepository.count());
+    }
+
+    @Test
+    @DisplayName("Deve enviar a listagem de pautas marcada para leitura na réplica")
+    void dadoReplicaHabilitadaQuandoListoPautasEntaoLerDaReplica() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders
+                .get("/pauta/usuarioLogado")
+                .header("Authorization", "Bearer " + this.tokenAdmin)
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+
+        assertEquals(1, this.pautaRepository.count());
+    }
+}
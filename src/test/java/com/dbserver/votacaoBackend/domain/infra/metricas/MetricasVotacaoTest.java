@@ -0,0 +1,49 @@
+package com.dbserver.votacaoBackend.domain.infra.metricas;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.dbserver.votacaoBackend.infra.metricas.MetricasVotacao;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MetricasVotacaoTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private MetricasVotacao metricasVotacao;
+
+    @BeforeEach
+    void configurar() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.metricasVotacao = new MetricasVotacao(this.meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve contar votos aceitos e registrar a taxa da sessão")
+    void dadoVotosAceitosQuandoRegistroMetricasEntaoContarVotosERegistrarTaxaDaSessao() {
+        this.metricasVotacao.votoAceito(1L);
+        this.metricasVotacao.votoAceito(1L);
+
+        assertEquals(2, this.meterRegistry.get("votacao.votos").tag("resultado", "aceito").counter().count());
+        assertNotNull(this.meterRegistry.get("votacao.votos.por.segundo").tag("sessao", "1").gauge());
+    }
+
+    @Test
+    @DisplayName("Deve contar votos rejeitados por motivo")
+    void dadoVotosRejeitadosQuandoRegistroMetricasEntaoContarPorMotivo() {
+        this.metricasVotacao.votoRejeitado(new IllegalStateException("Não é possível votar duas vezes."));
+        this.metricasVotacao.votoRejeitado(new IllegalArgumentException("Pauta não possui sessão ativa."));
+        this.metricasVotacao.votoRejeitado(new NoSuchElementException());
+
+        assertEquals(1, this.meterRegistry.get("votacao.votos").tag("motivo", "conflito").counter().count());
+        assertEquals(1, this.meterRegistry.get("votacao.votos").tag("motivo", "invalido").counter().count());
+        assertEquals(1, this.meterRegistry.get("votacao.votos").tag("motivo", "nao_encontrado").counter().count());
+    }
+}
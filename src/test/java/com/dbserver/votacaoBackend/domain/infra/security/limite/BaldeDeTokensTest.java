@@ -0,0 +1,56 @@
+package com.dbserver.votacaoBackend.domain.infra.security.limite;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.dbserver.votacaoBackend.infra.security.limite.BaldeDeTokens;
+import com.dbserver.votacaoBackend.infra.security.limite.LimiteTaxa;
+
+class BaldeDeTokensTest {
+
+    @Test
+    @DisplayName("Deve permitir consumir a capacidade do balde e bloquear a requisição seguinte")
+    void dadoPossuoBaldeCheioQuandoConsumoAlemDaCapacidadeEntaoRetornarEspera() {
+        BaldeDeTokens balde = new BaldeDeTokens(new LimiteTaxa(3, 60), 0);
+
+        assertEquals(0, balde.consumir(0));
+        assertEquals(0, balde.consumir(0));
+        assertEquals(0, balde.consumir(0));
+        assertEquals(TimeUnit.SECONDS.toNanos(1), balde.consumir(0));
+    }
+
+    @Test
+    @DisplayName("Deve repor tokens conforme a taxa por minuto")
+    void dadoPossuoBaldeVazioQuandoPassaOIntervaloDeReposicaoEntaoPermitirNovoConsumo() {
+        BaldeDeTokens balde = new BaldeDeTokens(new LimiteTaxa(1, 60), 0);
+        balde.consumir(0);
+
+        assertTrue(balde.consumir(TimeUnit.MILLISECONDS.toNanos(500)) > 0);
+        assertEquals(0, balde.consumir(TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    @Test
+    @DisplayName("Deve consumir somente os tokens disponíveis quando a quantidade pedida exceder o balde")
+    void dadoPossuoBaldeParcialQuandoConsumoMaisQueODisponivelEntaoRetornarQuantidadeConsumida() {
+        BaldeDeTokens balde = new BaldeDeTokens(new LimiteTaxa(3, 60), 0);
+        balde.consumir(0);
+
+        assertEquals(2, balde.consumirAte(0, 5));
+        assertEquals(0, balde.consumirAte(0, 1));
+        assertEquals(1, balde.consumirAte(TimeUnit.SECONDS.toNanos(1), 5));
+    }
+
+    @Test
+    @DisplayName("Deve retornar erro ao informar limite em formato inválido")
+    void dadoPossuoLimiteInvalidoQuandoConvertoLimiteEntaoRetornarErro() {
+        assertEquals(new LimiteTaxa(10, 30), LimiteTaxa.de("10/30"));
+        assertThrows(IllegalArgumentException.class, () -> LimiteTaxa.de("10"));
+        assertThrows(IllegalArgumentException.class, () -> LimiteTaxa.de("0/30"));
+    }
+}
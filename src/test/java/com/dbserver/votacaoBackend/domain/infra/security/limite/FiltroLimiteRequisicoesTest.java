@@ -0,0 +1,119 @@
+package com.dbserver.votacaoBackend.domain.infra.security.limite;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.dbserver.votacaoBackend.fixture.usuario.UsuarioFixture;
+import com.dbserver.votacaoBackend.infra.security.limite.FiltroLimiteRequisicoes;
+import com.dbserver.votacaoBackend.infra.security.limite.LimitePorCpf;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class FiltroLimiteRequisicoesTest {
+
+    private FiltroLimiteRequisicoes filtro;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void configurar() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.filtro = new FiltroLimiteRequisicoes(new ObjectMapper(), this.meterRegistry,
+                new LimitePorCpf(this.meterRegistry, 100, "1/1"), true, 100, "2/1", "2/1", "2/1", "1/1", "2/1");
+    }
+
+    @Test
+    @DisplayName("Deve retornar 429 com Retry-After quando o IP exceder o limite da rota")
+    void dadoIpExcedeLimiteQuandoEnvioRequisicaoEntaoRetornarMuitasRequisicoes() throws Exception {
+        this.executar(new MockHttpServletRequest("POST", "/auth/login"));
+        this.executar(new MockHttpServletRequest("POST", "/auth/login"));
+
+        MockFilterChain cadeia = new MockFilterChain();
+        MockHttpServletResponse resposta = this.executar(new MockHttpServletRequest("POST", "/auth/login"), cadeia);
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), resposta.getStatus());
+        assertEquals("60", resposta.getHeader(HttpHeaders.RETRY_AFTER));
+        assertNull(cadeia.getRequest());
+        assertEquals(1.0, this.meterRegistry.get("votacao.limite.requisicoes")
+                .tag("rota", "login").tag("resultado", "bloqueada_ip").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve limitar votos externos por cpf mesmo vindos de IPs diferentes, preservando o corpo da requisição")
+    void dadoCpfExcedeLimiteQuandoEnvioVotoExternoEntaoRetornarMuitasRequisicoes() throws Exception {
+        String corpo = "{\"pautaId\":1,\"tipoDeVoto\":\"VOTO_POSITIVO\",\"cpf\":\"" + UsuarioFixture.CPF_ALEATORIO + "\"}";
+        MockFilterChain primeiraCadeia = new MockFilterChain();
+
+        MockHttpServletResponse primeiraResposta = this.executar(this.votoExterno(corpo, "10.0.0.1"), primeiraCadeia);
+        MockHttpServletResponse segundaResposta = this.executar(this.votoExterno(corpo, "10.0.0.2"));
+
+        assertEquals(HttpStatus.OK.value(), primeiraResposta.getStatus());
+        assertNotNull(primeiraCadeia.getRequest());
+        assertEquals(corpo, new String(primeiraCadeia.getRequest().getInputStream().readAllBytes(),
+                StandardCharsets.UTF_8));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), segundaResposta.getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve limitar o lote de votos externos por requisição sem ler o corpo nem consumir o limite dos cpfs")
+    void dadoLoteDeVotosExternosQuandoEnvioRequisicoesEntaoLimitarSomentePorIp() throws Exception {
+        String voto = "{\"pautaId\":1,\"tipoDeVoto\":\"VOTO_POSITIVO\",\"cpf\":\"" + UsuarioFixture.CPF_ALEATORIO + "\"}";
+        MockHttpServletRequest primeiroLote = this.votosExternos("{\"votos\":[" + voto + "]}", "10.0.0.1");
+        MockFilterChain cadeia = new MockFilterChain();
+
+        MockHttpServletResponse primeiraResposta = this.executar(primeiroLote, cadeia);
+        MockHttpServletResponse segundaResposta = this.executar(this.votosExternos("{\"votos\":[" + voto + "]}", "10.0.0.1"));
+        MockHttpServletResponse respostaVoto = this.executar(this.votoExterno(voto, "10.0.0.2"));
+
+        assertEquals(HttpStatus.OK.value(), primeiraResposta.getStatus());
+        assertSame(primeiroLote, cadeia.getRequest());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), segundaResposta.getStatus());
+        assertEquals(HttpStatus.OK.value(), respostaVoto.getStatus());
+    }
+
+    @Test
+    @DisplayName("Não deve limitar rotas fora da lista de rotas limitadas")
+    void dadoRotaSemLimiteQuandoEnvioRequisicoesEntaoNaoBloquear() throws Exception {
+        for (int i = 0; i < 5; i++)
+            assertEquals(HttpStatus.OK.value(),
+                    this.executar(new MockHttpServletRequest("GET", "/pauta/ativas")).getStatus());
+    }
+
+    private MockHttpServletRequest votoExterno(String corpo, String ip) {
+        MockHttpServletRequest request = new MockHttpServletRequest("PATCH", "/votacao/votoExterno");
+        request.setContentType("application/json");
+        request.setContent(corpo.getBytes(StandardCharsets.UTF_8));
+        request.setRemoteAddr(ip);
+        return request;
+    }
+
+    private MockHttpServletRequest votosExternos(String corpo, String ip) {
+        MockHttpServletRequest request = this.votoExterno(corpo, ip);
+        request.setRequestURI("/votacao/votoExterno/lote");
+        return request;
+    }
+
+    private MockHttpServletResponse executar(MockHttpServletRequest request) throws Exception {
+        return this.executar(request, new MockFilterChain());
+    }
+
+    private MockHttpServletResponse executar(MockHttpServletRequest request, MockFilterChain cadeia) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        this.filtro.doFilter(request, response, cadeia);
+        return response;
+    }
+}
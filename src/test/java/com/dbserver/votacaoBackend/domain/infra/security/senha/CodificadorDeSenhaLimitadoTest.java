@@ -0,0 +1,153 @@
+package com.dbserver.votacaoBackend.domain.infra.security.senha;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.dbserver.votacaoBackend.infra.exceptions.SobrecargaExeption;
+import com.dbserver.votacaoBackend.infra.security.senha.CodificadorDeSenhaLimitado;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class CodificadorDeSenhaLimitadoTest {
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private CodificadorDeSenhaLimitado codificador;
+
+    @AfterEach
+    void encerrar() {
+        this.codificador.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve reutilizar verificação de senha válida sem verificar novamente")
+    void dadoSenhaJaVerificadaQuandoVerificoNovamenteEntaoNaoCalcularHash() {
+        this.codificador = new CodificadorDeSenhaLimitado(this.passwordEncoder, 1, 1, 1, Duration.ofSeconds(1),
+                Duration.ofMinutes(1), new SimpleMeterRegistry());
+        when(this.passwordEncoder.matches("senha123", "hash")).thenReturn(true);
+
+        assertTrue(this.codificador.matches("senha123", "hash"));
+        assertTrue(this.codificador.matches("senha123", "hash"));
+
+        verify(this.passwordEncoder, times(1)).matches("senha123", "hash");
+    }
+
+    @Test
+    @DisplayName("Não deve reutilizar verificação de senha inválida")
+    void dadoSenhaInvalidaQuandoVerificoNovamenteEntaoCalcularHashNovamente() {
+        this.codificador = new CodificadorDeSenhaLimitado(this.passwordEncoder, 1, 1, 1, Duration.ofSeconds(1),
+                Duration.ofMinutes(1), new SimpleMeterRegistry());
+        when(this.passwordEncoder.matches("senhaErrada", "hash")).thenReturn(false);
+
+        assertFalse(this.codificador.matches("senhaErrada", "hash"));
+        assertFalse(this.codificador.matches("senhaErrada", "hash"));
+
+        verify(this.passwordEncoder, times(2)).matches("senhaErrada", "hash");
+    }
+
+    @Test
+    @DisplayName("Deve filtrar senhas válidas em paralelo sem exceder a capacidade da fila")
+    void dadoLoteMaiorQueAFilaQuandoFiltroSenhasValidasEntaoRetornarSomenteAsValidas() {
+        this.codificador = new CodificadorDeSenhaLimitado(this.passwordEncoder, 1, 1, 2, Duration.ofSeconds(1),
+                Duration.ofMinutes(1), new SimpleMeterRegistry());
+        when(this.passwordEncoder.matches(any(), eq("hash")))
+                .thenAnswer(invocacao -> invocacao.getArgument(0).toString().startsWith("valida"));
+        List<String> senhas = List.of("valida1", "invalida1", "valida2", "invalida2", "valida3");
+
+        Set<String> validas = this.codificador.filtrarSenhasValidas(senhas, senha -> senha, senha -> "hash");
+
+        assertEquals(Set.of("valida1", "valida2", "valida3"), validas);
+        verify(this.passwordEncoder, times(5)).matches(any(), eq("hash"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar erro de sobrecarga quando não houver capacidade para verificar a senha")
+    void dadoExecutorOcupadoQuandoVerificoSenhaEntaoRetornarErroDeSobrecarga() throws InterruptedException {
+        CountDownLatch liberar = new CountDownLatch(1);
+        PasswordEncoder codificadorLento = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence senha) {
+                return senha.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence senha, String senhaEncriptada) {
+                try {
+                    liberar.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+        };
+        this.codificador = new CodificadorDeSenhaLimitado(codificadorLento, 1, 1, 1, Duration.ofMillis(50),
+                Duration.ofMinutes(1), new SimpleMeterRegistry());
+
+        assertThrows(SobrecargaExeption.class, () -> this.codificador.matches("senha1", "hash"));
+        assertThrows(SobrecargaExeption.class, () -> this.codificador.matches("senha2", "hash"));
+        assertThrows(SobrecargaExeption.class, () -> this.codificador.matches("senha3", "hash"));
+
+        liberar.countDown();
+    }
+
+    @Test
+    @DisplayName("Não deve ocupar o pool do login ao verificar senhas de um lote")
+    void dadoLoteEmVerificacaoQuandoVerificoSenhaDoLoginEntaoNaoAguardarOLote() throws Exception {
+        CountDownLatch iniciado = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        PasswordEncoder codificadorLento = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence senha) {
+                return senha.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence senha, String senhaEncriptada) {
+                if (senha.toString().startsWith("lote")) {
+                    iniciado.countDown();
+                    try {
+                        liberar.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return true;
+            }
+        };
+        this.codificador = new CodificadorDeSenhaLimitado(codificadorLento, 1, 1, 1, Duration.ofSeconds(2),
+                Duration.ofMinutes(1), new SimpleMeterRegistry());
+
+        CompletableFuture<Set<String>> lote = CompletableFuture.supplyAsync(
+                () -> this.codificador.filtrarSenhasValidas(List.of("lote1"), senha -> senha, senha -> "hash"));
+        assertTrue(iniciado.await(1, TimeUnit.SECONDS));
+
+        assertTrue(this.codificador.matches("login", "hash"));
+
+        liberar.countDown();
+        assertEquals(Set.of("lote1"), lote.get(2, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,55 @@
+package com.dbserver.votacaoBackend.domain.infra.security.token;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.dbserver.votacaoBackend.fixture.usuario.UsuarioFixture;
+import com.dbserver.votacaoBackend.infra.security.token.TokenCache;
+
+class TokenCacheTest {
+
+    private TokenCache tokenCache;
+
+    private Authentication authentication;
+
+    @BeforeEach
+    void configurar() {
+        this.tokenCache = new TokenCache(100, 300);
+        this.authentication = new UsernamePasswordAuthenticationToken(UsuarioFixture.usuarioAdmin(), null,
+                List.of(new SimpleGrantedAuthority("ADMIN")));
+    }
+
+    @Test
+    @DisplayName("Deve ser possível recuperar a autenticação de um token armazenado")
+    void dadoPossuoTokenArmazenadoQuandoBuscoTokenEntaoRetornarAutenticacao() {
+        this.tokenCache.armazenar("token", this.authentication, Instant.now().plusSeconds(60));
+
+        assertEquals(this.authentication, this.tokenCache.buscar("token").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Não deve retornar autenticação de token não armazenado")
+    void dadoNaoPossuoTokenArmazenadoQuandoBuscoTokenEntaoRetornarVazio() {
+        this.tokenCache.armazenar("token", this.authentication, Instant.now().plusSeconds(60));
+
+        assertTrue(this.tokenCache.buscar("outroToken").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Não deve armazenar token já expirado")
+    void dadoPossuoTokenExpiradoQuandoTentoArmazenarEntaoNaoArmazenar() {
+        this.tokenCache.armazenar("token", this.authentication, Instant.now().minusSeconds(1));
+
+        assertTrue(this.tokenCache.buscar("token").isEmpty());
+    }
+}
@@ -3,6 +3,7 @@ package com.dbserver.votacaoBackend.domain.infra.security.token;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,12 +11,16 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.dbserver.votacaoBackend.domain.autenticacao.Autenticacao;
 import com.dbserver.votacaoBackend.domain.usuario.Usuario;
 import com.dbserver.votacaoBackend.fixture.autenticacao.AutenticacaoFixture;
 import com.dbserver.votacaoBackend.fixture.usuario.UsuarioFixture;
+import com.dbserver.votacaoBackend.infra.exceptions.ValidarJwtExeption;
 import com.dbserver.votacaoBackend.infra.security.token.TokenService;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @SpringBootTest
 class TokenServiceTest {
 
@@ -63,6 +68,57 @@ class TokenServiceTest {
         String resposta = this.tokenService.validarToken(token);
         assertEquals(resposta, autenticacao.getEmail());
     }
-    
 
+    @Test
+    @DisplayName("Deve ser possível verificar um token retornando sua data de expiração")
+    void dadoPossuoUmTokenValidoQuandoTentoVerificarTokenEntaoRetornarTokenDecodificado() {
+        String token = this.tokenService.gerarToken(this.autenticacao);
+        DecodedJWT jwt = this.tokenService.verificarToken(token);
+
+        assertEquals(autenticacao.getEmail(), jwt.getSubject());
+        assertNotNull(jwt.getExpiresAtAsInstant());
+    }
+
+    @Test
+    @DisplayName("Deve falhar ao verificar um token assinado com outra senha")
+    void dadoPossuoUmTokenDeOutraSenhaQuandoTentoVerificarTokenEntaoRetornarErro() {
+        String token = new TokenService(this.senha + "outra", 1, new SimpleMeterRegistry()).gerarToken(this.autenticacao);
+
+        assertThrows(ValidarJwtExeption.class, () -> this.tokenService.verificarToken(token));
+    }
+
+    @Test
+    @DisplayName("Deve falhar ao verificar um token emitido com outra versão")
+    void dadoPossuoUmTokenDeOutraVersaoQuandoTentoVerificarTokenEntaoRetornarErro() {
+        String token = new TokenService(this.senha, 0, new SimpleMeterRegistry()).gerarToken(this.autenticacao);
+
+        assertThrows(ValidarJwtExeption.class, () -> this.tokenService.verificarToken(token));
+    }
+
+    @Test
+    @DisplayName("Deve ser possível extrair o id do usuário a partir do token")
+    void dadoPossuoUmTokenValidoQuandoTentoExtrairUsuarioIdEntaoRetornarId() {
+        Usuario usuarioComId = new Usuario(1L, this.usuario.getNome(), this.usuario.getSobrenome(),
+                this.usuario.getCpf(), this.usuario.isAdmin());
+        Autenticacao autenticacaoComId = AutenticacaoFixture.autenticacaoAdmin(usuarioComId);
+        DecodedJWT jwt = this.tokenService.verificarToken(this.tokenService.gerarToken(autenticacaoComId));
+
+        assertEquals(usuarioComId.getId(), this.tokenService.extrairUsuarioId(jwt).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Não deve levar a autoridade de administrador nas claims do token")
+    void dadoPossuoUmTokenDeAdministradorQuandoVerificoClaimsEntaoNaoPossuirAutoridade() {
+        DecodedJWT jwt = this.tokenService.verificarToken(this.tokenService.gerarToken(this.autenticacao));
+
+        assertTrue(jwt.getClaim("admin").isMissing());
+    }
+
+    @Test
+    @DisplayName("Não deve extrair id de token sem o id do usuário")
+    void dadoPossuoUmTokenSemIdDeUsuarioQuandoTentoExtrairUsuarioIdEntaoRetornarVazio() {
+        DecodedJWT jwt = this.tokenService.verificarToken(this.tokenService.gerarToken(this.autenticacao));
+
+        assertTrue(this.tokenService.extrairUsuarioId(jwt).isEmpty());
+    }
 }
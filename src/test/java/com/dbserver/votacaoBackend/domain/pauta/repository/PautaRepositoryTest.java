@@ -0,0 +1,88 @@
+package com.dbserver.votacaoBackend.domain.pauta.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.dbserver.votacaoBackend.domain.pauta.Pauta;
+import com.dbserver.votacaoBackend.domain.pauta.dto.CursorPauta;
+import com.dbserver.votacaoBackend.domain.pauta.dto.RespostaPautaDto;
+import com.dbserver.votacaoBackend.domain.pauta.mapper.PautaMapper;
+import com.dbserver.votacaoBackend.domain.usuario.Usuario;
+import com.dbserver.votacaoBackend.domain.usuario.repository.UsuarioRepository;
+import com.dbserver.votacaoBackend.fixture.pauta.PautaFixture;
+import com.dbserver.votacaoBackend.fixture.usuario.UsuarioFixture;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PautaRepositoryTest {
+
+    private PautaRepository pautaRepository;
+    private UsuarioRepository usuarioRepository;
+    private PautaMapper pautaMapper;
+    private Statistics estatisticas;
+    private Usuario usuario;
+
+    @Autowired
+    public PautaRepositoryTest(PautaRepository pautaRepository, UsuarioRepository usuarioRepository,
+            PautaMapper pautaMapper, EntityManagerFactory entityManagerFactory) {
+        this.pautaRepository = pautaRepository;
+        this.usuarioRepository = usuarioRepository;
+        this.pautaMapper = pautaMapper;
+        this.estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @BeforeEach
+    void configurar() {
+        this.usuario = this.usuarioRepository.save(UsuarioFixture.usuarioAdmin());
+        this.pautaRepository.saveAll(List.of(
+                PautaFixture.pautaTransporteAtiva(this.usuario),
+                PautaFixture.pautaTransporteAtiva(this.usuario),
+                PautaFixture.pautaTransporteAtiva(this.usuario)));
+        this.estatisticas.setStatisticsEnabled(true);
+        this.estatisticas.clear();
+    }
+
+    @AfterEach
+    void limpar() {
+        this.estatisticas.setStatisticsEnabled(false);
+        this.pautaRepository.deleteAll();
+        this.usuarioRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve listar pautas ativas com uma única consulta")
+    void dadoPossuoPautasAtivasQuandoListoPautasAtivasEntaoExecutarUmaConsulta() {
+        List<Pauta> pautas = this.pautaRepository.findPaginaBySessaoVotacaoAtiva(LocalDateTime.now(),
+                CursorPauta.INICIAL.data(), CursorPauta.INICIAL.id(), PageRequest.ofSize(10));
+        List<RespostaPautaDto> resposta = this.pautaMapper.toListRespostaPautaDto(pautas);
+
+        assertEquals(3, resposta.size());
+        assertEquals(1, this.estatisticas.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Deve listar pautas do usuário com uma única consulta")
+    void dadoPossuoPautasQuandoListoPautasDoUsuarioEntaoExecutarUmaConsulta() {
+        List<Pauta> pautas = this.pautaRepository.findPaginaByUsuarioId(this.usuario.getId(),
+                CursorPauta.INICIAL.data(), CursorPauta.INICIAL.id(), PageRequest.ofSize(10));
+        List<RespostaPautaDto> resposta = this.pautaMapper.toListRespostaPautaDto(pautas);
+
+        assertEquals(3, resposta.size());
+        assertEquals(1, this.estatisticas.getPrepareStatementCount());
+    }
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.times;
@@ -20,14 +21,19 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
 
 import com.dbserver.votacaoBackend.domain.pauta.Pauta;
 import com.dbserver.votacaoBackend.domain.pauta.dto.CriarPautaDto;
+import com.dbserver.votacaoBackend.domain.pauta.dto.CursorPauta;
 import com.dbserver.votacaoBackend.domain.pauta.dto.RespostaPautaDto;
 import com.dbserver.votacaoBackend.domain.pauta.enums.Categoria;
 import com.dbserver.votacaoBackend.domain.pauta.mapper.PautaMapper;
 import com.dbserver.votacaoBackend.domain.pauta.repository.PautaRepository;
+import com.dbserver.votacaoBackend.domain.pauta.snapshot.SnapshotsPautasEncerradas;
 import com.dbserver.votacaoBackend.domain.pauta.validacoes.PautaValidacoes;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.registro.RegistroSessoesAtivas;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.registro.SessaoAtiva;
 import com.dbserver.votacaoBackend.domain.usuario.Usuario;
 import com.dbserver.votacaoBackend.domain.usuario.service.UsuarioServiceImpl;
 import com.dbserver.votacaoBackend.fixture.pauta.CriarPautaDtoFixture;
@@ -58,6 +64,12 @@ class PautaServiceTest {
     @Mock
     private PautaMapper pautaMapper;
 
+    @Mock
+    private RegistroSessoesAtivas registroSessoesAtivas;
+
+    @Mock
+    private SnapshotsPautasEncerradas snapshotsPautasEncerradas;
+
     @Mock
     private Pauta pautaMock;
 
@@ -102,8 +114,9 @@ class PautaServiceTest {
     @DisplayName("Deve ser possível todas buscar pautas do usuário logado")
     void dadoTenhoUsuarioIdCorretoECategoriaNullQuandoTentoBuscarPautasUsuarioLogadoEntaoRetornarListaDePautas() {
         when(this.usuarioService.buscarUsuarioLogado()).thenReturn(usuarioAdminMock);
-        this.pautaService.buscarPautasUsuarioLogado(null);
-        verify(this.pautaRepository, times(1)).findAllByUsuarioIdOrderByCreatedAtDesc(this.usuarioAdminMock.getId());
+        this.pautaService.buscarPautasUsuarioLogado(null, null, null);
+        verify(this.pautaRepository, times(1)).findPaginaByUsuarioId(eq(this.usuarioAdminMock.getId()),
+                eq(CursorPauta.INICIAL.data()), eq(CursorPauta.INICIAL.id()), eq(Pageable.unpaged()));
         verify(this.pautaMapper, times(1)).toListRespostaPautaDto(anyList());
     }
 
@@ -111,9 +124,9 @@ class PautaServiceTest {
     @DisplayName("Deve ser possível todas buscar pautas do usuario logado com a categoria informada")
     void dadoTenhoUsuarioIdECategoriaCorretosCorretoQuandoTentobuscarPautasUsuarioLogadoEntaoRetornarListaDePautas() {
         when(this.usuarioService.buscarUsuarioLogado()).thenReturn(usuarioAdminMock);
-        this.pautaService.buscarPautasUsuarioLogado(this.categoria);
-        verify(this.pautaRepository).findAllByUsuarioIdAndCategoriaOrderByCreatedAtDesc(this.usuarioAdminMock.getId(),
-                this.categoria);
+        this.pautaService.buscarPautasUsuarioLogado(this.categoria, null, null);
+        verify(this.pautaRepository).findPaginaByUsuarioIdAndCategoria(eq(this.usuarioAdminMock.getId()),
+                eq(this.categoria), eq(CursorPauta.INICIAL.data()), eq(CursorPauta.INICIAL.id()), any(Pageable.class));
         verify(this.pautaMapper, times(1)).toListRespostaPautaDto(anyList());
 
     }
@@ -122,8 +135,9 @@ class PautaServiceTest {
     @DisplayName("Deve ser possível buscar todas pautas ativas")
     void dadoTenhoCategoriaNulaQuandoTentoBuscarPautasAtivasEntaoRetornarListaDePautas() {
         when(this.utils.obterDataAtual()).thenReturn(this.dataAtual);
-        this.pautaService.buscarPautasAtivas(null);
-        verify(this.pautaRepository).findAllBySessaoVotacaoAtiva(this.dataAtual);
+        this.pautaService.buscarPautasAtivas(null, null, null);
+        verify(this.pautaRepository).findPaginaBySessaoVotacaoAtiva(eq(this.dataAtual),
+                eq(CursorPauta.INICIAL.data()), eq(CursorPauta.INICIAL.id()), any(Pageable.class));
         verify(this.pautaMapper, times(1)).toListRespostaPautaDto(anyList());
 
     }
@@ -132,9 +146,9 @@ class PautaServiceTest {
     @DisplayName("Deve ser possível buscar todas pautas ativas por categoria")
     void dadoTenhoCategoriaNullQuandoTentoBuscarPautasAtivasEntaoRetornarListaDePautas() {
         when(this.utils.obterDataAtual()).thenReturn(this.dataAtual);
-        this.pautaService.buscarPautasAtivas(this.categoria);
-        verify(this.pautaRepository).findAllByCategoriaAndSessaoVotacaoAtiva(this.categoria,
-                this.dataAtual);
+        this.pautaService.buscarPautasAtivas(this.categoria, null, null);
+        verify(this.pautaRepository).findPaginaByCategoriaAndSessaoVotacaoAtiva(eq(this.categoria),
+                eq(this.dataAtual), eq(CursorPauta.INICIAL.data()), eq(CursorPauta.INICIAL.id()), any(Pageable.class));
     }
 
     @Test
@@ -157,6 +171,8 @@ class PautaServiceTest {
     @DisplayName("Deve buscar pauta ativa por id")
     void dadoTenhoPautaIdCorretoQuandoTentoBuscarPautaAtivaPorIdEntaoRetornarPauta() {
         when(this.utils.obterDataAtual()).thenReturn(this.dataAtual);
+        when(this.registroSessoesAtivas.buscar(1L, this.dataAtual))
+                .thenReturn(Optional.of(new SessaoAtiva(1L, 1L, this.dataAtual.plusMinutes(5))));
         when(this.pautaRepository.findByIdAndSessaoVotacaoAtiva(1L, this.dataAtual))
                 .thenReturn(Optional.of(this.pautaMock));
         this.pautaService.buscarPautaAtivaPorId(1L);
@@ -168,6 +184,7 @@ class PautaServiceTest {
     void dadoTenhoPautaIdInvalidaQuandoTentoBuscarPautaAtivaPorIdEntaoRetornarPauta() {
         when(this.utils.obterDataAtual()).thenReturn(this.dataAtual);
         assertThrows(NoSuchElementException.class, () -> this.pautaService.buscarPautaAtivaPorId(1L));
+        verify(this.pautaRepository, never()).findByIdAndSessaoVotacaoAtiva(anyLong(), any(LocalDateTime.class));
     }
 
     @Test
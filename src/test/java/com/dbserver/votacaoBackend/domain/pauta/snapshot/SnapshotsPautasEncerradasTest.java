@@ -0,0 +1,100 @@
+package com.dbserver.votacaoBackend.domain.pauta.snapshot;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbserver.votacaoBackend.domain.pauta.Pauta;
+import com.dbserver.votacaoBackend.domain.pauta.dto.DetalhesPautaDto;
+import com.dbserver.votacaoBackend.domain.pauta.mapper.PautaMapper;
+import com.dbserver.votacaoBackend.domain.pauta.repository.PautaRepository;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.SessaoVotacao;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.enums.StatusSessaoVotacao;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.registro.SessaoVotacaoEncerrada;
+import com.dbserver.votacaoBackend.domain.usuario.Usuario;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class SnapshotsPautasEncerradasTest {
+
+    @Mock
+    private PautaRepository pautaRepository;
+
+    @Mock
+    private PautaMapper pautaMapper;
+
+    @Mock
+    private Pauta pautaMock;
+
+    @Mock
+    private SessaoVotacao sessaoVotacaoMock;
+
+    @Mock
+    private Usuario usuarioMock;
+
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    private SnapshotsPautasEncerradas snapshotsPautasEncerradas;
+
+    private DetalhesPautaDto detalhes = new DetalhesPautaDto(null, StatusSessaoVotacao.APROVADA);
+
+    @BeforeEach
+    void configurar() {
+        this.snapshotsPautasEncerradas = new SnapshotsPautasEncerradas(this.pautaRepository, this.pautaMapper,
+                this.objectMapper, new SimpleMeterRegistry(), 100);
+        when(this.pautaMock.getSessaoVotacao()).thenReturn(this.sessaoVotacaoMock);
+    }
+
+    private void configurarPautaEncerrada() {
+        when(this.sessaoVotacaoMock.getStatus()).thenReturn(StatusSessaoVotacao.APROVADA);
+        when(this.sessaoVotacaoMock.getVersao()).thenReturn(7L);
+        when(this.pautaMock.getId()).thenReturn(1L);
+        when(this.pautaMock.getUsuario()).thenReturn(this.usuarioMock);
+        when(this.usuarioMock.getId()).thenReturn(10L);
+    }
+
+    @Test
+    @DisplayName("Deve guardar o JSON dos detalhes de pauta com sessão encerrada para o dono da pauta")
+    void dadoPautaEncerradaQuandoRegistroSnapshotEntaoRetornarJsonAoDonoDaPauta() throws Exception {
+        this.configurarPautaEncerrada();
+
+        this.snapshotsPautasEncerradas.registrar(this.pautaMock, this.detalhes);
+
+        SnapshotPauta snapshot = this.snapshotsPautasEncerradas.buscar(1L, 10L).orElseThrow();
+        assertArrayEquals(this.objectMapper.writeValueAsBytes(this.detalhes), snapshot.json());
+        assertEquals(SnapshotsPautasEncerradas.gerarEtag(1L, 7L), snapshot.etag());
+        assertTrue(this.snapshotsPautasEncerradas.buscar(1L, 20L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Não deve guardar snapshot de pauta cuja sessão ainda não foi encerrada")
+    void dadoPautaSemResultadoQuandoRegistroSnapshotEntaoNaoGuardar() {
+        this.snapshotsPautasEncerradas.registrar(this.pautaMock, this.detalhes);
+
+        assertTrue(this.snapshotsPautasEncerradas.buscar(1L, 10L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve gerar snapshot quando a sessão de votação for encerrada")
+    void dadoSessaoEncerradaQuandoReceboEventoEntaoGerarSnapshot() {
+        this.configurarPautaEncerrada();
+        when(this.pautaRepository.findByIdAndSessaoVotacaoNotNull(1L)).thenReturn(Optional.of(this.pautaMock));
+        when(this.pautaMapper.toDetalhesPautaDto(this.pautaMock)).thenReturn(this.detalhes);
+
+        this.snapshotsPautasEncerradas.aoEncerrarSessao(new SessaoVotacaoEncerrada(1L, 5L));
+
+        assertTrue(this.snapshotsPautasEncerradas.buscar(1L, 10L).isPresent());
+    }
+}
@@ -42,6 +42,7 @@ class SessaoVotacaoTest {
     void dadoPossuoVotoValidoEntaoTentoSetarVotoPositivoQuandoAdicionarNovoVotoPositivo(){
         assertDoesNotThrow(() -> this.sessaoVotacaoAtivaMock.setVotosPositivos(this.votoMock));
         assertEquals(1, this.sessaoVotacaoAtivaMock.getVotosPositivos().size());
+        assertEquals(1, this.sessaoVotacaoAtivaMock.getQuantidadeVotosPositivos());
     }
     @Test
     @DisplayName("Não deve ser possível setarVotoPositivo passando Voto nulo")
@@ -54,6 +55,7 @@ class SessaoVotacaoTest {
     void dadoPossuoVotoValidoEntaoTentoSetarVotoNegativoQuandoAdicionarNovoVotoNegativo(){
         assertDoesNotThrow(() -> this.sessaoVotacaoAtivaMock.setVotosNegativos(this.votoMock));
         assertEquals(1, this.sessaoVotacaoAtivaMock.getVotosNegativos().size());
+        assertEquals(1, this.sessaoVotacaoAtivaMock.getQuantidadeVotosNegativos());
     }
 
     @Test
@@ -0,0 +1,175 @@
+package com.dbserver.votacaoBackend.domain.sessaoVotacao.ingestao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.SessaoVotacao;
+import com.dbserver.votacaoBackend.domain.voto.Voto;
+import com.dbserver.votacaoBackend.domain.voto.repository.VotoRepository;
+import com.dbserver.votacaoBackend.domain.voto.service.VotoServiceImpl;
+import com.dbserver.votacaoBackend.fixture.pauta.PautaFixture;
+import com.dbserver.votacaoBackend.fixture.usuario.UsuarioFixture;
+import com.dbserver.votacaoBackend.fixture.voto.VotoFixture;
+import com.dbserver.votacaoBackend.infra.exceptions.VotoDuplicadoExeption;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class IngestaoVotosTest {
+
+    @Mock
+    private VotoServiceImpl votoService;
+
+    @Mock
+    private VotoRepository votoRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private IngestaoVotos ingestaoVotos;
+
+    private SessaoVotacao sessaoVotacaoMock;
+
+    private long proximoCpf = 10000000000L;
+
+    @BeforeEach
+    void configurar() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.ingestaoVotos = new IngestaoVotos(this.votoService, this.votoRepository, this.meterRegistry,
+                true, 2, 10, 20, 1000);
+        this.sessaoVotacaoMock = SessaoVotacao.builder()
+                .id(1L)
+                .pauta(PautaFixture.pautaTransporte(UsuarioFixture.usuarioAdmin()))
+                .dataAbertura(LocalDateTime.now())
+                .dataFechamento(LocalDateTime.now().plusMinutes(5))
+                .build();
+    }
+
+    private Voto gerarVotoPositivo() {
+        Voto voto = VotoFixture.gerarVotoExterno(String.valueOf(this.proximoCpf++), null);
+        this.sessaoVotacaoMock.setVotosPositivos(voto);
+        return voto;
+    }
+
+    @Test
+    @DisplayName("Deve gravar em um único lote os votos enfileirados")
+    void dadoPossuoVotosEnfileiradosQuandoDescarregoFilaEntaoGravarEmLote() {
+        assertTrue(this.ingestaoVotos.enfileirar(gerarVotoPositivo()));
+        assertTrue(this.ingestaoVotos.enfileirar(gerarVotoPositivo()));
+
+        this.ingestaoVotos.descarregar();
+
+        verify(this.votoService, times(1)).registrarVotos(anyList());
+    }
+
+    @Test
+    @DisplayName("Deve recusar o voto quando a fila estiver cheia")
+    void dadoFilaCheiaQuandoTentoEnfileirarVotoEntaoRetornarFalso() {
+        this.ingestaoVotos.enfileirar(gerarVotoPositivo());
+        this.ingestaoVotos.enfileirar(gerarVotoPositivo());
+
+        assertFalse(this.ingestaoVotos.enfileirar(gerarVotoPositivo()));
+    }
+
+    @Test
+    @DisplayName("Deve retornar erro ao enfileirar voto repetido ainda não gravado")
+    void dadoPossuoVotoEnfileiradoQuandoTentoEnfileirarNovamenteEntaoRetornarErro() {
+        Voto voto = gerarVotoPositivo();
+        this.ingestaoVotos.enfileirar(voto);
+
+        assertThrows(IllegalStateException.class, () -> this.ingestaoVotos.enfileirar(voto));
+    }
+
+    @Test
+    @DisplayName("Deve retornar erro ao enfileirar voto já gravado")
+    void dadoPossuoVotoGravadoQuandoTentoEnfileirarNovamenteEntaoRetornarErro() {
+        Voto voto = gerarVotoPositivo();
+        when(this.votoRepository.existsBySessaoVotacaoIdAndCpf(1L, voto.getCpf())).thenReturn(true);
+
+        assertThrows(IllegalStateException.class, () -> this.ingestaoVotos.enfileirar(voto));
+    }
+
+    @Test
+    @DisplayName("Deve gravar os votos individualmente quando o lote falhar")
+    void dadoLoteComFalhaQuandoDescarregoFilaEntaoGravarVotosIndividualmente() {
+        this.ingestaoVotos.enfileirar(gerarVotoPositivo());
+        this.ingestaoVotos.enfileirar(gerarVotoPositivo());
+        when(this.votoService.registrarVotos(anyList()))
+                .thenThrow(new IllegalStateException("Não é possível votar duas vezes."));
+
+        this.ingestaoVotos.descarregar();
+
+        verify(this.votoService, times(2)).registrarVoto(any(Voto.class));
+    }
+
+    @Test
+    @DisplayName("Deve manter o voto para nova tentativa quando a gravação falhar")
+    void dadoFalhaNaGravacaoQuandoDescarregoFilaEntaoTentarGravarNovamente() {
+        Voto voto = gerarVotoPositivo();
+        this.ingestaoVotos.enfileirar(voto);
+        when(this.votoService.registrarVotos(anyList()))
+                .thenThrow(new DataAccessResourceFailureException("Banco indisponível."));
+        doThrow(new DataAccessResourceFailureException("Banco indisponível."))
+                .when(this.votoService).registrarVoto(any(Voto.class));
+
+        this.ingestaoVotos.descarregar();
+
+        verify(this.votoService, times(2)).registrarVoto(any(Voto.class));
+        assertThrows(IllegalStateException.class, () -> this.ingestaoVotos.enfileirar(voto));
+    }
+
+    @Test
+    @DisplayName("Deve manter pendente o voto enfileirado antes do encerramento até que seja gravado")
+    void dadoVotoEnfileiradoAntesDoEncerramentoQuandoSessaoEncerraEntaoManterPendenteAteGravar() {
+        this.ingestaoVotos.enfileirar(gerarVotoPositivo());
+
+        this.ingestaoVotos.iniciarEncerramento(1L);
+
+        assertTrue(this.ingestaoVotos.possuiVotosPendentes(1L));
+        assertFalse(this.ingestaoVotos.possuiVotosPendentes(2L));
+        assertThrows(IllegalStateException.class, () -> this.ingestaoVotos.enfileirar(gerarVotoPositivo()));
+
+        this.ingestaoVotos.descarregar();
+
+        verify(this.votoService, times(1)).registrarVotos(anyList());
+        assertFalse(this.ingestaoVotos.possuiVotosPendentes(1L));
+    }
+
+    @Test
+    @DisplayName("Deve contar como recusado somente o voto repetido e alertar o voto perdido por sessão encerrada")
+    void dadoVotosComFalhaDefinitivaQuandoDescarregoFilaEntaoSepararVotosRepetidosDosPerdidos() {
+        Voto votoRepetido = gerarVotoPositivo();
+        Voto votoAposEncerramento = gerarVotoPositivo();
+        this.ingestaoVotos.enfileirar(votoRepetido);
+        this.ingestaoVotos.enfileirar(votoAposEncerramento);
+        when(this.votoService.registrarVotos(anyList())).thenThrow(new VotoDuplicadoExeption());
+        doThrow(new VotoDuplicadoExeption()).when(this.votoService)
+                .registrarVoto(argThat(voto -> voto.getCpf().equals(votoRepetido.getCpf())));
+        doThrow(new IllegalStateException("Sessão de votação já encerrada.")).when(this.votoService)
+                .registrarVoto(argThat(voto -> voto.getCpf().equals(votoAposEncerramento.getCpf())));
+
+        this.ingestaoVotos.descarregar();
+
+        assertEquals(1, this.meterRegistry.counter("votacao.ingestao.votos.recusados").count());
+        assertEquals(1, this.meterRegistry.counter("votacao.ingestao.votos.perdidos").count());
+        assertFalse(this.ingestaoVotos.possuiVotosPendentes(1L));
+    }
+}
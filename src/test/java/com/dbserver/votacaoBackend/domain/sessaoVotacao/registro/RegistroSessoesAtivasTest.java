@@ -0,0 +1,127 @@
+package com.dbserver.votacaoBackend.domain.sessaoVotacao.registro;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.ingestao.IngestaoVotos;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.repository.SessaoVotacaoRepository;
+import com.dbserver.votacaoBackend.utils.Utils;
+
+@ExtendWith(MockitoExtension.class)
+class RegistroSessoesAtivasTest {
+
+    @Mock
+    private SessaoVotacaoRepository sessaoVotacaoRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private IngestaoVotos ingestaoVotos;
+
+    private RegistroSessoesAtivas registroSessoesAtivas;
+
+    private LocalDateTime dataAtual;
+
+    @BeforeEach
+    void configurar() {
+        this.registroSessoesAtivas = new RegistroSessoesAtivas(this.sessaoVotacaoRepository, new Utils(),
+                this.eventPublisher, this.ingestaoVotos, 100, 60000, 0, 10);
+        this.dataAtual = LocalDateTime.now();
+    }
+
+    @AfterEach
+    void encerrar() {
+        this.registroSessoesAtivas.desligar();
+    }
+
+    @Test
+    @DisplayName("Deve encontrar sessão registrada sem consultar o banco")
+    void dadoSessaoRegistradaQuandoBuscoPorPautaEntaoRetornarSessaoSemConsultarBanco() {
+        SessaoAtiva sessaoAtiva = new SessaoAtiva(1L, 10L, this.dataAtual.plusMinutes(5));
+        this.registroSessoesAtivas.registrar(sessaoAtiva);
+
+        assertEquals(Optional.of(sessaoAtiva), this.registroSessoesAtivas.buscar(1L, this.dataAtual));
+        verify(this.sessaoVotacaoRepository, never()).findSessaoAtivaByPautaId(anyLong(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Não deve retornar sessão registrada que já foi encerrada")
+    void dadoSessaoRegistradaEncerradaQuandoBuscoPorPautaEntaoRetornarVazio() {
+        this.registroSessoesAtivas.registrar(new SessaoAtiva(1L, 10L, this.dataAtual.plusMinutes(5)));
+
+        assertTrue(this.registroSessoesAtivas.buscar(1L, this.dataAtual.plusMinutes(6)).isEmpty());
+        verify(this.sessaoVotacaoRepository, never()).findSessaoAtivaByPautaId(anyLong(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco uma única vez para pauta sem sessão ativa")
+    void dadoPautaSemSessaoAtivaQuandoBuscoDuasVezesEntaoConsultarBancoUmaVez() {
+        when(this.sessaoVotacaoRepository.findSessaoAtivaByPautaId(1L, this.dataAtual)).thenReturn(Optional.empty());
+
+        assertTrue(this.registroSessoesAtivas.buscar(1L, this.dataAtual).isEmpty());
+        assertTrue(this.registroSessoesAtivas.buscar(1L, this.dataAtual).isEmpty());
+        verify(this.sessaoVotacaoRepository, times(1)).findSessaoAtivaByPautaId(1L, this.dataAtual);
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir o registro a partir das sessões ativas do banco")
+    void dadoSessoesAtivasNoBancoQuandoReconstruoRegistroEntaoRetornarSessoes() {
+        SessaoAtiva sessaoAtiva = new SessaoAtiva(2L, 20L, this.dataAtual.plusMinutes(5));
+        when(this.sessaoVotacaoRepository.findAllSessoesAtivas(any(LocalDateTime.class))).thenReturn(List.of(sessaoAtiva));
+
+        this.registroSessoesAtivas.reconstruir();
+
+        assertEquals(Optional.of(sessaoAtiva), this.registroSessoesAtivas.buscar(2L, this.dataAtual));
+        verify(this.sessaoVotacaoRepository, never()).findSessaoAtivaByPautaId(anyLong(), any(LocalDateTime.class));
+        verify(this.sessaoVotacaoRepository).encerrarSessoes(any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Deve registrar o resultado da sessão quando ela for encerrada")
+    void dadoSessaoRegistradaQuandoChegaDataDeFechamentoEntaoEncerrarSessao() {
+        this.registroSessoesAtivas.registrar(new SessaoAtiva(3L, 30L, this.dataAtual.plusNanos(50_000_000)));
+
+        verify(this.sessaoVotacaoRepository, timeout(2000)).encerrarSessao(eq(30L), any(LocalDateTime.class));
+        verify(this.eventPublisher, timeout(2000)).publishEvent(new SessaoVotacaoEncerrada(3L, 30L));
+        assertTrue(this.registroSessoesAtivas.buscar(3L, LocalDateTime.now().plusSeconds(1)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve aguardar a gravação dos votos enfileirados antes de registrar o resultado da sessão")
+    void dadoVotoEnfileiradoAntesDoFechamentoQuandoSessaoEncerraEntaoAguardarGravacaoParaEncerrar() {
+        when(this.ingestaoVotos.possuiVotosPendentes(40L)).thenReturn(true, true, false);
+
+        this.registroSessoesAtivas.registrar(new SessaoAtiva(4L, 40L, this.dataAtual.plusNanos(50_000_000)));
+
+        verify(this.eventPublisher, timeout(2000)).publishEvent(new SessaoVotacaoEncerrada(4L, 40L));
+        InOrder ordem = inOrder(this.ingestaoVotos, this.sessaoVotacaoRepository);
+        ordem.verify(this.ingestaoVotos).iniciarEncerramento(40L);
+        ordem.verify(this.ingestaoVotos, times(3)).possuiVotosPendentes(40L);
+        ordem.verify(this.sessaoVotacaoRepository).encerrarSessao(eq(40L), any(LocalDateTime.class));
+        ordem.verify(this.ingestaoVotos).concluirEncerramento(40L);
+    }
+}
@@ -13,12 +13,23 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import com.dbserver.votacaoBackend.domain.autenticacao.repository.AutenticacaoRepository;
 import com.dbserver.votacaoBackend.domain.autenticacao.service.AutenticacaoServiceImpl;
@@ -29,13 +40,24 @@ import com.dbserver.votacaoBackend.domain.sessaoVotacao.SessaoVotacao;
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.dto.AbrirVotacaoDto;
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.dto.InserirVotoExternoDto;
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.dto.InserirVotoInternoDto;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.dto.InserirVotosExternosDto;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.dto.RespostaSessaoVotacaoDto;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.dto.RespostaVotosExternosDto;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.enums.TipoDeVotoEnum;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.ingestao.IngestaoVotos;
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.mapper.SessaoVotacaoMapper;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.registro.RegistroSessoesAtivas;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.registro.SessaoAtiva;
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.repository.SessaoVotacaoRepository;
 import com.dbserver.votacaoBackend.domain.sessaoVotacao.validacoes.SessaoVotacaoValidacoes;
+import com.dbserver.votacaoBackend.domain.usuario.Cpf;
 import com.dbserver.votacaoBackend.domain.usuario.Usuario;
 import com.dbserver.votacaoBackend.domain.usuario.service.UsuarioServiceImpl;
 import com.dbserver.votacaoBackend.domain.voto.Voto;
 import com.dbserver.votacaoBackend.domain.voto.mapper.VotoMapper;
+import com.dbserver.votacaoBackend.domain.voto.service.VotoServiceImpl;
+import com.dbserver.votacaoBackend.infra.metricas.MetricasVotacao;
+import com.dbserver.votacaoBackend.infra.security.limite.LimiteVotosEmLote;
 import com.dbserver.votacaoBackend.domain.voto.validacoes.VotoValidacoes;
 import com.dbserver.votacaoBackend.fixture.pauta.PautaFixture;
 import com.dbserver.votacaoBackend.fixture.sessaoVotacao.AbrirVotacaoDtoFixture;
@@ -49,6 +71,7 @@ import com.dbserver.votacaoBackend.utils.Utils;
 @SpringBootTest
 @ExtendWith(MockitoExtension.class)
 class SessaoVotacaoServiceTest {
+        private static final String ORIGEM = "10.0.0.1";
 
         @InjectMocks
         private SessaoVotacaoServiceImpl sessaoVotacaoService;
@@ -78,6 +101,18 @@ class SessaoVotacaoServiceTest {
         @Mock
         private VotoMapper votoMapper;
 
+        @Mock
+        private VotoServiceImpl votoService;
+
+        @Mock
+        private IngestaoVotos ingestaoVotos;
+
+        @Mock
+        private RegistroSessoesAtivas registroSessoesAtivas;
+
+        @Mock
+        private MetricasVotacao metricasVotacao;
+
         @Mock
         private SessaoVotacaoValidacoes sessaoVotacaoValidacoes;
 
@@ -87,6 +122,9 @@ class SessaoVotacaoServiceTest {
         @Mock
         private AutenticacaoValidacoes autenticacaoValidacoes;
 
+        @Mock
+        private LimiteVotosEmLote limiteVotosEmLote;
+
         private LocalDateTime dataAbertura;
 
         private Pauta pautaMock;
@@ -126,6 +164,7 @@ class SessaoVotacaoServiceTest {
                 this.sessaoVotacaoService.abrirVotacao(dto);
 
                 verify(this.sessaoVotacaoRepository).save(this.sessaoVotacaoMock);
+                verify(this.registroSessoesAtivas).registrar(SessaoAtiva.de(this.sessaoVotacaoMock));
                 verify(this.sessaoVotacaoMapper).toRespostaSessaoVotacaoDto(any(SessaoVotacao.class));
         }
 
@@ -150,14 +189,19 @@ class SessaoVotacaoServiceTest {
 
                 when(this.usuarioService.buscarUsuarioLogado()).thenReturn(this.usuarioVotanteMock);
                 when(utils.obterDataAtual()).thenReturn(dataAbertura);
-                when(this.sessaoVotacaoRepository.findByPautaIdAndSessaoVotacaoAtiva(1L, dataAbertura))
+                when(this.registroSessoesAtivas.buscar(1L, dataAbertura))
+                                .thenReturn(Optional.of(SessaoAtiva.de(this.sessaoVotacaoMock)));
+                when(this.sessaoVotacaoRepository.findById(this.sessaoVotacaoMock.getId()))
                                 .thenReturn(Optional.of(this.sessaoVotacaoMock));
                 when(this.votoMapper.toVoto(this.usuarioVotanteMock.getCpf(), this.usuarioVotanteMock))
                                 .thenReturn(voto);
 
                 assertDoesNotThrow(() -> this.sessaoVotacaoService.inserirVotoInterno(dto));
                 assertEquals(1, this.sessaoVotacaoMock.getVotosPositivos().size());
-                verify(this.sessaoVotacaoRepository).save(this.sessaoVotacaoMock);
+                assertEquals(TipoDeVotoEnum.VOTO_POSITIVO, voto.getTipoDeVoto());
+                assertEquals(this.sessaoVotacaoMock, voto.getSessaoVotacao());
+                verify(this.votoService).registrarVoto(voto);
+                verify(this.metricasVotacao).votoAceito(this.sessaoVotacaoMock.getId());
                 verify(this.sessaoVotacaoMapper).toRespostaSessaoVotacaoDto(sessaoVotacaoMock);
         }
 
@@ -169,14 +213,17 @@ class SessaoVotacaoServiceTest {
 
                 when(this.usuarioService.buscarUsuarioLogado()).thenReturn(this.usuarioVotanteMock);
                 when(utils.obterDataAtual()).thenReturn(dataAbertura);
-                when(this.sessaoVotacaoRepository.findByPautaIdAndSessaoVotacaoAtiva(dto.pautaId(), dataAbertura))
+                when(this.registroSessoesAtivas.buscar(dto.pautaId(), dataAbertura))
+                                .thenReturn(Optional.of(SessaoAtiva.de(this.sessaoVotacaoMock)));
+                when(this.sessaoVotacaoRepository.findById(this.sessaoVotacaoMock.getId()))
                                 .thenReturn(Optional.of(this.sessaoVotacaoMock));
                 when(this.votoMapper.toVoto(this.usuarioVotanteMock.getCpf(), this.usuarioVotanteMock))
                                 .thenReturn(voto);
 
                 assertDoesNotThrow(() -> this.sessaoVotacaoService.inserirVotoInterno(dto));
                 assertEquals(1, this.sessaoVotacaoMock.getVotosNegativos().size());
-                verify(this.sessaoVotacaoRepository).save(this.sessaoVotacaoMock);
+                assertEquals(TipoDeVotoEnum.VOTO_NEGATIVO, voto.getTipoDeVoto());
+                verify(this.votoService).registrarVoto(voto);
                 verify(this.sessaoVotacaoMapper).toRespostaSessaoVotacaoDto(sessaoVotacaoMock);
         }
 
@@ -188,7 +235,9 @@ class SessaoVotacaoServiceTest {
 
                 when(this.usuarioService.buscarUsuarioLogado()).thenReturn(this.usuarioVotanteMock);
                 when(utils.obterDataAtual()).thenReturn(dataAbertura);
-                when(this.sessaoVotacaoRepository.findByPautaIdAndSessaoVotacaoAtiva(dto.pautaId(), dataAbertura))
+                when(this.registroSessoesAtivas.buscar(dto.pautaId(), dataAbertura))
+                                .thenReturn(Optional.of(SessaoAtiva.de(this.sessaoVotacaoMock)));
+                when(this.sessaoVotacaoRepository.findById(this.sessaoVotacaoMock.getId()))
                                 .thenReturn(Optional.of(this.sessaoVotacaoMock));
                 when(this.votoMapper.toVoto(this.usuarioVotanteMock.getCpf(), this.usuarioVotanteMock))
                                 .thenReturn(voto);
@@ -207,6 +256,7 @@ class SessaoVotacaoServiceTest {
 
                 assertThrows(IllegalArgumentException.class,
                                 () -> this.sessaoVotacaoService.inserirVotoInterno(dto));
+                verify(this.sessaoVotacaoRepository, never()).findById(any());
         }
 
         @Test
@@ -217,13 +267,16 @@ class SessaoVotacaoServiceTest {
 
                 when(this.usuarioService.buscarUsuarioLogado()).thenReturn(this.usuarioDonoDaPautaMock);
                 when(utils.obterDataAtual()).thenReturn(dataAbertura);
-                when(this.sessaoVotacaoRepository.findByPautaIdAndSessaoVotacaoAtiva(dto.pautaId(), dataAbertura))
+                when(this.registroSessoesAtivas.buscar(dto.pautaId(), dataAbertura))
+                                .thenReturn(Optional.of(SessaoAtiva.de(this.sessaoVotacaoMock)));
+                when(this.sessaoVotacaoRepository.findById(this.sessaoVotacaoMock.getId()))
                                 .thenReturn(Optional.of(this.sessaoVotacaoMock));
                 when(this.votoMapper.toVoto(this.usuarioDonoDaPautaMock.getCpf(), this.usuarioDonoDaPautaMock))
                                 .thenReturn(voto);
 
                 assertThrows(IllegalArgumentException.class,
                                 () -> this.sessaoVotacaoService.inserirVotoInterno(dto));
+                verify(this.metricasVotacao).votoRejeitado(any(IllegalArgumentException.class));
         }
 
         @Test
@@ -235,10 +288,14 @@ class SessaoVotacaoServiceTest {
 
                 when(this.usuarioService.buscarUsuarioLogado()).thenReturn(this.usuarioVotanteMock);
                 when(utils.obterDataAtual()).thenReturn(dataAbertura);
-                when(this.sessaoVotacaoRepository.findByPautaIdAndSessaoVotacaoAtiva(dto.pautaId(), dataAbertura))
+                when(this.registroSessoesAtivas.buscar(dto.pautaId(), dataAbertura))
+                                .thenReturn(Optional.of(SessaoAtiva.de(this.sessaoVotacaoMock)));
+                when(this.sessaoVotacaoRepository.findById(this.sessaoVotacaoMock.getId()))
                                 .thenReturn(Optional.of(this.sessaoVotacaoMock));
                 when(this.votoMapper.toVoto(this.usuarioVotanteMock.getCpf(), this.usuarioVotanteMock))
                                 .thenReturn(voto);
+                doThrow(new IllegalStateException("Não é possível votar duas vezes."))
+                                .when(this.votoService).registrarVoto(voto);
 
                 assertThrows(IllegalStateException.class,
                                 () -> this.sessaoVotacaoService.inserirVotoInterno(dto));
@@ -250,15 +307,198 @@ class SessaoVotacaoServiceTest {
                 InserirVotoExternoDto dto = InserirVotoExternoDtoFixture.inserirVotoExternoDtoUsuarioExistenteValido();
                 Voto voto = VotoFixture.gerarVotoExterno(dto.cpf(), null);
                 when(utils.obterDataAtual()).thenReturn(dataAbertura);
-                when(this.sessaoVotacaoRepository.findByPautaIdAndSessaoVotacaoAtiva(dto.pautaId(), dataAbertura))
+                when(this.registroSessoesAtivas.buscar(dto.pautaId(), dataAbertura))
+                                .thenReturn(Optional.of(SessaoAtiva.de(this.sessaoVotacaoMock)));
+                when(this.sessaoVotacaoRepository.findById(this.sessaoVotacaoMock.getId()))
                                 .thenReturn(Optional.of(this.sessaoVotacaoMock));
-                when(this.votoMapper.toVoto(dto.cpf(), null))
+                when(this.votoMapper.toVoto(Cpf.de(dto.cpf()), null))
                                 .thenReturn(voto);
                 assertDoesNotThrow(() -> this.sessaoVotacaoService.inserirVotoExterno(dto));
 
                 assertEquals(1, this.sessaoVotacaoMock.getVotosPositivos().size());
-                verify(this.sessaoVotacaoRepository).save(this.sessaoVotacaoMock);
+                verify(this.votoService).registrarVoto(voto);
                 verify(this.sessaoVotacaoMapper).toRespostaSessaoVotacaoDto(sessaoVotacaoMock);
         }
 
+        @Test
+        @DisplayName("Deve enfileirar o voto sem gravá-lo imediatamente quando a ingestão assíncrona estiver habilitada")
+        void dadoIngestaoHabilitadaQuandoTentoInserirVotoEntaoEnfileirarVoto() {
+                InserirVotoInternoDto dto = InserirVotoInternoDtoFixture.inserirVotoInternoDto();
+                Voto voto = VotoFixture.gerarVotoInterno(this.usuarioVotanteMock);
+
+                when(this.usuarioService.buscarUsuarioLogado()).thenReturn(this.usuarioVotanteMock);
+                when(utils.obterDataAtual()).thenReturn(dataAbertura);
+                when(this.registroSessoesAtivas.buscar(dto.pautaId(), dataAbertura))
+                                .thenReturn(Optional.of(SessaoAtiva.de(this.sessaoVotacaoMock)));
+                when(this.sessaoVotacaoRepository.findById(this.sessaoVotacaoMock.getId()))
+                                .thenReturn(Optional.of(this.sessaoVotacaoMock));
+                when(this.votoMapper.toVoto(this.usuarioVotanteMock.getCpf(), this.usuarioVotanteMock))
+                                .thenReturn(voto);
+                when(this.ingestaoVotos.isHabilitada()).thenReturn(true);
+                when(this.ingestaoVotos.enfileirar(voto)).thenReturn(true);
+                when(this.sessaoVotacaoMapper.toRespostaSessaoVotacaoDto(this.sessaoVotacaoMock))
+                                .thenReturn(new RespostaSessaoVotacaoDto(1L, 1L, 1, 0, dataAbertura,
+                                                dataAbertura.plusMinutes(5), true, false));
+
+                RespostaSessaoVotacaoDto resposta = this.sessaoVotacaoService.inserirVotoInterno(dto);
+
+                assertTrue(resposta.gravacaoPendente());
+                verify(this.ingestaoVotos).enfileirar(voto);
+                verify(this.votoService, never()).registrarVoto(any(Voto.class));
+        }
+
+        @Test
+        @DisplayName("Deve gravar o voto imediatamente quando a fila de ingestão estiver cheia")
+        void dadoFilaDeIngestaoCheiaQuandoTentoInserirVotoEntaoGravarVotoImediatamente() {
+                InserirVotoInternoDto dto = InserirVotoInternoDtoFixture.inserirVotoInternoDto();
+                Voto voto = VotoFixture.gerarVotoInterno(this.usuarioVotanteMock);
+
+                when(this.usuarioService.buscarUsuarioLogado()).thenReturn(this.usuarioVotanteMock);
+                when(utils.obterDataAtual()).thenReturn(dataAbertura);
+                when(this.registroSessoesAtivas.buscar(dto.pautaId(), dataAbertura))
+                                .thenReturn(Optional.of(SessaoAtiva.de(this.sessaoVotacaoMock)));
+                when(this.sessaoVotacaoRepository.findById(this.sessaoVotacaoMock.getId()))
+                                .thenReturn(Optional.of(this.sessaoVotacaoMock));
+                when(this.votoMapper.toVoto(this.usuarioVotanteMock.getCpf(), this.usuarioVotanteMock))
+                                .thenReturn(voto);
+                when(this.ingestaoVotos.isHabilitada()).thenReturn(true);
+                when(this.ingestaoVotos.enfileirar(voto)).thenReturn(false);
+
+                this.sessaoVotacaoService.inserirVotoInterno(dto);
+
+                verify(this.votoService).registrarVoto(voto);
+        }
+
+        @Test
+        @DisplayName("Deve ser possível inserir lote de votos externos rejeitando votos do criador e repetidos")
+        void dadoPossuoLoteDeVotosExternosQuandoTentoInserirVotosExternosEntaoRetornarResultadoPorVoto() {
+                InserirVotosExternosDto dto = new InserirVotosExternosDto(List.of(
+                                InserirVotoExternoDtoFixture.inserirVotoExternoDto(1L, UsuarioFixture.CPF_ALEATORIO,
+                                                TipoDeVotoEnum.VOTO_POSITIVO),
+                                InserirVotoExternoDtoFixture.inserirVotoExternoDto(1L,
+                                                this.usuarioDonoDaPautaMock.getCpf().toString(), TipoDeVotoEnum.VOTO_POSITIVO),
+                                InserirVotoExternoDtoFixture.inserirVotoExternoDto(1L, UsuarioFixture.CPF_ALEATORIO,
+                                                TipoDeVotoEnum.VOTO_NEGATIVO)));
+                this.configurarLoteDeVotosExternos();
+                this.autorizarTodosOsCpfs();
+
+                RespostaVotosExternosDto resposta = this.sessaoVotacaoService.inserirVotosExternos(dto, ORIGEM);
+
+                assertEquals(1, resposta.aceitos());
+                assertEquals(2, resposta.rejeitados());
+                assertEquals(true, resposta.resultados().get(0).aceito());
+                assertEquals("O criador não pode votar na pauta criada.", resposta.resultados().get(1).erro());
+                assertEquals(SessaoVotacaoValidacoes.VOTO_EXTERNO_RECUSADO, resposta.resultados().get(2).erro());
+                verify(this.votoService).registrarVotos(List.of(VotoFixture.gerarVotoExterno(UsuarioFixture.CPF_ALEATORIO, null)));
+                verify(this.metricasVotacao).votoAceito(this.sessaoVotacaoMock.getId());
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar votos externos do lote cuja pauta não possui sessão ativa")
+        void dadoPossuoLoteComPautaInativaQuandoTentoInserirVotosExternosEntaoRejeitarVotosDaPauta() {
+                InserirVotosExternosDto dto = new InserirVotosExternosDto(List.of(
+                                InserirVotoExternoDtoFixture.inserirVotoExternoDto(2L, UsuarioFixture.CPF_ALEATORIO,
+                                                TipoDeVotoEnum.VOTO_POSITIVO)));
+                when(utils.obterDataAtual()).thenReturn(dataAbertura);
+
+                RespostaVotosExternosDto resposta = this.sessaoVotacaoService.inserirVotosExternos(dto, ORIGEM);
+
+                assertEquals(0, resposta.aceitos());
+                assertEquals("Pauta não possui sessão ativa.", resposta.resultados().get(0).erro());
+                verify(this.votoService, never()).registrarVotos(any());
+        }
+
+        @Test
+        @DisplayName("Deve gravar votos externos individualmente quando a gravação do lote falhar")
+        void dadoFalhaAoGravarLoteQuandoTentoInserirVotosExternosEntaoGravarVotosIndividualmente() {
+                InserirVotosExternosDto dto = new InserirVotosExternosDto(List.of(
+                                InserirVotoExternoDtoFixture.inserirVotoExternoDto(1L, UsuarioFixture.CPF_ALEATORIO,
+                                                TipoDeVotoEnum.VOTO_POSITIVO),
+                                InserirVotoExternoDtoFixture.inserirVotoExternoDto(1L, UsuarioFixture.CPF_USUARIO,
+                                                TipoDeVotoEnum.VOTO_NEGATIVO)));
+                this.configurarLoteDeVotosExternos();
+                this.autorizarTodosOsCpfs();
+                when(this.votoService.registrarVotos(any()))
+                                .thenThrow(new IllegalStateException("Não é possível votar duas vezes."));
+                when(this.votoService.registrarVoto(any(Voto.class))).thenAnswer(invocacao -> {
+                        Voto voto = invocacao.getArgument(0);
+                        if (voto.getCpf().equals(Cpf.de(UsuarioFixture.CPF_USUARIO)))
+                                throw new IllegalStateException("Não é possível votar duas vezes.");
+                        return voto;
+                });
+
+                RespostaVotosExternosDto resposta = this.sessaoVotacaoService.inserirVotosExternos(dto, ORIGEM);
+
+                assertEquals(1, resposta.aceitos());
+                assertEquals(false, resposta.resultados().get(1).aceito());
+                verify(this.votoService, times(2)).registrarVoto(any(Voto.class));
+        }
+
+        @Test
+        @DisplayName("Deve verificar a senha uma vez por cpf e recusar com a mesma mensagem votos repetidos e com senha inválida")
+        void dadoLoteComSenhaInvalidaEVotoRepetidoQuandoTentoInserirVotosExternosEntaoRecusarComMesmaMensagem() {
+                InserirVotosExternosDto dto = new InserirVotosExternosDto(List.of(
+                                InserirVotoExternoDtoFixture.inserirVotoExternoDto(1L, UsuarioFixture.CPF_ALEATORIO,
+                                                TipoDeVotoEnum.VOTO_POSITIVO),
+                                InserirVotoExternoDtoFixture.inserirVotoExternoDto(1L, UsuarioFixture.CPF_USUARIO,
+                                                TipoDeVotoEnum.VOTO_POSITIVO),
+                                InserirVotoExternoDtoFixture.inserirVotoExternoDto(1L, UsuarioFixture.CPF_ALEATORIO,
+                                                TipoDeVotoEnum.VOTO_NEGATIVO)));
+                this.configurarLoteDeVotosExternos();
+                when(this.sessaoVotacaoValidacoes.filtrarCpfsAutorizadosAVotarExternamente(any(), any()))
+                                .thenReturn(Set.of(Cpf.de(UsuarioFixture.CPF_ALEATORIO)));
+
+                RespostaVotosExternosDto resposta = this.sessaoVotacaoService.inserirVotosExternos(dto, ORIGEM);
+
+                assertEquals(1, resposta.aceitos());
+                assertEquals(SessaoVotacaoValidacoes.VOTO_EXTERNO_RECUSADO, resposta.resultados().get(1).erro());
+                assertEquals(SessaoVotacaoValidacoes.VOTO_EXTERNO_RECUSADO, resposta.resultados().get(2).erro());
+                verify(this.sessaoVotacaoValidacoes).filtrarCpfsAutorizadosAVotarExternamente(
+                                argThat(senhas -> senhas.keySet().equals(Set.of(Cpf.de(UsuarioFixture.CPF_ALEATORIO),
+                                                Cpf.de(UsuarioFixture.CPF_USUARIO)))),
+                                any());
+        }
+
+        @Test
+        @DisplayName("Deve recusar somente os votos do lote que excedem o limite por origem ou por cpf")
+        void dadoLoteAcimaDoLimiteQuandoTentoInserirVotosExternosEntaoRecusarSomenteVotosExcedentes() {
+                InserirVotosExternosDto dto = new InserirVotosExternosDto(List.of(
+                                InserirVotoExternoDtoFixture.inserirVotoExternoDto(1L, UsuarioFixture.CPF_ALEATORIO,
+                                                TipoDeVotoEnum.VOTO_POSITIVO),
+                                InserirVotoExternoDtoFixture.inserirVotoExternoDto(1L, UsuarioFixture.CPF_USUARIO,
+                                                TipoDeVotoEnum.VOTO_POSITIVO),
+                                InserirVotoExternoDtoFixture.inserirVotoExternoDto(1L, "90000000001",
+                                                TipoDeVotoEnum.VOTO_NEGATIVO)));
+                this.configurarLoteDeVotosExternos();
+                this.autorizarTodosOsCpfs();
+                when(this.limiteVotosEmLote.reservarVotos(ORIGEM, 3)).thenReturn(2);
+                when(this.limiteVotosEmLote.reservarCpf(UsuarioFixture.CPF_USUARIO)).thenReturn(false);
+
+                RespostaVotosExternosDto resposta = this.sessaoVotacaoService.inserirVotosExternos(dto, ORIGEM);
+
+                assertEquals(1, resposta.aceitos());
+                assertEquals(true, resposta.resultados().get(0).aceito());
+                assertEquals(LimiteVotosEmLote.MENSAGEM_LIMITE_EXCEDIDO, resposta.resultados().get(1).erro());
+                assertEquals(LimiteVotosEmLote.MENSAGEM_LIMITE_EXCEDIDO, resposta.resultados().get(2).erro());
+                verify(this.votoService).registrarVotos(List.of(VotoFixture.gerarVotoExterno(UsuarioFixture.CPF_ALEATORIO, null)));
+        }
+
+        private void configurarLoteDeVotosExternos() {
+                when(utils.obterDataAtual()).thenReturn(dataAbertura);
+                when(this.registroSessoesAtivas.buscar(1L, dataAbertura))
+                                .thenReturn(Optional.of(SessaoAtiva.de(this.sessaoVotacaoMock)));
+                when(this.sessaoVotacaoRepository.findById(this.sessaoVotacaoMock.getId()))
+                                .thenReturn(Optional.of(this.sessaoVotacaoMock));
+                when(this.votoService.buscarCpfsQueVotaram(any(), any())).thenReturn(new HashSet<>());
+                when(this.votoMapper.toVoto(any(), any()))
+                                .thenAnswer(invocacao -> VotoFixture.gerarVotoExterno(invocacao.getArgument(0, Cpf.class), null));
+                when(this.limiteVotosEmLote.reservarVotos(eq(ORIGEM), anyInt()))
+                                .thenAnswer(invocacao -> invocacao.getArgument(1));
+                when(this.limiteVotosEmLote.reservarCpf(any())).thenReturn(true);
+        }
+
+        private void autorizarTodosOsCpfs() {
+                when(this.sessaoVotacaoValidacoes.filtrarCpfsAutorizadosAVotarExternamente(any(), any()))
+                                .thenAnswer(invocacao -> invocacao.<Map<Cpf, String>>getArgument(0).keySet());
+        }
 }
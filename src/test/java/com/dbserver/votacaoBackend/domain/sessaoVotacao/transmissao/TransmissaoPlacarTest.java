@@ -0,0 +1,104 @@
+package com.dbserver.votacaoBackend.domain.sessaoVotacao.transmissao;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.SessaoVotacao;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.mapper.SessaoVotacaoMapper;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.registro.RegistroSessoesAtivas;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.registro.SessaoAtiva;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.repository.SessaoVotacaoRepository;
+import com.dbserver.votacaoBackend.fixture.pauta.PautaFixture;
+import com.dbserver.votacaoBackend.fixture.usuario.UsuarioFixture;
+import com.dbserver.votacaoBackend.utils.Utils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TransmissaoPlacarTest {
+
+    @Mock
+    private SessaoVotacaoRepository sessaoVotacaoRepository;
+
+    @Mock
+    private RegistroSessoesAtivas registroSessoesAtivas;
+
+    @Mock
+    private Utils utils;
+
+    private TransmissaoPlacar transmissaoPlacar;
+
+    private SessaoVotacao sessaoVotacaoMock;
+
+    private LocalDateTime dataAtual;
+
+    @BeforeEach
+    void configurar() {
+        this.transmissaoPlacar = new TransmissaoPlacar(this.sessaoVotacaoRepository, SessaoVotacaoMapper.INSTANCE,
+                this.registroSessoesAtivas, this.utils, new ObjectMapper().findAndRegisterModules(),
+                new SimpleMeterRegistry(), 2);
+        this.dataAtual = LocalDateTime.now();
+        this.sessaoVotacaoMock = SessaoVotacao.builder()
+                .id(1L)
+                .pauta(PautaFixture.pautaTransporte(UsuarioFixture.usuarioAdmin()))
+                .dataAbertura(this.dataAtual)
+                .dataFechamento(this.dataAtual.plusMinutes(5))
+                .build();
+    }
+
+    @AfterEach
+    void encerrar() {
+        this.transmissaoPlacar.encerrar();
+    }
+
+    @Test
+    @DisplayName("Deve ler o placar uma única vez por atualização independentemente do número de inscritos")
+    void dadoPossuoVariosInscritosQuandoPublicoPlacarEntaoLerPlacarUmaVez() {
+        when(this.utils.obterDataAtual()).thenReturn(this.dataAtual);
+        when(this.registroSessoesAtivas.buscar(1L, this.dataAtual))
+                .thenReturn(Optional.of(new SessaoAtiva(1L, 1L, this.sessaoVotacaoMock.getDataFechamento())));
+        when(this.sessaoVotacaoRepository.findById(1L)).thenReturn(Optional.of(this.sessaoVotacaoMock));
+
+        for (int i = 0; i < 100; i++)
+            assertNotNull(this.transmissaoPlacar.inscrever(1L));
+
+        this.transmissaoPlacar.publicar();
+
+        verify(this.sessaoVotacaoRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Não deve ser possível acompanhar placar de pauta sem sessão ativa")
+    void dadoPautaSemSessaoAtivaQuandoTentoInscreverEntaoRetornarErro() {
+        when(this.utils.obterDataAtual()).thenReturn(this.dataAtual);
+
+        assertThrows(IllegalArgumentException.class, () -> this.transmissaoPlacar.inscrever(1L));
+        verify(this.sessaoVotacaoRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Não deve ler placar quando não houver inscritos")
+    void dadoNaoPossuoInscritosQuandoPublicoPlacarEntaoNaoLerPlacar() {
+        this.transmissaoPlacar.publicar();
+
+        verify(this.sessaoVotacaoRepository, never()).findById(any());
+    }
+}
@@ -0,0 +1,38 @@
+package com.dbserver.votacaoBackend.domain.usuario;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dbserver.votacaoBackend.fixture.usuario.UsuarioFixture;
+
+class CpfTest {
+
+    @Test
+    @DisplayName("Deve ser possível converter cpf com zeros à esquerda e voltar ao texto original")
+    void dadoPossuoCpfComZerosAEsquerdaQuandoConverterEntaoManterFormatoOriginal() {
+        Cpf cpf = Cpf.de("00012345678");
+
+        assertEquals(12345678L, cpf.valor());
+        assertEquals("00012345678", cpf.toString());
+    }
+
+    @Test
+    @DisplayName("Cpfs com o mesmo valor devem ser iguais")
+    void dadoPossuoDoisCpfsComMesmoValorQuandoCompararEntaoSeremIguais() {
+        assertEquals(Cpf.de(UsuarioFixture.CPF_ALEATORIO), Cpf.de(" " + UsuarioFixture.CPF_ALEATORIO + " "));
+        assertEquals(Cpf.de(UsuarioFixture.CPF_ALEATORIO).hashCode(), Cpf.de(UsuarioFixture.CPF_ALEATORIO).hashCode());
+    }
+
+    @Test
+    @DisplayName("Não deve ser possível converter cpf inválido")
+    void dadoPossuoCpfInvalidoQuandoConverterEntaoRetornarErro() {
+        assertThrows(IllegalArgumentException.class, () -> Cpf.de(UsuarioFixture.CPF_INVALIDO));
+        assertThrows(IllegalArgumentException.class, () -> Cpf.de(null));
+        assertThrows(IllegalArgumentException.class, () -> new Cpf(100_000_000_000L));
+        assertTrue(Cpf.deSeValido("1234567890a").isEmpty());
+    }
+}
@@ -0,0 +1,132 @@
+package com.dbserver.votacaoBackend.domain.usuario.importacao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.dbserver.votacaoBackend.domain.autenticacao.repository.AutenticacaoRepository;
+import com.dbserver.votacaoBackend.domain.usuario.dto.CriarUsuarioDto;
+import com.dbserver.votacaoBackend.domain.usuario.dto.ErroImportacaoDto;
+import com.dbserver.votacaoBackend.domain.usuario.dto.EventoImportacaoDto;
+import com.dbserver.votacaoBackend.domain.usuario.dto.ProgressoImportacaoDto;
+import com.dbserver.votacaoBackend.domain.usuario.mapper.UsuarioMapper;
+import com.dbserver.votacaoBackend.domain.usuario.repository.UsuarioLoteRepository;
+import com.dbserver.votacaoBackend.domain.usuario.repository.UsuarioRepository;
+import com.dbserver.votacaoBackend.fixture.usuario.UsuarioFixture;
+import com.dbserver.votacaoBackend.infra.cache.CacheEntidades;
+import com.dbserver.votacaoBackend.infra.security.senha.CodificadorDeSenhaLimitado;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.Validator;
+
+@ExtendWith(MockitoExtension.class)
+class ImportacaoUsuariosTest {
+
+    @Mock
+    private UsuarioRepository usuarioRepository;
+
+    @Mock
+    private AutenticacaoRepository autenticacaoRepository;
+
+    @Mock
+    private UsuarioLoteRepository usuarioLoteRepository;
+
+    @Mock
+    private UsuarioMapper usuarioMapper;
+
+    @Mock
+    private CodificadorDeSenhaLimitado codificadorDeSenha;
+
+    @Mock
+    private CacheEntidades cacheEntidades;
+
+    @Mock
+    private Validator validator;
+
+    private ImportacaoUsuarios importacaoUsuarios;
+
+    @BeforeEach
+    void configurar() {
+        this.importacaoUsuarios = new ImportacaoUsuarios(this.usuarioRepository, this.autenticacaoRepository,
+                this.usuarioLoteRepository, this.usuarioMapper, this.codificadorDeSenha, this.cacheEntidades,
+                new ObjectMapper(), this.validator, 500, 1);
+    }
+
+    @AfterEach
+    void encerrar() {
+        this.importacaoUsuarios.encerrar();
+    }
+
+    @Test
+    @DisplayName("Deve gravar individualmente as linhas do lote quando outro cadastro conflitar durante a importação")
+    void dadoConflitoNoLoteQuandoImportoUsuariosEntaoRejeitarSomenteLinhasConflitantes() throws IOException {
+        String corpo = String.join("\n",
+                "{\"nome\":\"Maria\",\"sobrenome\":\"Souza\",\"cpf\":\"90000000001\",\"admin\":false,\"autenticacaoDto\":{\"email\":\"maria.importada@example.com\",\"senha\":\"senha1234\"}}",
+                "{\"nome\":\"Ana\",\"sobrenome\":\"Lima\",\"cpf\":\"90000000002\",\"admin\":false,\"autenticacaoDto\":{\"email\":\"ana.importada@example.com\",\"senha\":\"senha1234\"}}");
+        List<EventoImportacaoDto> eventos = new ArrayList<>();
+
+        when(this.usuarioMapper.toUsuario(any(CriarUsuarioDto.class)))
+                .thenAnswer(invocacao -> UsuarioFixture.gerarUsuarioAtravesDoDto(invocacao.getArgument(0)));
+        when(this.codificadorDeSenha.codificarNaThreadAtual("senha1234")).thenReturn("hash");
+        doThrow(new DataIntegrityViolationException("cpf duplicado"))
+                .doNothing()
+                .doThrow(new DataIntegrityViolationException("cpf duplicado"))
+                .when(this.usuarioLoteRepository).inserir(any());
+
+        this.importacaoUsuarios.importar(new ByteArrayInputStream(corpo.getBytes(StandardCharsets.UTF_8)),
+                FormatoImportacao.NDJSON, eventos::add);
+
+        assertEquals(List.of(
+                new ErroImportacaoDto(2, "Cpf ou email cadastrado durante a importação."),
+                new ProgressoImportacaoDto(2, 1, 1, true)), eventos);
+        verify(this.usuarioLoteRepository, times(3)).inserir(any());
+        verify(this.cacheEntidades).invalidarConsultasDeUsuario();
+    }
+
+    @Test
+    @DisplayName("Deve ler campos CSV entre aspas contendo vírgulas e aspas")
+    void dadoCsvComCamposEntreAspasQuandoImportoUsuariosEntaoManterConteudoDosCampos() throws IOException {
+        String corpo = String.join("\n",
+                "nome,sobrenome,cpf,email,senha,admin",
+                "\"Maria, a Primeira\",Souza,90000000001,maria.importada@example.com,\"senha,12\"\"34\",false",
+                "",
+                "Ana,\"Lima\",90000000002,ana.importada@example.com,senha1234,true");
+        List<CriarUsuarioDto> dtos = new ArrayList<>();
+        List<EventoImportacaoDto> eventos = new ArrayList<>();
+
+        when(this.usuarioMapper.toUsuario(any(CriarUsuarioDto.class))).thenAnswer(invocacao -> {
+            dtos.add(invocacao.getArgument(0));
+            return UsuarioFixture.gerarUsuarioAtravesDoDto(invocacao.getArgument(0));
+        });
+        when(this.codificadorDeSenha.codificarNaThreadAtual(any())).thenReturn("hash");
+
+        this.importacaoUsuarios.importar(new ByteArrayInputStream(corpo.getBytes(StandardCharsets.UTF_8)),
+                FormatoImportacao.CSV, eventos::add);
+
+        assertEquals(List.of(new ProgressoImportacaoDto(2, 2, 0, true)), eventos);
+        assertEquals("Maria, a Primeira", dtos.get(0).nome());
+        assertEquals("senha,12\"34", dtos.get(0).autenticacaoDto().senha());
+        assertEquals("Lima", dtos.get(1).sobrenome());
+        assertTrue(dtos.get(1).admin());
+        verify(this.usuarioLoteRepository).inserir(any());
+    }
+}
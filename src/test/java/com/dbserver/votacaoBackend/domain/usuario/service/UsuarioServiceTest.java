@@ -29,6 +29,7 @@ import com.dbserver.votacaoBackend.domain.autenticacao.Autenticacao;
 import com.dbserver.votacaoBackend.domain.autenticacao.dto.AutenticacaoDto;
 import com.dbserver.votacaoBackend.domain.autenticacao.repository.AutenticacaoRepository;
 import com.dbserver.votacaoBackend.domain.autenticacao.service.AutenticacaoServiceImpl;
+import com.dbserver.votacaoBackend.domain.usuario.Cpf;
 import com.dbserver.votacaoBackend.domain.usuario.Usuario;
 import com.dbserver.votacaoBackend.domain.usuario.dto.CriarUsuarioDto;
 import com.dbserver.votacaoBackend.domain.usuario.dto.VerificarSeUsuarioExisteRespostaDto;
@@ -39,6 +40,7 @@ import com.dbserver.votacaoBackend.fixture.autenticacao.AutenticacaoFixture;
 import com.dbserver.votacaoBackend.fixture.usuario.CriarUsuarioDtoFixture;
 import com.dbserver.votacaoBackend.fixture.usuario.UsuarioFixture;
 import com.dbserver.votacaoBackend.fixture.usuario.VerificarSeUsuarioExisteRespostaDtoFixture;
+import com.dbserver.votacaoBackend.infra.cache.CacheEntidades;
 
 @SpringBootTest
 @ExtendWith(MockitoExtension.class)
@@ -62,6 +64,8 @@ class UsuarioServiceTest {
     private Authentication securityAuthenticationMock;
     @Mock
     private UsuarioMapper usuarioMapper;
+    @Mock
+    private CacheEntidades cacheEntidades;
 
     private Usuario usuarioMock;
     private Autenticacao autenticacaoMock;
@@ -87,12 +91,13 @@ class UsuarioServiceTest {
                 .thenReturn(AutenticacaoFixture.SENHA_ENCRIPTADA);
         when(this.autenticacaoService.verificarEmailJaEstaCadastrado(this.autenticacaoDtoMock.email()))
                 .thenReturn(false);
-        when(this.usuarioRepository.findByCpf(this.criarUsuarioDtoMock.cpf())).thenReturn(Optional.empty());
+        when(this.usuarioRepository.findByCpf(Cpf.de(this.criarUsuarioDtoMock.cpf()))).thenReturn(Optional.empty());
         this.usuarioService.criarUsuario(this.criarUsuarioDtoMock);
 
         verify(this.usuarioRepository, times(1)).save(this.usuarioMock);
         verify(this.autenticacaoService, times(1)).criarAutenticacao(this.autenticacaoMock, this.usuarioMock);
         verify(this.usuarioMapper).toCriarUsuarioRespostaDto(this.usuarioMock, this.autenticacaoMock);
+        verify(this.cacheEntidades).invalidarConsultasDeUsuario();
     }
 
     @Test
@@ -163,7 +168,7 @@ class UsuarioServiceTest {
     void dadoTenhoUmCpfExistenteQuandoTentoVerificarSeExisteUsuarioPorCpfEntaoRetornarTrue() {
         when(this.usuarioRepository.findByCpf(this.usuarioMock.getCpf())).thenReturn(Optional.of(this.usuarioMock));
 
-        boolean resposta = this.usuarioService.verificarSeExisteUsuarioPorCpf(this.usuarioMock.getCpf());
+        boolean resposta = this.usuarioService.verificarSeExisteUsuarioPorCpf(this.usuarioMock.getCpf().toString());
 
         assertTrue(resposta);
     }
@@ -171,7 +176,7 @@ class UsuarioServiceTest {
     @Test
     @DisplayName("Deve retornar VerificarSeUsuarioExisteRespostaDto ao verificar se existe usuário ao passar cpf inexistente")
     void dadoTenhoUmCpfInexistenteQuandoTentoVerificarSeExisteUsuarioPorCpfComoDtoEntaoRetornarFalse() {
-        when(this.usuarioRepository.findByCpf(UsuarioFixture.CPF_ALEATORIO)).thenReturn(Optional.empty());
+        when(this.usuarioRepository.findByCpf(Cpf.de(UsuarioFixture.CPF_ALEATORIO))).thenReturn(Optional.empty());
         VerificarSeUsuarioExisteRespostaDto dto = VerificarSeUsuarioExisteRespostaDtoFixture
                 .gerarVerificarSeUsuarioExisteRespostaDtoFalse();
         when(usuarioMapper.toVerificarSeUsuarioExisteRespostaDto(false)).thenReturn(dto);
@@ -184,7 +189,7 @@ class UsuarioServiceTest {
     @Test
     @DisplayName("Deve retornar true ao verificar se existe usuário como dto ao passar cpf existente")
     void dadoTenhoUmCpfExistenteQuandoTentoVerificarSeExisteUsuarioPorCpfComoDtoEntaoRetornarTrue() {
-        when(this.usuarioRepository.findByCpf(UsuarioFixture.CPF_ALEATORIO)).thenReturn(Optional.of(this.usuarioMock));
+        when(this.usuarioRepository.findByCpf(Cpf.de(UsuarioFixture.CPF_ALEATORIO))).thenReturn(Optional.of(this.usuarioMock));
         VerificarSeUsuarioExisteRespostaDto dto = VerificarSeUsuarioExisteRespostaDtoFixture
                 .gerarVerificarSeUsuarioExisteRespostaDtoTrue();
         when(usuarioMapper.toVerificarSeUsuarioExisteRespostaDto(true)).thenReturn(dto);
@@ -197,7 +202,7 @@ class UsuarioServiceTest {
     @Test
     @DisplayName("Deve retornar false ao verificar se existe usuário ao passar cpf inexistente")
     void dadoTenhoUmCpfInexistenteQuandoTentoVerificarSeExisteUsuarioPorCpfEntaoRetornarFalse() {
-        when(this.usuarioRepository.findByCpf(UsuarioFixture.CPF_ALEATORIO)).thenReturn(Optional.empty());
+        when(this.usuarioRepository.findByCpf(Cpf.de(UsuarioFixture.CPF_ALEATORIO))).thenReturn(Optional.empty());
 
         boolean resposta = this.usuarioService.verificarSeExisteUsuarioPorCpf(UsuarioFixture.CPF_ALEATORIO);
 
@@ -207,7 +212,7 @@ class UsuarioServiceTest {
     @Test
     @DisplayName("Deve retornar usuário ao buscar usuario com cpf existete")
     void dadoTenhoUmCpfExistenteQuandoTentoBuscarUsuarioPorCpfEntaoRetornarUsuario() {
-        when(this.usuarioRepository.findByCpf(UsuarioFixture.CPF_ALEATORIO)).thenReturn(Optional.of(this.usuarioMock));
+        when(this.usuarioRepository.findByCpf(Cpf.de(UsuarioFixture.CPF_ALEATORIO))).thenReturn(Optional.of(this.usuarioMock));
 
         Usuario resposta = this.usuarioService.buscarUsuarioPorCpfSeHouver(UsuarioFixture.CPF_ALEATORIO);
 
@@ -217,7 +222,7 @@ class UsuarioServiceTest {
     @Test
     @DisplayName("Deve retornar null ao buscar usuario com cpf inexistente")
     void dadoTenhoUmCpfInexistenteQuandoTentoBuscarUsuarioPorCpfEntaoRetornarNull() {
-        when(this.usuarioRepository.findByCpf(UsuarioFixture.CPF_ALEATORIO)).thenReturn(Optional.empty());
+        when(this.usuarioRepository.findByCpf(Cpf.de(UsuarioFixture.CPF_ALEATORIO))).thenReturn(Optional.empty());
 
         Usuario resposta = this.usuarioService.buscarUsuarioPorCpfSeHouver(UsuarioFixture.CPF_ALEATORIO);
 
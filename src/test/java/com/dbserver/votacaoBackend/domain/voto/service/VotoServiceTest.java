@@ -0,0 +1,152 @@
+package com.dbserver.votacaoBackend.domain.voto.service;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.SessaoVotacao;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.repository.SessaoVotacaoRepository;
+import com.dbserver.votacaoBackend.domain.voto.Voto;
+import com.dbserver.votacaoBackend.domain.voto.repository.VotoRepository;
+import com.dbserver.votacaoBackend.fixture.pauta.PautaFixture;
+import com.dbserver.votacaoBackend.fixture.sessaoVotacao.SessaoVotacaoFixture;
+import com.dbserver.votacaoBackend.fixture.usuario.UsuarioFixture;
+import com.dbserver.votacaoBackend.fixture.voto.VotoFixture;
+
+@SpringBootTest
+@ExtendWith(MockitoExtension.class)
+class VotoServiceTest {
+
+    @InjectMocks
+    private VotoServiceImpl votoService;
+
+    @Mock
+    private VotoRepository votoRepository;
+
+    @Mock
+    private SessaoVotacaoRepository sessaoVotacaoRepository;
+
+    private SessaoVotacao sessaoVotacaoMock;
+
+    private Voto votoMock;
+
+    @BeforeEach
+    void configurar() {
+        this.sessaoVotacaoMock = SessaoVotacaoFixture
+                .sessaoVotacaoAtiva(PautaFixture.pautaTransporte(UsuarioFixture.usuarioAdmin()));
+        this.votoMock = VotoFixture.gerarVotoInterno(UsuarioFixture.usuarioNaoAdmin());
+    }
+
+    @Test
+    @DisplayName("Deve ser possível registrar voto positivo incrementando o contador da sessão")
+    void dadoPossuoVotoPositivoQuandoTentoRegistrarVotoEntaoIncrementarVotosPositivos() {
+        this.sessaoVotacaoMock.setVotosPositivos(this.votoMock);
+        when(this.sessaoVotacaoRepository.incrementarVotos(this.sessaoVotacaoMock.getId(), 1, 0)).thenReturn(1);
+
+        this.votoService.registrarVoto(this.votoMock);
+
+        verify(this.votoRepository).saveAndFlush(this.votoMock);
+        verify(this.sessaoVotacaoRepository).incrementarVotos(this.sessaoVotacaoMock.getId(), 1, 0);
+    }
+
+    @Test
+    @DisplayName("Deve ser possível registrar voto negativo incrementando o contador da sessão")
+    void dadoPossuoVotoNegativoQuandoTentoRegistrarVotoEntaoIncrementarVotosNegativos() {
+        this.sessaoVotacaoMock.setVotosNegativos(this.votoMock);
+        when(this.sessaoVotacaoRepository.incrementarVotos(this.sessaoVotacaoMock.getId(), 0, 1)).thenReturn(1);
+
+        this.votoService.registrarVoto(this.votoMock);
+
+        verify(this.votoRepository).saveAndFlush(this.votoMock);
+        verify(this.sessaoVotacaoRepository).incrementarVotos(this.sessaoVotacaoMock.getId(), 0, 1);
+    }
+
+    @Test
+    @DisplayName("Deve retornar erro ao registrar voto em sessão cujo resultado já foi calculado")
+    void dadoPossuoSessaoEncerradaQuandoTentoRegistrarVotoEntaoRetornarErro() {
+        this.sessaoVotacaoMock.setVotosPositivos(this.votoMock);
+        when(this.sessaoVotacaoRepository.incrementarVotos(this.sessaoVotacaoMock.getId(), 1, 0)).thenReturn(0);
+
+        assertThrows(IllegalStateException.class, () -> this.votoService.registrarVoto(this.votoMock));
+    }
+
+    @Test
+    @DisplayName("Deve retornar erro ao registrar voto repetido na mesma sessão")
+    void dadoPossuoVotoRepetidoQuandoTentoRegistrarVotoEntaoRetornarErro() {
+        this.sessaoVotacaoMock.setVotosPositivos(this.votoMock);
+        when(this.votoRepository.saveAndFlush(any(Voto.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_voto_sessao_votacao_cpf"));
+
+        assertThrows(IllegalStateException.class, () -> this.votoService.registrarVoto(this.votoMock));
+        verify(this.sessaoVotacaoRepository, never()).incrementarVotos(anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve repassar violação de integridade que não seja de voto repetido")
+    void dadoPossuoViolacaoDeOutraRestricaoQuandoTentoRegistrarVotoEntaoRepassarErro() {
+        this.sessaoVotacaoMock.setVotosPositivos(this.votoMock);
+        DataIntegrityViolationException violacao = new DataIntegrityViolationException("fk_voto_sessao_votacao");
+        when(this.votoRepository.saveAndFlush(any(Voto.class))).thenThrow(violacao);
+
+        assertSame(violacao, assertThrows(DataIntegrityViolationException.class,
+                () -> this.votoService.registrarVoto(this.votoMock)));
+        verify(this.sessaoVotacaoRepository, never()).incrementarVotos(anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve retornar erro ao registrar voto nulo")
+    void dadoPossuoVotoNuloQuandoTentoRegistrarVotoEntaoRetornarErro() {
+        assertThrows(IllegalArgumentException.class, () -> this.votoService.registrarVoto(null));
+    }
+
+    @Test
+    @DisplayName("Deve ser possível registrar lote de votos incrementando o contador da sessão uma única vez")
+    void dadoPossuoLoteDeVotosQuandoTentoRegistrarVotosEntaoIncrementarContadoresDaSessao() {
+        SessaoVotacao sessaoVotacao = SessaoVotacao.builder()
+                .id(1L)
+                .pauta(this.sessaoVotacaoMock.getPauta())
+                .dataAbertura(LocalDateTime.now())
+                .dataFechamento(LocalDateTime.now().plusMinutes(5))
+                .build();
+        Voto outroVoto = VotoFixture.gerarVotoExterno(UsuarioFixture.CPF_ALEATORIO, null);
+        sessaoVotacao.setVotosPositivos(this.votoMock);
+        sessaoVotacao.setVotosNegativos(outroVoto);
+        List<Voto> votos = List.of(this.votoMock, outroVoto);
+        when(this.sessaoVotacaoRepository.incrementarVotos(1L, 1, 1)).thenReturn(1);
+
+        this.votoService.registrarVotos(votos);
+
+        verify(this.votoRepository).saveAllAndFlush(votos);
+        verify(this.sessaoVotacaoRepository).incrementarVotos(1L, 1, 1);
+    }
+
+    @Test
+    @DisplayName("Deve retornar erro ao registrar lote com voto repetido")
+    void dadoPossuoLoteComVotoRepetidoQuandoTentoRegistrarVotosEntaoRetornarErro() {
+        this.sessaoVotacaoMock.setVotosPositivos(this.votoMock);
+        List<Voto> votos = List.of(this.votoMock);
+        when(this.votoRepository.saveAllAndFlush(votos))
+                .thenThrow(new DataIntegrityViolationException("uk_voto_sessao_votacao_cpf"));
+
+        assertThrows(IllegalStateException.class, () -> this.votoService.registrarVotos(votos));
+        verify(this.sessaoVotacaoRepository, never()).incrementarVotos(anyLong(), anyInt(), anyInt());
+    }
+}
@@ -10,4 +10,8 @@ public class InserirVotoExternoDtoFixture {
         return new InserirVotoExternoDto(1L, TipoDeVotoEnum.VOTO_POSITIVO,
                 UsuarioFixture.CPF_ALEATORIO, AutenticacaoFixture.SENHA_ALEATORIA);
     }
+
+    public static InserirVotoExternoDto inserirVotoExternoDto(Long pautaId, String cpf, TipoDeVotoEnum tipoDeVoto) {
+        return new InserirVotoExternoDto(pautaId, tipoDeVoto, cpf, null);
+    }
 }
@@ -2,6 +2,7 @@ package com.dbserver.votacaoBackend.fixture.usuario;
 
 import java.util.Locale;
 
+import com.dbserver.votacaoBackend.domain.usuario.Cpf;
 import com.dbserver.votacaoBackend.domain.usuario.Usuario;
 import com.dbserver.votacaoBackend.domain.usuario.dto.CriarUsuarioDto;
 
@@ -21,7 +22,7 @@ public class UsuarioFixture {
     public static Usuario usuarioAdmin() {
         return Usuario.builder().nome(faker.name().firstName())
         .sobrenome(faker.name().lastName())
-        .cpf(CPF_ADMIN)
+        .cpf(Cpf.de(CPF_ADMIN))
         .admin(true)
         .build();
     }
@@ -29,7 +30,7 @@ public class UsuarioFixture {
     public static Usuario usuarioNaoAdmin() {
         return Usuario.builder().nome(faker.name().firstName())
         .sobrenome(faker.name().lastName())
-        .cpf(CPF_USUARIO)
+        .cpf(Cpf.de(CPF_USUARIO))
         .admin(false)
         .build();
     }
@@ -37,7 +38,7 @@ public class UsuarioFixture {
     public static Usuario gerarUsuarioAtravesDoDto(CriarUsuarioDto dto) {
         return Usuario.builder().nome(dto.nome())
         .sobrenome(dto.sobrenome())
-        .cpf(dto.cpf())
+        .cpf(Cpf.de(dto.cpf()))
         .admin(dto.admin())
         .build();
     }
@@ -1,5 +1,6 @@
 package com.dbserver.votacaoBackend.fixture.voto;
 
+import com.dbserver.votacaoBackend.domain.usuario.Cpf;
 import com.dbserver.votacaoBackend.domain.usuario.Usuario;
 import com.dbserver.votacaoBackend.domain.voto.Voto;
 
@@ -12,6 +13,10 @@ public class VotoFixture {
     }
 
     public static Voto gerarVotoExterno(String cpf, Usuario usuario) {
+        return gerarVotoExterno(Cpf.de(cpf), usuario);
+    }
+
+    public static Voto gerarVotoExterno(Cpf cpf, Usuario usuario) {
         return Voto.builder()
                 .cpf(cpf)
                 .usuario(usuario)
@@ -0,0 +1,204 @@
+package com.dbserver.votacaoBackend.repository;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.dbserver.votacaoBackend.domain.pauta.enums.Categoria;
+import com.dbserver.votacaoBackend.domain.pauta.repository.PautaRepository;
+import com.dbserver.votacaoBackend.domain.sessaoVotacao.repository.SessaoVotacaoRepository;
+import com.dbserver.votacaoBackend.domain.usuario.Cpf;
+import com.dbserver.votacaoBackend.domain.voto.repository.VotoRepository;
+import com.dbserver.votacaoBackend.testUtils.RegistroConsultasSql;
+import com.dbserver.votacaoBackend.testUtils.RegistroConsultasSql.ConsultaSql;
+
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "api.security.token.senha=plano-consultas",
+        "api.security.limite.habilitado=false" })
+@Import(RegistroConsultasSql.class)
+@TestInstance(Lifecycle.PER_CLASS)
+class PlanoConsultasTest {
+    private static final LocalDateTime AGORA = LocalDateTime.now();
+    private static final PageRequest PAGINA = PageRequest.ofSize(20);
+    private static final Cpf CPF = new Cpf(90000000042L);
+    private static final List<String> TABELAS_GRANDES = List.of("pauta", "sessao_votacao", "voto");
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private PautaRepository pautaRepository;
+    private SessaoVotacaoRepository sessaoVotacaoRepository;
+    private VotoRepository votoRepository;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private Long usuarioId;
+    private Long pautaId;
+    private Long sessaoVotacaoId;
+
+    @DynamicPropertySource
+    static void configurarBanco(DynamicPropertyRegistry propriedades) {
+        propriedades.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        propriedades.add("spring.datasource.username", POSTGRES::getUsername);
+        propriedades.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    public PlanoConsultasTest(PautaRepository pautaRepository, SessaoVotacaoRepository sessaoVotacaoRepository,
+            VotoRepository votoRepository, JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.pautaRepository = pautaRepository;
+        this.sessaoVotacaoRepository = sessaoVotacaoRepository;
+        this.votoRepository = votoRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @BeforeAll
+    void popularBanco() {
+        this.jdbcTemplate.update("INSERT INTO usuario (nome, sobrenome, cpf, admin) "
+                + "SELECT 'Usuario', 'Plano', 90000000000 + x, FALSE FROM generate_series(1, 1000) x");
+        this.jdbcTemplate.update("INSERT INTO pauta (assunto, categoria, usuario_id, created_at) "
+                + "SELECT 'Pauta ' || x, CASE x % 3 WHEN 0 THEN 'TRANSPORTE' WHEN 1 THEN 'SAUDE' ELSE 'EDUCACAO' END, "
+                + "(SELECT MIN(id) FROM usuario WHERE sobrenome = 'Plano') + x % 1000, "
+                + "CURRENT_TIMESTAMP - x * INTERVAL '1 minute' FROM generate_series(1, 100000) x");
+        this.jdbcTemplate.update("INSERT INTO sessao_votacao (pauta_id, data_abertura, data_fechamento, "
+                + "quantidade_votos_positivos, quantidade_votos_negativos, status, versao) "
+                + "SELECT id, created_at, CASE WHEN created_at > CURRENT_TIMESTAMP - INTERVAL '100 minutes' "
+                + "THEN CURRENT_TIMESTAMP + INTERVAL '1 hour' ELSE created_at + INTERVAL '1 minute' END, 0, 0, "
+                + "CASE WHEN created_at > CURRENT_TIMESTAMP - INTERVAL '100 minutes' THEN NULL ELSE 'APROVADA' END, 0 "
+                + "FROM pauta ORDER BY id");
+        this.jdbcTemplate.update("INSERT INTO voto (id, cpf, sessao_votacao_id, tipo_de_voto) "
+                + "SELECT nextval('voto_id_seq'), 90000000000 + x, (SELECT MIN(id) FROM sessao_votacao) + x % 100000, "
+                + "'VOTO_POSITIVO' FROM generate_series(1, 200000) x");
+        this.jdbcTemplate.execute("ANALYZE");
+
+        this.usuarioId = this.jdbcTemplate.queryForObject("SELECT MIN(id) FROM usuario WHERE sobrenome = 'Plano'", Long.class);
+        this.sessaoVotacaoId = this.jdbcTemplate.queryForObject("SELECT MIN(id) FROM sessao_votacao WHERE status IS NULL", Long.class);
+        this.pautaId = this.jdbcTemplate.queryForObject("SELECT pauta_id FROM sessao_votacao WHERE id = ?", Long.class,
+                this.sessaoVotacaoId);
+    }
+
+    @BeforeEach
+    void configurar() {
+        RegistroConsultasSql.limpar();
+    }
+
+    private static Stream<Arguments> consultas() {
+        return Stream.of(
+                Arguments.of("PautaRepository.findPaginaByUsuarioId", (Consulta) teste -> teste.pautaRepository
+                        .findPaginaByUsuarioId(teste.usuarioId, AGORA, Long.MAX_VALUE, PAGINA)),
+                Arguments.of("PautaRepository.findPaginaByUsuarioIdAndCategoria", (Consulta) teste -> teste.pautaRepository
+                        .findPaginaByUsuarioIdAndCategoria(teste.usuarioId, Categoria.SAUDE, AGORA, Long.MAX_VALUE, PAGINA)),
+                Arguments.of("PautaRepository.streamAllByUsuarioId", (Consulta) teste -> teste.pautaRepository
+                        .streamAllByUsuarioId(teste.usuarioId)),
+                Arguments.of("PautaRepository.streamAllByUsuarioIdAndCategoria", (Consulta) teste -> teste.pautaRepository
+                        .streamAllByUsuarioIdAndCategoria(teste.usuarioId, Categoria.SAUDE)),
+                Arguments.of("PautaRepository.findByIdAndUsuarioId", (Consulta) teste -> teste.pautaRepository
+                        .findByIdAndUsuarioId(teste.pautaId, teste.usuarioId)),
+                Arguments.of("PautaRepository.findPaginaBySessaoVotacaoAtiva", (Consulta) teste -> teste.pautaRepository
+                        .findPaginaBySessaoVotacaoAtiva(AGORA, AGORA.plusYears(1), Long.MAX_VALUE, PAGINA)),
+                Arguments.of("PautaRepository.findPaginaByCategoriaAndSessaoVotacaoAtiva", (Consulta) teste -> teste.pautaRepository
+                        .findPaginaByCategoriaAndSessaoVotacaoAtiva(Categoria.SAUDE, AGORA, AGORA.plusYears(1), Long.MAX_VALUE, PAGINA)),
+                Arguments.of("PautaRepository.streamAllBySessaoVotacaoAtiva", (Consulta) teste -> teste.pautaRepository
+                        .streamAllBySessaoVotacaoAtiva(AGORA)),
+                Arguments.of("PautaRepository.streamAllByCategoriaAndSessaoVotacaoAtiva", (Consulta) teste -> teste.pautaRepository
+                        .streamAllByCategoriaAndSessaoVotacaoAtiva(Categoria.SAUDE, AGORA)),
+                Arguments.of("PautaRepository.findByIdAndSessaoVotacaoAtiva", (Consulta) teste -> teste.pautaRepository
+                        .findByIdAndSessaoVotacaoAtiva(teste.pautaId, AGORA)),
+                Arguments.of("PautaRepository.findByIdAndUsuarioIdAndSessaoVotacaoNotNull", (Consulta) teste -> teste.pautaRepository
+                        .findByIdAndUsuarioIdAndSessaoVotacaoNotNull(teste.pautaId, teste.usuarioId)),
+                Arguments.of("PautaRepository.findByIdAndSessaoVotacaoNotNull", (Consulta) teste -> teste.pautaRepository
+                        .findByIdAndSessaoVotacaoNotNull(teste.pautaId)),
+                Arguments.of("PautaRepository.findVersaoSessaoAtivaById", (Consulta) teste -> teste.pautaRepository
+                        .findVersaoSessaoAtivaById(teste.pautaId, AGORA)),
+                Arguments.of("PautaRepository.findVersaoSessaoByIdAndUsuarioId", (Consulta) teste -> teste.pautaRepository
+                        .findVersaoSessaoByIdAndUsuarioId(teste.pautaId, teste.usuarioId)),
+                Arguments.of("PautaRepository.findVersaoPautasAtivas", (Consulta) teste -> teste.pautaRepository
+                        .findVersaoPautasAtivas(AGORA)),
+                Arguments.of("SessaoVotacaoRepository.findByPautaIdAndSessaoVotacaoAtiva", (Consulta) teste -> teste.sessaoVotacaoRepository
+                        .findByPautaIdAndSessaoVotacaoAtiva(teste.pautaId, AGORA)),
+                Arguments.of("SessaoVotacaoRepository.findSessaoAtivaByPautaId", (Consulta) teste -> teste.sessaoVotacaoRepository
+                        .findSessaoAtivaByPautaId(teste.pautaId, AGORA)),
+                Arguments.of("SessaoVotacaoRepository.findAllSessoesAtivas", (Consulta) teste -> teste.sessaoVotacaoRepository
+                        .findAllSessoesAtivas(AGORA)),
+                Arguments.of("SessaoVotacaoRepository.incrementarVotos", (Consulta) teste -> teste.sessaoVotacaoRepository
+                        .incrementarVotos(teste.sessaoVotacaoId, 1, 0)),
+                Arguments.of("SessaoVotacaoRepository.encerrarSessoes", (Consulta) teste -> teste.sessaoVotacaoRepository
+                        .encerrarSessoes(AGORA)),
+                Arguments.of("SessaoVotacaoRepository.encerrarSessao", (Consulta) teste -> teste.sessaoVotacaoRepository
+                        .encerrarSessao(teste.sessaoVotacaoId, AGORA)),
+                Arguments.of("VotoRepository.existsBySessaoVotacaoIdAndCpf", (Consulta) teste -> teste.votoRepository
+                        .existsBySessaoVotacaoIdAndCpf(teste.sessaoVotacaoId, CPF)),
+                Arguments.of("VotoRepository.findCpfsQueVotaram", (Consulta) teste -> teste.votoRepository
+                        .findCpfsQueVotaram(teste.sessaoVotacaoId, List.of(CPF, new Cpf(90000000043L)))));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("consultas")
+    void dadoPossuoBaseComDadosQuandoExplicoConsultaDoRepositorioEntaoNaoRealizarVarreduraCompleta(String nome,
+            Consulta consulta) {
+        this.transactionTemplate.executeWithoutResult(status -> {
+            Object resultado = consulta.executar(this);
+            if (resultado instanceof Stream<?> stream)
+                stream.forEach(item -> {
+                });
+            status.setRollbackOnly();
+        });
+
+        List<ConsultaSql> consultasSql = RegistroConsultasSql.obterConsultas().stream()
+                .filter(consultaSql -> consultaSql.sql().startsWith("select") || consultaSql.sql().startsWith("update"))
+                .toList();
+        assertFalse(consultasSql.isEmpty(), nome + " não executou nenhuma consulta.");
+
+        for (ConsultaSql consultaSql : consultasSql) {
+            String plano = this.explicar(consultaSql);
+            for (String tabela : TABELAS_GRANDES)
+                assertFalse(plano.contains("Seq Scan on " + tabela + " "),
+                        nome + " realiza varredura completa em " + tabela + ":\n" + plano);
+        }
+    }
+
+    private String explicar(ConsultaSql consultaSql) {
+        return this.jdbcTemplate.execute("EXPLAIN " + consultaSql.sql(), (PreparedStatement explain) -> {
+            List<Object> parametros = consultaSql.parametros();
+            for (int indice = 0; indice < parametros.size(); indice++)
+                explain.setObject(indice + 1, parametros.get(indice));
+
+            StringBuilder plano = new StringBuilder();
+            try (ResultSet linhas = explain.executeQuery()) {
+                while (linhas.next())
+                    plano.append(linhas.getString(1)).append('\n');
+            }
+            return plano.toString();
+        });
+    }
+
+    @FunctionalInterface
+    private interface Consulta {
+        Object executar(PlanoConsultasTest teste);
+    }
+}
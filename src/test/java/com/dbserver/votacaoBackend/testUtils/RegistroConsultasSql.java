@@ -0,0 +1,99 @@
+package com.dbserver.votacaoBackend.testUtils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+public class RegistroConsultasSql implements BeanPostProcessor {
+    private static final List<ConsultaSql> CONSULTAS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof DataSourceRegistrado))
+            return new DataSourceRegistrado(dataSource);
+
+        return bean;
+    }
+
+    public static void limpar() {
+        CONSULTAS.clear();
+    }
+
+    public static List<ConsultaSql> obterConsultas() {
+        return List.copyOf(CONSULTAS);
+    }
+
+    public record ConsultaSql(String sql, List<Object> parametros) {
+    }
+
+    private static class DataSourceRegistrado extends DelegatingDataSource {
+
+        private DataSourceRegistrado(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return registrar(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String usuario, String senha) throws SQLException {
+            return registrar(super.getConnection(usuario, senha));
+        }
+    }
+
+    private static Connection registrar(Connection conexao) {
+        return criarProxy(Connection.class, (proxy, metodo, argumentos) -> {
+            Object resultado = invocar(conexao, metodo, argumentos);
+            if (metodo.getName().equals("prepareStatement") && resultado instanceof PreparedStatement statement)
+                return registrar(statement, (String) argumentos[0]);
+
+            return resultado;
+        });
+    }
+
+    private static PreparedStatement registrar(PreparedStatement statement, String sql) {
+        Map<Integer, Object> parametros = new TreeMap<>();
+
+        return criarProxy(PreparedStatement.class, (proxy, metodo, argumentos) -> {
+            String nome = metodo.getName();
+            if (nome.startsWith("set") && argumentos != null && argumentos.length >= 2
+                    && argumentos[0] instanceof Integer indice)
+                parametros.put(indice, nome.equals("setNull") ? null : argumentos[1]);
+            else if (nome.equals("clearParameters"))
+                parametros.clear();
+            else if (nome.startsWith("execute") && (argumentos == null || argumentos.length == 0))
+                CONSULTAS.add(new ConsultaSql(sql, new ArrayList<>(parametros.values())));
+
+            return invocar(statement, metodo, argumentos);
+        });
+    }
+
+    private static <T> T criarProxy(Class<T> tipo, InvocationHandler handler) {
+        return tipo.cast(Proxy.newProxyInstance(RegistroConsultasSql.class.getClassLoader(), new Class<?>[] { tipo },
+                handler));
+    }
+
+    private static Object invocar(Object alvo, Method metodo, Object[] argumentos) throws Throwable {
+        try {
+            return metodo.invoke(alvo, argumentos);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.dbserver.votacaoBackend.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ValidadorFormatoTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = { "12345678901", " 12345678901 ", "1234567890", "123456789012", "12345adc910", "",
+            " ", "1234567890١" })
+    @DisplayName("Deve validar cpf da mesma forma que a expressão regular")
+    void dadoCpfQuandoValidoFormatoEntaoRetornarMesmoResultadoDaRegex(String cpf) {
+        boolean esperado = Pattern.matches(Utils.REGEX_CPF, cpf.trim());
+
+        assertEquals(esperado, ValidadorFormato.isCpfValido(cpf));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "admin@email.com", " admin@email.com ", "a.b_c%d+e-f@sub.dominio.com.br",
+            "invalidemail.com", "@email.com", "admin@", "admin@.com", "admin@email.c", "admin@email.c0m",
+            "admin@@email.com", "admin@email", "admin@email.com.", "ad min@email.com", "admin@e.co", "" })
+    @DisplayName("Deve validar email da mesma forma que a expressão regular")
+    void dadoEmailQuandoValidoFormatoEntaoRetornarMesmoResultadoDaRegex(String email) {
+        boolean esperado = Pattern.matches(Utils.REGEX_EMAIL, email.trim());
+
+        assertEquals(esperado, ValidadorFormato.isEmailValido(email));
+    }
+
+    @Test
+    @DisplayName("Deve retornar falso ao validar cpf e email nulos")
+    void dadoValoresNulosQuandoValidoFormatoEntaoRetornarFalso() {
+        assertEquals(false, ValidadorFormato.isCpfValido(null));
+        assertEquals(false, ValidadorFormato.isEmailValido(null));
+    }
+
+    @Test
+    @DisplayName("Deve calcular tamanho ignorando espaços nas bordas")
+    void dadoConteudoComEspacosQuandoCalculoTamanhoEntaoIgnorarEspacosNasBordas() {
+        assertEquals("admin123".length(), ValidadorFormato.tamanhoSemEspacos("  admin123  "));
+        assertEquals(0, ValidadorFormato.tamanhoSemEspacos("   "));
+    }
+}